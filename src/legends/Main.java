@@ -1,10 +1,26 @@
 package legends;
 
+import java.util.Arrays;
+import legends.game.CatalogCompiler;
+import legends.game.CombatBenchmark;
 import legends.game.Game;
+import legends.game.battle.BattleSimulator;
 
 public class Main {
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals(CatalogCompiler.FLAG)) {
+            CatalogCompiler.run(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length > 0 && args[0].equals(CombatBenchmark.FLAG)) {
+            CombatBenchmark.run(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+        if (args.length > 0 && args[0].equals(BattleSimulator.FLAG)) {
+            BattleSimulator.run(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         Game game = new Game();
         game.startNewGame();
     }
-}
\ No newline at end of file
+}
@@ -8,4 +8,23 @@ public interface Combatant {
     double getHp();
     int getLevel();
     boolean isDefeated();
+
+    /**
+     * @return position of this combatant in the list an {@link legends.utilities.AliveSet} tracks
+     *         it in, or -1 if no set has tracked it
+     */
+    int getBattleIndex();
+
+    /**
+     * Bookkeeping for {@link legends.utilities.AliveSet} only; nothing else may call it.
+     * <p>
+     * A combatant holds one battle index, so it belongs to one alive set at a time, the one that
+     * reset with it last (sets whose lists hold it at the same position share it harmlessly).
+     * Tracking a combatant in two battles at once at different positions breaks that rule, and the
+     * set that lost it throws on its next {@link legends.utilities.AliveSet#update update} instead
+     * of reporting a wrong death.
+     *
+     * @param index position of this combatant in the tracking set's list
+     */
+    void setBattleIndex(int index);
 }
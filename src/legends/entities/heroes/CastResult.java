@@ -0,0 +1,17 @@
+package legends.entities.heroes;
+
+/**
+ * What came of a hero's attempt to cast a spell.
+ */
+public enum CastResult {
+    /** The hero, spell or target could not take part; nothing happened. */
+    NOT_CAST,
+    /** The hero lacked the mana; nothing was spent. */
+    NOT_ENOUGH_MANA,
+    /** The monster dodged; the mana is spent anyway. */
+    DODGED,
+    /** The spell hit, and the monster died or its effect could not be applied. */
+    HIT,
+    /** The spell hit and its effect weakened the surviving monster. */
+    WEAKENED
+}
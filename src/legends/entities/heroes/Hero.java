@@ -8,6 +8,7 @@ import legends.items.Potion;
 import legends.items.Spell;
 import legends.items.Weapon;
 import legends.utilities.Color;
+import legends.utilities.RandomSource;
 
 /**
  * Abstract base class for all hero types in the game.
@@ -33,6 +34,15 @@ public abstract class Hero implements Combatant {
     // true if hero is gripping the equipped weapon with two hands (for bonus on one-hand weapons)
     protected boolean weaponTwoHandedGrip;
 
+    // ----- Derived combat stats, recomputed only after an input changes -----
+    private boolean derivedStale = true;
+    private double attackDamage;
+    private double dodgeChance;
+
+    // ----- Battle bookkeeping -----
+    // position in the combatant list of the current battle, kept by AliveSet
+    private int battleIndex = -1;
+
     /**
      * Constructor for a hero.
      * 
@@ -68,30 +78,50 @@ public abstract class Hero implements Combatant {
         this.weaponTwoHandedGrip = false;
     }
 
+    // ----- Prototype copies -----
+
+    /**
+     * Create a fresh level-1 hero of the same class from this hero's name, mana,
+     * attributes, gold and experience. Inventory and equipment start empty.
+     * 
+     * @return new hero instance
+     */
+    public abstract Hero copy();
+
     // ----- Core combat API -----
 
     /**
      * Basic physical attack using the currently equipped weapon.
+     * 
+     * @param m the monster to attack
+     * @param rand source of the monster's dodge roll
      */
-    public abstract void attack(Monster m);
+    public abstract void attack(Monster m, RandomSource rand);
 
     /**
      * Cast a spell on a monster. Should check mana & inventory.
+     * 
+     * @param s the spell to cast
+     * @param m the monster to cast the spell on
+     * @param rand source of the monster's dodge roll
+     * @return what came of the cast
      */
-    public abstract void castSpell(Spell s, Monster m);
+    public abstract CastResult castSpell(Spell s, Monster m, RandomSource rand);
 
     /**
      * Use a potion from inventory to buff this hero.
+     * 
+     * @return true if the potion took effect; false if there was none or it was already empty,
+     *         in which case it is thrown away
      */
-    public void usePotion(Potion p) {
+    public boolean usePotion(Potion p) {
         if (p == null) {
-            return;
+            return false;
         }
 
         if (!p.isUsable()) {
-            System.out.println("That potion is empty and crumbles to dust.");
             inventory.removePotion(p);
-            return;
+            return false;
         }
 
         p.applyTo(this);
@@ -99,38 +129,39 @@ public abstract class Hero implements Combatant {
             // Remove once it has no uses left
             inventory.removePotion(p);
         }
+        return true;
     }
 
     // ----- Equipment management -----
 
     /**
      * Equip a weapon from inventory.
+     * 
+     * @return true if the weapon is now equipped; false if there was none or it is broken
      */
-    public void equipWeapon(Weapon w) {
-        if (w == null) {
-            return;
-        }
-        if (!w.isUsable()) {
-            System.out.println(w.getName() + " is broken and cannot be equipped until repaired.");
-            return;
+    public boolean equipWeapon(Weapon w) {
+        if (w == null || !w.isUsable()) {
+            return false;
         }
         this.equippedWeapon = w;
         // default grip: two hands if weapon requires two, otherwise one hand until set
         this.weaponTwoHandedGrip = (w.getHandsRequired() == 2);
+        invalidateDerivedStats();
+        return true;
     }
 
     /**
      * Equip an armor from inventory.
+     * 
+     * @return true if the armor is now equipped; false if there was none or it is broken
      */
-    public void equipArmor(Armor a) {
-        if (a == null) {
-            return;
-        }
-        if (!a.isUsable()) {
-            System.out.println(a.getName() + " is broken and cannot be equipped until repaired.");
-            return;
+    public boolean equipArmor(Armor a) {
+        if (a == null || !a.isUsable()) {
+            return false;
         }
         this.equippedArmor = a;
+        invalidateDerivedStats();
+        return true;
     }
 
     /**
@@ -139,13 +170,12 @@ public abstract class Hero implements Combatant {
     public void setWeaponTwoHandedGrip(boolean twoHanded) {
         if (equippedWeapon == null) {
             this.weaponTwoHandedGrip = false;
-            return;
-        }
-        if (equippedWeapon.getHandsRequired() == 2) {
+        } else if (equippedWeapon.getHandsRequired() == 2) {
             this.weaponTwoHandedGrip = true; // forced two hands
         } else {
             this.weaponTwoHandedGrip = twoHanded;
         }
+        invalidateDerivedStats();
     }
 
     public boolean isWeaponTwoHandedGrip() {
@@ -165,7 +195,7 @@ public abstract class Hero implements Combatant {
             if (equippedArmor.getRemainingUses() > 0) {
                 equippedArmor.consumeUse();
                 if (!equippedArmor.isUsable()) {
-                    System.out.println(equippedArmor.getName() + " has broken!");
+                    // the battle reports the breakage
                     equippedArmor = null;
                 }
             }
@@ -193,6 +223,16 @@ public abstract class Hero implements Combatant {
         return isFainted();
     }
 
+    @Override
+    public int getBattleIndex() {
+        return battleIndex;
+    }
+
+    @Override
+    public void setBattleIndex(int index) {
+        this.battleIndex = index;
+    }
+
     /**
       * Revive the hero at half health and mana.
      */
@@ -236,6 +276,8 @@ public abstract class Hero implements Combatant {
         while (experience >= experienceToLevelUp()) {
             experience -= experienceToLevelUp();
             levelUp();
+            // levelUp raises the attributes directly
+            invalidateDerivedStats();
         }
     }
 
@@ -249,7 +291,8 @@ public abstract class Hero implements Combatant {
     }
 
     /**
-     * Level up the hero, increasing stats.
+     * Level up the hero, increasing stats. Callers that want to report it compare
+     * {@link #getLevel()} before and after {@link #gainExperience}.
      */
     protected abstract void levelUp(); 
 
@@ -303,17 +346,72 @@ public abstract class Hero implements Combatant {
      * @return dodge chance as a decimal (e.g., 0.1 for 10%)
      */
     public double getDodgeChance() {
-    // Example rule from spec: dodge = agility * 0.002.
-    // We halve it to make battles feel less dodge-heavy while
-    // preserving the same scaling relationship.
-    double prob = agility * 0.002 * 0.5; // half of the original chance
+        if (derivedStale) {
+            refreshDerivedStats();
+        }
+        return dodgeChance;
+    }
+
+    // ----- Attack damage -----
+
+    /**
+     * Physical attack damage before the monster's defense:
+     * (strength + weapon damage) * 0.05, where a one-handed weapon held
+     * with both hands deals 1.5x its damage.
+     * 
+     * @return raw attack damage
+     */
+    public double getAttackDamage() {
+        if (derivedStale) {
+            refreshDerivedStats();
+        }
+        return attackDamage;
+    }
+
+    /**
+     * Attack damage with no weapon equipped, e.g. after the current one breaks.
+     * 
+     * @return raw attack damage from strength alone
+     */
+    public double getUnarmedAttackDamage() {
+        return attackDamage(strength, 0);
+    }
+
+    private static double attackDamage(double strength, double weaponDamage) {
+        return (strength + weaponDamage) * 0.05;
+    }
+
+    /**
+     * Mark the cached attack damage and dodge chance for recomputation. The setters,
+     * equipment changes and level ups call this; subclasses that change strength,
+     * agility or equipment directly must call it too.
+     */
+    protected final void invalidateDerivedStats() {
+        derivedStale = true;
+    }
+
+    private void refreshDerivedStats() {
+        double weaponDamage = 0;
+        if (equippedWeapon != null) {
+            weaponDamage = equippedWeapon.getDamage();
+            if (equippedWeapon.getHandsRequired() == 1 && weaponTwoHandedGrip) {
+                weaponDamage *= 1.5; // bonus for two-handing a one-handed weapon
+            }
+        }
+        attackDamage = attackDamage(strength, weaponDamage);
+
+        // Example rule from spec: dodge = agility * 0.002.
+        // We halve it to make battles feel less dodge-heavy while
+        // preserving the same scaling relationship.
+        double prob = agility * 0.002 * 0.5; // half of the original chance
         if (prob < 0) {
             prob = 0;
         } else if (prob > 0.5) {
             // cap at 50% so heroes don't become unhittable at high agility
             prob = 0.5;
         }
-        return prob;
+        dodgeChance = prob;
+        derivedStale = false;
     }
 
     // ----- Getters -----
@@ -447,9 +545,10 @@ public abstract class Hero implements Combatant {
         if (equippedWeapon.getRemainingUses() > 0) {
             equippedWeapon.consumeUse();
             if (!equippedWeapon.isUsable()) {
-                System.out.println(equippedWeapon.getName() + " has broken and is unequipped.");
+                // the battle reports the breakage
                 equippedWeapon = null;
                 weaponTwoHandedGrip = false;
+                invalidateDerivedStats();
             }
         }
     }
@@ -489,6 +588,7 @@ public abstract class Hero implements Combatant {
      */
     public void setStrength(double strength) {
         this.strength = strength;
+        invalidateDerivedStats();
     }
 
     /**
@@ -505,6 +605,7 @@ public abstract class Hero implements Combatant {
      */
     public void setAgility(double agility) {
         this.agility = agility;
+        invalidateDerivedStats();
     }
 
     /**
@@ -2,6 +2,7 @@ package legends.entities.heroes;
 
 import legends.entities.monsters.Monster;
 import legends.items.Spell;
+import legends.utilities.RandomSource;
 
 /**
  * Class representing a Paladin hero.
@@ -39,29 +40,27 @@ public class Paladin extends Hero {
         this.experience = startingExperience;
     }
 
+    @Override
+    public Paladin copy() {
+        return new Paladin(name, mp, strength, agility, dexterity, gold, experience);
+    }
+
     /**
      * Paladin's attack implementation.
      * 
      * @param m the monster to attack
+     * @param rand source of the monster's dodge roll
      */
     @Override
-    public void attack(Monster m) {
+    public void attack(Monster m, RandomSource rand) {
         if (isFainted() || m == null || m.isDead()) {
             return;
         }
 
-        double weaponDamage = 0;
-        if (equippedWeapon != null) {
-            weaponDamage = equippedWeapon.getDamage();
-            if (equippedWeapon.getHandsRequired() == 1 && weaponTwoHandedGrip) {
-                weaponDamage *= 1.5;
-            }
-        }
-
-        double rawDamage = (strength + weaponDamage) * 0.05;
+        double rawDamage = getAttackDamage();
 
         double dodgeProb = m.getDodgeProbability();
-        if (Math.random() < dodgeProb) {
+        if (rand.nextDouble() < dodgeProb) {
             // message is handled in Battle.handleAttack for consistency
             return;
         }
@@ -75,34 +74,32 @@ public class Paladin extends Hero {
      * 
      * @param s the spell to cast
      * @param m the monster to cast the spell on
+     * @param rand source of the monster's dodge roll
+     * @return what came of the cast
      */
     @Override
-    public void castSpell(Spell s, Monster m) {
+    public CastResult castSpell(Spell s, Monster m, RandomSource rand) {
         if (isFainted() || s == null || m == null || m.isDead()) {
-            return;
+            return CastResult.NOT_CAST;
         }
 
         if (mp < s.getManaCost()) {
-            System.out.println(name + " does not have enough mana to cast " + s.getName() + "!");
-            return;
+            return CastResult.NOT_ENOUGH_MANA;
         }
 
         double base = s.getBaseDamage();
         double spellDamage = base + (dexterity / 10000.0) * base;
 
         double dodgeProb = m.getDodgeProbability();
-        if (Math.random() < dodgeProb) {
-            System.out.println(name + " cast " + s.getName() + " on " + m.getName() + " but it dodged!");
+        if (rand.nextDouble() < dodgeProb) {
             mp -= s.getManaCost();
-            return;
+            return CastResult.DODGED;
         }
 
         m.takeDamage(spellDamage);
-        s.applyEffect(m);
+        boolean weakened = s.applyEffect(m);
         mp -= s.getManaCost();
-
-        System.out.println(name + " cast " + s.getName() + " on " + m.getName() +
-                           " for " + spellDamage + " damage!");
+        return weakened ? CastResult.WEAKENED : CastResult.HIT;
     }
 
     /**
@@ -123,7 +120,5 @@ public class Paladin extends Hero {
         // Extra +5% to favored:
         strength *= 1.05;
         dexterity *= 1.05;
-
-        System.out.println(name + " leveled up to " + level + " (Paladin)!");
     }
 }
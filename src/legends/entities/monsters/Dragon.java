@@ -17,7 +17,17 @@ public class Dragon extends Monster {
     public Dragon(String name, int level,
                   double baseDamage, double defense, double dodgeChance) {
         super(name, level, baseDamage, defense, dodgeChance);
+        applyTypeBonus();
+    }
+
+    @Override
+    protected final void applyTypeBonus() {
         // Dragons have extra damage
         this.baseDamage *= 1.1;
     }
+
+    @Override
+    public Dragon copyAtLevel(int level) {
+        return new Dragon(name, level, baseDamage, defense, dodgeChance);
+    }
 }
@@ -17,7 +17,17 @@ public class Exoskeleton extends Monster {
     public Exoskeleton(String name, int level,
                        double baseDamage, double defense, double dodgeChance) {
         super(name, level, baseDamage, defense, dodgeChance);
+        applyTypeBonus();
+    }
+
+    @Override
+    protected final void applyTypeBonus() {
         // Exoskeletons have extra defense
         this.defense *= 1.1;
     }
+
+    @Override
+    public Exoskeleton copyAtLevel(int level) {
+        return new Exoskeleton(name, level, baseDamage, defense, dodgeChance);
+    }
 }
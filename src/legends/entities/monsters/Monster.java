@@ -12,6 +12,16 @@ public abstract class Monster implements Combatant {
     protected double defense;
     protected double dodgeChance;
 
+    // ----- Derived combat stats, recomputed only after a stat changes -----
+    private boolean derivedStale = true;
+    private double attackDamage;
+    private double reductionFactor;
+    private double dodgeProbability;
+
+    // ----- Battle bookkeeping -----
+    // position in the combatant list of the current battle, kept by AliveSet
+    private int battleIndex = -1;
+
     /**
      * Constructor for a monster.
      * 
@@ -30,6 +40,48 @@ public abstract class Monster implements Combatant {
         this.hp = level * 100; 
     }
 
+    // ----- Prototype copies -----
+
+    /**
+     * Create a new monster of the same class from this prototype's stats at the given level.
+     * The class constructor runs again, so its type bonus applies on top of the prototype's stats,
+     * exactly as cloning always has.
+     * 
+     * @param level the level of the new monster
+     * @return new monster instance
+     */
+    public abstract Monster copyAtLevel(int level);
+
+    /**
+     * Turn this monster back into a fresh copy of a prototype at the given level,
+     * leaving it in the same state {@link #copyAtLevel(int)} would produce.
+     * Used by pools that recycle monsters between battles.
+     * 
+     * @param proto prototype of the same class as this monster
+     * @param level the level to reset to
+     */
+    public final void resetFrom(Monster proto, int level) {
+        if (proto.getClass() != getClass()) {
+            throw new IllegalArgumentException("cannot reset a " + getClass().getSimpleName()
+                    + " from a " + proto.getClass().getSimpleName());
+        }
+        this.name = proto.name;
+        this.level = level;
+        this.baseDamage = proto.baseDamage;
+        this.defense = proto.defense;
+        this.dodgeChance = proto.dodgeChance;
+        this.hp = level * 100;
+        applyTypeBonus();
+        invalidateDerivedStats();
+    }
+
+    /**
+     * Apply the monster type's stat bonus. Called once by each constructor and by
+     * {@link #resetFrom(Monster, int)}.
+     */
+    protected void applyTypeBonus() {
+    }
+
     // ----- Combat Behavior -----
 
     /**
@@ -38,11 +90,10 @@ public abstract class Monster implements Combatant {
      * @return damage dealt
      */
     public double attack() {
-        // Apply a global scaling factor so monsters are not overly lethal,
-        // especially at low hero levels. This keeps relative strengths
-        // between monsters while making battles more survivable.
-        double scalingFactor = 0.1; // 10% of the listed base damage
-        return baseDamage * scalingFactor;
+        if (derivedStale) {
+            refreshDerivedStats();
+        }
+        return attackDamage;
     }
 
     /**
@@ -51,18 +102,9 @@ public abstract class Monster implements Combatant {
      * @param dmg damage to apply
      */
     public void takeDamage(double dmg) {
-        // Treat defense as a softer percentage-based damage reduction.
-        // Higher defense means more reduction, but damage is never fully negated.
-
-        // Map defense into a reduction factor in [0, 0.8]. Larger denominator
-        // makes defense grow more slowly, so early-game battles remain fair.
-        double reductionFactor = defense / (defense + 3000.0);
-        if (reductionFactor < 0) {
-            reductionFactor = 0;
-        } else if (reductionFactor > 0.8) {
-            reductionFactor = 0.8; // cap at 80% damage reduction
+        if (derivedStale) {
+            refreshDerivedStats();
         }
-
         double reduced = dmg * (1.0 - reductionFactor);
         // Always do at least 1 point of chip damage when an attack lands
         if (reduced < 1.0 && dmg > 0) {
@@ -89,12 +131,68 @@ public abstract class Monster implements Combatant {
         return isDead();
     }
 
+    @Override
+    public int getBattleIndex() {
+        return battleIndex;
+    }
+
+    @Override
+    public void setBattleIndex(int index) {
+        this.battleIndex = index;
+    }
+
     /**
      * Get the monster's dodge probability as a decimal.
      * 
      * @return dodge probability
      */
     public double getDodgeProbability() {
+        if (derivedStale) {
+            refreshDerivedStats();
+        }
+        return dodgeProbability;
+    }
+
+    /**
+     * Get the fraction of incoming damage the monster's defense absorbs.
+     * 
+     * @return damage reduction between 0 and 0.8
+     */
+    public double getDamageReduction() {
+        if (derivedStale) {
+            refreshDerivedStats();
+        }
+        return reductionFactor;
+    }
+
+    /**
+     * Mark the derived combat stats for recomputation. Every stat setter calls this;
+     * subclasses that change damage, defense or dodge chance directly must call it too.
+     */
+    protected final void invalidateDerivedStats() {
+        derivedStale = true;
+    }
+
+    private void refreshDerivedStats() {
+        // Apply a global scaling factor so monsters are not overly lethal,
+        // especially at low hero levels. This keeps relative strengths
+        // between monsters while making battles more survivable.
+        double scalingFactor = 0.1; // 10% of the listed base damage
+        attackDamage = baseDamage * scalingFactor;
+
+        // Treat defense as a softer percentage-based damage reduction.
+        // Higher defense means more reduction, but damage is never fully negated.
+
+        // Map defense into a reduction factor in [0, 0.8]. Larger denominator
+        // makes defense grow more slowly, so early-game battles remain fair.
+        double factor = defense / (defense + 3000.0);
+        if (factor < 0) {
+            factor = 0;
+        } else if (factor > 0.8) {
+            factor = 0.8; // cap at 80% damage reduction
+        }
+        reductionFactor = factor;
+
         // Example rule from spec: monster dodge = dodgeChance * 0.01.
         // We halve it to reduce excessive dodging while preserving scaling.
         double prob = (dodgeChance * 0.01) * 0.5;
@@ -104,7 +202,8 @@ public abstract class Monster implements Combatant {
         } else if (prob > 0.5) {
             prob = 0.5;
         }
-        return prob;
+        dodgeProbability = prob;
+        derivedStale = false;
     }
 
     // ----- Getters -----
@@ -189,6 +288,7 @@ public abstract class Monster implements Combatant {
      */
     public void setBaseDamage(double baseDamage) {
         this.baseDamage = baseDamage;
+        invalidateDerivedStats();
     }
 
     /**
@@ -198,6 +298,7 @@ public abstract class Monster implements Combatant {
      */
     public void setDefense(double defense) {
         this.defense = defense;
+        invalidateDerivedStats();
     }
 
     /**
@@ -207,6 +308,7 @@ public abstract class Monster implements Combatant {
      */
     public void setDodgeChance(double dodgeChance) {
         this.dodgeChance = dodgeChance;
+        invalidateDerivedStats();
     }
 
     /**
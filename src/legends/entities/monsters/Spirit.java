@@ -17,7 +17,17 @@ public class Spirit extends Monster {
     public Spirit(String name, int level,
                   double baseDamage, double defense, double dodgeChance) {
         super(name, level, baseDamage, defense, dodgeChance);
+        applyTypeBonus();
+    }
+
+    @Override
+    protected final void applyTypeBonus() {
         // Spirits have extra dodge chance
         this.dodgeChance *= 1.1;
     }
+
+    @Override
+    public Spirit copyAtLevel(int level) {
+        return new Spirit(name, level, baseDamage, defense, dodgeChance);
+    }
 }
@@ -1,16 +1,19 @@
 package legends.game;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import legends.utilities.Color;
+import legends.utilities.SeedMixer;
 
 /**
  * Class representing the game board.
  */
 public class Board {
 
-    private Tile[][] grid;
+    private final TileStore store;
+    private final BoardMode mode;
     private int size;
 
     // Party position (row, col)
@@ -24,8 +27,29 @@ public class Board {
 
     private Random rand;
 
-    // track tiles the hero has visited (for preventing repeat encounters)
-    private boolean[][] visited;
+    // world seed; drives chunk generation in chunked mode
+    private final long seed;
+
+    // shared item catalog used to stock generated markets
+    private final GameCatalog catalog;
+
+    // packed positions of markets; chunked worlds only index markets in visited or changed chunks
+    private MarketIndex marketIndex;
+
+    // component labels of accessible cells; built lazily, never for chunked worlds
+    private ConnectivityIndex connectivity;
+
+    // market distance field and path searches; built lazily, never for chunked worlds
+    private PathfindingService pathfinding;
+
+    // terminal renderer; created on first display
+    private BoardRenderer renderer;
+
+    // side length of the window drawn around the party; 0 draws the whole map
+    private int viewportSize;
+    private boolean minimapEnabled;
+    // block aggregates for the minimap; built lazily, dropped when the viewport changes
+    private Minimap minimap;
 
     // was the last successful move onto a tile where this is the first visit?
     private boolean lastMoveFirstVisit = false;
@@ -35,7 +59,14 @@ public class Board {
      * 20% inaccessible, 30% market, 50% common.
      */
     public Board(int size) {
-        this(size, 0.20, 0.30);
+        this(size, GameCatalog.getDefault());
+    }
+
+    /**
+     * Create a board with the default distribution, stocking markets from the given catalog.
+     */
+    public Board(int size, GameCatalog catalog) {
+        this(size, 0.20, 0.30, catalog);
     }
 
     /**
@@ -46,34 +77,214 @@ public class Board {
      * @param marketPercent      percentage of market tiles (0.0 to 1.0)
      */
     public Board(int size, double inaccessiblePercent, double marketPercent) {
+        this(size, inaccessiblePercent, marketPercent, GameCatalog.getDefault());
+    }
+
+    /**
+     * Create a board with specified tile type distribution, stocking markets from the given catalog.
+     *
+     * @param size               the size of the board (size x size)
+     * @param inaccessiblePercent percentage of inaccessible tiles (0.0 to 1.0)
+     * @param marketPercent      percentage of market tiles (0.0 to 1.0)
+     * @param catalog            catalog used to stock market tiles
+     */
+    public Board(int size, double inaccessiblePercent, double marketPercent, GameCatalog catalog) {
+        this(size, inaccessiblePercent, marketPercent, catalog, BoardMode.defaultFor(size));
+    }
+
+    /**
+     * Create a board with specified tile type distribution and storage mode.
+     *
+     * @param size               the size of the board (size x size)
+     * @param inaccessiblePercent percentage of inaccessible tiles (0.0 to 1.0)
+     * @param marketPercent      percentage of market tiles (0.0 to 1.0)
+     * @param catalog            catalog used to stock market tiles
+     * @param mode               cell storage layout
+     */
+    public Board(int size, double inaccessiblePercent, double marketPercent, GameCatalog catalog, BoardMode mode) {
+        this(size, inaccessiblePercent, marketPercent, catalog, mode, new Random().nextLong());
+    }
+
+    /**
+     * Create a board with specified tile type distribution, storage mode and world seed.
+     * In {@link BoardMode#CHUNKED} mode nothing is generated up front: chunks are built from
+     * the seed the first time they are touched, so construction cost does not depend on size.
+     *
+     * @param size               the size of the board (size x size)
+     * @param inaccessiblePercent percentage of inaccessible tiles (0.0 to 1.0)
+     * @param marketPercent      percentage of market tiles (0.0 to 1.0)
+     * @param catalog            catalog used to stock market tiles
+     * @param mode               cell storage layout
+     * @param seed               world seed
+     */
+    public Board(int size, double inaccessiblePercent, double marketPercent, GameCatalog catalog, BoardMode mode, long seed) {
+        this.catalog = catalog == null ? GameCatalog.getDefault() : catalog;
+        this.mode = mode == null ? BoardMode.defaultFor(size) : mode;
         this.size = size;
         this.inaccessiblePercent = inaccessiblePercent;
         this.marketPercent = marketPercent;
-        this.grid = new Tile[size][size];
-        this.rand = new Random();
-        this.visited = new boolean[size][size];
-
-        generateRandomLayout();
-        placePartyRandomly();
+        this.seed = seed;
+        this.rand = new Random(seed);
+        this.store = createStore();
+        this.marketIndex = new MarketIndex(size);
+
+        if (this.mode == BoardMode.CHUNKED) {
+            placePartyInChunks();
+        } else {
+            generateRandomLayout();
+            placePartyRandomly();
+        }
     }
 
     /**
-     * Rehydrate a board from a saved character layout and optional market map.
+     * Rehydrate a board from a saved character layout and optional saved markets.
      * Accepts characters from copyLayout(): H (party), M (market), X (inaccessible),
      * '*' (visited common), '.' (unvisited common).
+     *
+     * @param layout          saved layout
+     * @param marketPositions packed positions (see {@link MarketIndex#pack}) of saved markets, or null
+     * @param markets         saved markets, parallel to marketPositions, or null
+     */
+    public Board(char[][] layout, long[] marketPositions, List<Market> markets) {
+        this(layout, marketPositions, markets, GameCatalog.getDefault());
+    }
+
+    /**
+     * Rehydrate a board, stocking any market tile missing from the saved markets from the given catalog.
      */
-    public Board(char[][] layout, Map<String, Market> markets) {
+    public Board(char[][] layout, long[] marketPositions, List<Market> markets, GameCatalog catalog) {
+        this(layout, marketPositions, markets, catalog, new Random().nextLong());
+    }
+
+    /**
+     * Rehydrate a board saved with its seed, so market tiles missing from the saved markets get
+     * the same stock they would have had before saving.
+     */
+    public Board(char[][] layout, long[] marketPositions, List<Market> markets, GameCatalog catalog, long seed) {
+        this.catalog = catalog == null ? GameCatalog.getDefault() : catalog;
         this.size = layout.length;
-        this.grid = new Tile[size][size];
-        this.visited = new boolean[size][size];
-        this.rand = new Random();
+        this.mode = BoardMode.defaultFor(size) == BoardMode.STANDARD ? BoardMode.STANDARD : BoardMode.COMPACT;
+        this.seed = seed;
+        this.rand = new Random(seed);
         this.inaccessiblePercent = 0.0;
         this.marketPercent = 0.0;
-        restoreLayout(layout, markets);
+        this.store = createStore();
+        this.marketIndex = new MarketIndex(size);
+        restoreLayout(layout, marketPositions, markets);
     }
 
     public Board(char[][] layout) {
-        this(layout, null);
+        this(layout, null, null);
+    }
+
+    /**
+     * Build a board from a pre-generated row-major grid of {@link TileKind} codes, such as the
+     * output of a {@code BoardGenerationStrategy}, and place the party on it.
+     * Compact boards adopt the array directly; chunked mode is not supported here and falls
+     * back to compact storage.
+     *
+     * @param size    the size of the board (size x size)
+     * @param kinds   row-major tile kinds, length size * size
+     * @param catalog catalog used to stock market tiles
+     * @param mode    cell storage layout
+     * @param seed    seed for party placement and markets
+     */
+    public Board(int size, byte[] kinds, GameCatalog catalog, BoardMode mode, long seed) {
+        if (kinds == null || kinds.length != size * size) {
+            throw new IllegalArgumentException("Tile kind grid must have size * size entries");
+        }
+        this.catalog = catalog == null ? GameCatalog.getDefault() : catalog;
+        this.mode = (mode == null || mode == BoardMode.CHUNKED) ? BoardMode.COMPACT : mode;
+        this.size = size;
+        this.seed = seed;
+        this.rand = new Random(seed);
+
+        int inaccessible = 0;
+        int market = 0;
+        for (byte kind : kinds) {
+            if (kind == TileKind.INACCESSIBLE) {
+                inaccessible++;
+            } else if (kind == TileKind.MARKET) {
+                market++;
+            }
+        }
+        double total = Math.max(1, kinds.length);
+        this.inaccessiblePercent = inaccessible / total;
+        this.marketPercent = market / total;
+
+        this.marketIndex = new MarketIndex(size);
+        for (int i = 0; i < kinds.length; i++) {
+            if (kinds[i] == TileKind.MARKET) {
+                marketIndex.addNew(i / size, i % size);
+            }
+        }
+
+        if (this.mode == BoardMode.COMPACT) {
+            this.store = new PackedTileStore(size, kinds, this.catalog, seed);
+        } else {
+            this.store = createStore();
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < size; j++) {
+                    store.setKind(i, j, kinds[i * size + j]);
+                }
+            }
+        }
+        placePartyRandomly();
+    }
+
+    /**
+     * Rehydrate a chunked world from its seed and the chunks the party had visited or changed.
+     * Every other chunk is regenerated from the seed on demand.
+     *
+     * @param size               the size of the board (size x size)
+     * @param inaccessiblePercent percentage of inaccessible tiles used for generation
+     * @param marketPercent      percentage of market tiles used for generation
+     * @param seed               world seed
+     * @param visitedChunks      saved chunk cells from {@link #copyVisitedChunks()}
+     * @param partyRow           saved party row
+     * @param partyCol           saved party column
+     * @param marketPositions    packed positions of saved markets (may be null)
+     * @param markets            saved markets, parallel to marketPositions (may be null)
+     * @param catalog            catalog used to stock regenerated markets
+     * @return restored chunked board
+     */
+    public static Board restoreChunked(int size, double inaccessiblePercent, double marketPercent, long seed,
+                                       Map<Long, byte[]> visitedChunks, int partyRow, int partyCol,
+                                       long[] marketPositions, List<Market> markets, GameCatalog catalog) {
+        Board board = new Board(size, inaccessiblePercent, marketPercent, catalog, seed);
+        ChunkedTileStore chunked = (ChunkedTileStore) board.store;
+        chunked.restoreChunks(visitedChunks);
+        chunked.forEachPinnedMarket(p -> board.marketIndex.addNew(MarketIndex.rowOf(p), MarketIndex.colOf(p)));
+        board.applySavedMarkets(marketPositions, markets);
+        board.partyRow = board.isInside(partyRow, partyCol) ? partyRow : 0;
+        board.partyCol = board.isInside(partyRow, partyCol) ? partyCol : 0;
+        chunked.setFocus(board.partyRow, board.partyCol);
+        board.markVisited(board.partyRow, board.partyCol);
+        return board;
+    }
+
+    /**
+     * Bare chunked board used by {@link #restoreChunked}; no party placement.
+     */
+    private Board(int size, double inaccessiblePercent, double marketPercent, GameCatalog catalog, long seed) {
+        this.catalog = catalog == null ? GameCatalog.getDefault() : catalog;
+        this.mode = BoardMode.CHUNKED;
+        this.size = size;
+        this.inaccessiblePercent = inaccessiblePercent;
+        this.marketPercent = marketPercent;
+        this.seed = seed;
+        this.rand = new Random(seed);
+        this.store = createStore();
+        this.marketIndex = new MarketIndex(size);
+    }
+
+    private TileStore createStore() {
+        return switch (mode) {
+            case COMPACT -> new PackedTileStore(size, catalog, seed);
+            case CHUNKED -> new ChunkedTileStore(size, seed, inaccessiblePercent, marketPercent,
+                    catalog, ChunkedTileStore.DEFAULT_MAX_RESIDENT_CHUNKS);
+            default -> new ObjectTileStore(size, catalog, seed);
+        };
     }
 
     /**
@@ -93,63 +304,65 @@ public class Board {
                 double r = rand.nextDouble();
 
                 if (countInaccessible < targetInaccessible && r < inaccessiblePercent) {
-                    grid[i][j] = new InaccessibleTile();
+                    store.setKind(i, j, TileKind.INACCESSIBLE);
                     countInaccessible++;
                 } else if (countMarket < targetMarket && r < inaccessiblePercent + marketPercent) {
-                    grid[i][j] = new MarketTile();
+                    store.setKind(i, j, TileKind.MARKET);
+                    marketIndex.addNew(i, j);
                     countMarket++;
                 } else {
-                    grid[i][j] = new CommonTile();
+                    store.setKind(i, j, TileKind.COMMON);
                 }
             }
         }
     }
 
     /**
-     * Place the party on a random accessible tile that has at least
-     * one accessible neighbor, so the hero is never completely stuck.
+     * Place the party on a random tile of the largest connected region, so the hero is never
+     * completely stuck and can reach as much of the board as possible.
      */
     private void placePartyRandomly() {
-        // First, try a bunch of random positions
-        for (int attempts = 0; attempts < size * size * 2; attempts++) {
-            int r = rand.nextInt(size);
-            int c = rand.nextInt(size);
-            if (grid[r][c].isAccessible() && hasAccessibleNeighbor(r, c)) {
-                partyRow = r;
-                partyCol = c;
-                // mark initial tile as visited so starting tile won't trigger encounters
-                visited[partyRow][partyCol] = true;
-                lastMoveFirstVisit = false;
-                return;
-            }
-        }
-
-        // Fallback: scan board for any accessible tile with accessible neighbor
-        for (int r = 0; r < size; r++) {
-            for (int c = 0; c < size; c++) {
-                if (grid[r][c].isAccessible() && hasAccessibleNeighbor(r, c)) {
-                    partyRow = r;
-                    partyCol = c;
-                    visited[partyRow][partyCol] = true;
-                    lastMoveFirstVisit = false;
-                    return;
-                }
-            }
+        ConnectivityIndex index = connectivityIndex();
+        int cell = index.randomCellInLargest(rand);
+        if (cell < 0) {
+            // No accessible tiles at all.
+            partyRow = 0;
+            partyCol = 0;
+            return;
         }
+        partyRow = cell / size;
+        partyCol = cell % size;
+        // mark initial tile as visited so starting tile won't trigger encounters
+        store.setVisited(partyRow, partyCol, true);
+        lastMoveFirstVisit = false;
+    }
 
-        // Final fallback: pick any accessible tile
-        for (int r = 0; r < size; r++) {
-            for (int c = 0; c < size; c++) {
-                if (grid[r][c].isAccessible()) {
-                    partyRow = r;
-                    partyCol = c;
-                    visited[partyRow][partyCol] = true;
-                    lastMoveFirstVisit = false;
-                    return;
+    /**
+     * Chunked worlds cannot afford a board-wide search, so scan chunk by chunk starting from a
+     * random one and stop at the first accessible tile with an accessible neighbor. Usually
+     * only one or two chunks are generated.
+     */
+    private void placePartyInChunks() {
+        int chunksPerSide = (size + ChunkedTileStore.CHUNK_SIZE - 1) / ChunkedTileStore.CHUNK_SIZE;
+        int totalChunks = chunksPerSide * chunksPerSide;
+        int start = rand.nextInt(totalChunks);
+        for (int n = 0; n < totalChunks; n++) {
+            int chunk = (start + n) % totalChunks;
+            int baseRow = (chunk / chunksPerSide) * ChunkedTileStore.CHUNK_SIZE;
+            int baseCol = (chunk % chunksPerSide) * ChunkedTileStore.CHUNK_SIZE;
+            for (int r = baseRow; r < Math.min(size, baseRow + ChunkedTileStore.CHUNK_SIZE); r++) {
+                for (int c = baseCol; c < Math.min(size, baseCol + ChunkedTileStore.CHUNK_SIZE); c++) {
+                    if (isAccessible(r, c) && hasAccessibleNeighbor(r, c)) {
+                        partyRow = r;
+                        partyCol = c;
+                        ((ChunkedTileStore) store).setFocus(r, c);
+                        markVisited(r, c);
+                        lastMoveFirstVisit = false;
+                        return;
+                    }
                 }
             }
         }
-        // No accessible tiles at all.
         partyRow = 0;
         partyCol = 0;
     }
@@ -166,13 +379,135 @@ public class Board {
         for (int[] d : dirs) {
             int nr = r + d[0];
             int nc = c + d[1];
-            if (isInside(nr, nc) && grid[nr][nc].isAccessible()) {
+            if (isInside(nr, nc) && isAccessible(nr, nc)) {
                 return true;
             }
         }
         return false;
     }
 
+    /* ===================== Connectivity ===================== */
+
+    /**
+     * Get the connected-component index for this board, building it on first use.
+     *
+     * @return the index, or null for chunked worlds, which are never fully in memory
+     */
+    public ConnectivityIndex getConnectivity() {
+        return connectivityIndex();
+    }
+
+    private ConnectivityIndex connectivityIndex() {
+        if (mode == BoardMode.CHUNKED) {
+            return null;
+        }
+        if (connectivity == null) {
+            connectivity = ConnectivityIndex.build(size, store);
+        }
+        return connectivity;
+    }
+
+    /**
+     * Open corridors through inaccessible tiles until every accessible region is connected.
+     * The party is not moved. Not supported for chunked worlds.
+     *
+     * @return the number of tiles that were turned from inaccessible to common
+     */
+    public int repairConnectivity() {
+        ConnectivityIndex index = getConnectivity();
+        if (index == null) {
+            return 0;
+        }
+        int carved = ConnectivityIndex.repair(size, store, index);
+        if (carved > 0) {
+            connectivity = null;
+            pathfinding = null;
+            minimap = null;
+        }
+        return carved;
+    }
+
+    /**
+     * Check in constant time whether the party can walk to (r, c).
+     * Chunked worlds are not indexed; any in-bounds accessible tile is reported reachable.
+     */
+    public boolean isReachable(int r, int c) {
+        if (!isInside(r, c)) {
+            return false;
+        }
+        ConnectivityIndex index = getConnectivity();
+        if (index == null) {
+            return isAccessible(r, c);
+        }
+        return index.isConnected(partyRow, partyCol, r, c);
+    }
+
+    /**
+     * Count the markets the party can walk to, or -1 for chunked worlds.
+     */
+    public int getReachableMarketCount() {
+        ConnectivityIndex index = getConnectivity();
+        return index == null ? -1 : index.marketsInComponentAt(partyRow, partyCol);
+    }
+
+    /* ===================== Pathfinding ===================== */
+
+    /**
+     * Get the pathfinding service for this board, building the market distance field on first use.
+     *
+     * @return the service, or null for chunked worlds
+     */
+    public PathfindingService getPathfinding() {
+        if (mode == BoardMode.CHUNKED) {
+            return null;
+        }
+        if (pathfinding == null) {
+            pathfinding = new PathfindingService(size, store);
+        }
+        return pathfinding;
+    }
+
+    /**
+     * Change the kind of the tile at (r, c), e.g. to open a passage or add a market.
+     * The market distance field is updated incrementally; connectivity is rebuilt on next use.
+     * The party's own tile cannot be made inaccessible.
+     *
+     * @param r    row index
+     * @param c    column index
+     * @param kind new {@link TileKind}
+     * @return true if the tile was changed
+     */
+    public boolean setTileKind(int r, int c, byte kind) {
+        if (!isInside(r, c)) {
+            return false;
+        }
+        if (kind == TileKind.INACCESSIBLE && r == partyRow && c == partyCol) {
+            return false;
+        }
+        byte oldKind = store.kindAt(r, c);
+        if (oldKind == kind) {
+            return false;
+        }
+        if (store instanceof ChunkedTileStore chunked && !chunked.isChunkPinned(r, c)) {
+            // the change pins the chunk, so its markets are tracked from now on
+            chunked.forEachMarketInChunk(r, c, p -> marketIndex.add(MarketIndex.rowOf(p), MarketIndex.colOf(p)));
+        }
+        store.setKind(r, c, kind);
+        if (oldKind == TileKind.MARKET) {
+            marketIndex.remove(r, c);
+        } else if (kind == TileKind.MARKET) {
+            marketIndex.add(r, c);
+        }
+        connectivity = null;
+        if (pathfinding != null) {
+            pathfinding.onTileChanged(r, c, oldKind);
+        }
+        if (minimap != null) {
+            minimap.onKindChanged(r, c, oldKind, kind, store.isVisited(r, c));
+        }
+        return true;
+    }
+
     /* ===================== Movement ===================== */
 
     /**
@@ -223,19 +558,25 @@ public class Board {
             System.out.println("You can't move outside the map!");
             return false;
         }
-        if (!grid[newRow][newCol].isAccessible()) {
+        if (!isAccessible(newRow, newCol)) {
             System.out.println("That tile is inaccessible!");
             return false;
         }
         // determine if this tile is a first visit
-        boolean firstVisit = !visited[newRow][newCol];
+        boolean firstVisit = !store.isVisited(newRow, newCol);
 
         partyRow = newRow;
         partyCol = newCol;
+        if (store instanceof ChunkedTileStore chunked) {
+            chunked.setFocus(partyRow, partyCol);
+        }
 
         // mark visited now
-        visited[partyRow][partyCol] = true;
+        markVisited(partyRow, partyCol);
         lastMoveFirstVisit = firstVisit;
+        if (firstVisit && minimap != null) {
+            minimap.onVisited(partyRow, partyCol);
+        }
 
         return true;
     }
@@ -251,47 +592,87 @@ public class Board {
         return r >= 0 && r < size && c >= 0 && c < size;
     }
 
-    private void restoreLayout(char[][] layout, Map<String, Market> markets) {
+    /**
+     * Check if the tile at an in-bounds position can be entered.
+     */
+    private boolean isAccessible(int r, int c) {
+        return TileKind.isAccessible(store.kindAt(r, c));
+    }
+
+    /**
+     * Mark a cell visited. The first visit to a chunk of a chunked world also adds that
+     * chunk's markets to the market index, since only pinned chunks are tracked.
+     */
+    private void markVisited(int r, int c) {
+        if (store instanceof ChunkedTileStore chunked && !chunked.isChunkPinned(r, c)) {
+            store.setVisited(r, c, true);
+            chunked.forEachMarketInChunk(r, c, p -> marketIndex.add(MarketIndex.rowOf(p), MarketIndex.colOf(p)));
+            return;
+        }
+        store.setVisited(r, c, true);
+    }
+
+    private void restoreLayout(char[][] layout, long[] marketPositions, List<Market> markets) {
         for (int i = 0; i < size; i++) {
             for (int j = 0; j < size; j++) {
                 char ch = layout[i][j];
                 char upper = Character.toUpperCase(ch);
-                String key = i + "," + j;
                 switch (upper) {
                     case 'M' -> {
-                        Market market = (markets != null && markets.containsKey(key)) ? markets.get(key) : new Market();
-                        grid[i][j] = new MarketTile(market);
-                        visited[i][j] = true; // treat markets as visited once seen
+                        // stock comes from the saved markets below, or lazily from the seed
+                        store.setKind(i, j, TileKind.MARKET);
+                        marketIndex.addNew(i, j);
+                        store.setVisited(i, j, true); // treat markets as visited once seen
                     }
                     case 'X' -> {
-                        grid[i][j] = new InaccessibleTile();
-                        visited[i][j] = false;
+                        store.setKind(i, j, TileKind.INACCESSIBLE);
+                        store.setVisited(i, j, false);
                     }
                     case '*' -> {
-                        grid[i][j] = new CommonTile();
-                        visited[i][j] = true;
+                        store.setKind(i, j, TileKind.COMMON);
+                        store.setVisited(i, j, true);
                     }
                     case 'H' -> {
-                        // Hero standing on a tile; assume common unless a saved market map says otherwise.
-                        Market market = (markets != null && markets.containsKey(key)) ? markets.get(key) : null;
-                        grid[i][j] = (market != null) ? new MarketTile(market) : new CommonTile();
-                        visited[i][j] = true;
+                        // Hero standing on a tile; assume common unless a saved market says otherwise.
+                        store.setKind(i, j, TileKind.COMMON);
+                        store.setVisited(i, j, true);
                         partyRow = i;
                         partyCol = j;
                     }
                     default -> {
-                        grid[i][j] = new CommonTile();
-                        visited[i][j] = false;
+                        store.setKind(i, j, TileKind.COMMON);
+                        store.setVisited(i, j, false);
                     }
                 }
             }
         }
+        applySavedMarkets(marketPositions, markets);
 
         // If no hero was placed, default to (0,0)
         if (!isInside(partyRow, partyCol)) {
             partyRow = 0;
             partyCol = 0;
-            visited[partyRow][partyCol] = true;
+            store.setVisited(partyRow, partyCol, true);
+        }
+    }
+
+    /**
+     * Put saved markets back on their tiles, indexing any that were not known yet.
+     */
+    private void applySavedMarkets(long[] marketPositions, List<Market> markets) {
+        if (marketPositions == null || markets == null) {
+            return;
+        }
+        int n = Math.min(marketPositions.length, markets.size());
+        for (int k = 0; k < n; k++) {
+            int r = MarketIndex.rowOf(marketPositions[k]);
+            int c = MarketIndex.colOf(marketPositions[k]);
+            Market market = markets.get(k);
+            if (!isInside(r, c) || market == null) {
+                continue;
+            }
+            store.setMarket(r, c, market);
+            marketIndex.add(r, c);
         }
     }
 
@@ -306,6 +687,63 @@ public class Board {
         return size;
     }
 
+    /**
+     * Get the storage layout backing this board.
+     *
+     * @return board storage mode
+     */
+    public BoardMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Get the world seed. Chunked boards regenerate unvisited chunks from it.
+     *
+     * @return world seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Get the catalog market tiles are stocked from.
+     *
+     * @return item catalog; markets use its newest version
+     */
+    public GameCatalog getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * Get the inaccessible tile ratio used to generate this board.
+     *
+     * @return inaccessible percentage (0.0 to 1.0)
+     */
+    public double getInaccessiblePercent() {
+        return inaccessiblePercent;
+    }
+
+    /**
+     * Get the market tile ratio used to generate this board.
+     *
+     * @return market percentage (0.0 to 1.0)
+     */
+    public double getMarketPercent() {
+        return marketPercent;
+    }
+
+    /**
+     * Copy the cells of every chunk holding a visited or changed tile, for saving a chunked world.
+     *
+     * @return chunk cells keyed by packed chunk coordinates; empty for non-chunked boards
+     */
+    public Map<Long, byte[]> copyVisitedChunks() {
+        if (store instanceof ChunkedTileStore chunked) {
+            return chunked.copyPinnedChunks();
+        }
+        return new HashMap<>();
+    }
+
     /**
      * Get the row index of the party's current position.
      * 
@@ -330,7 +768,7 @@ public class Board {
      * @return current Tile of the party
      */
     public Tile getCurrentTile() {
-        return grid[partyRow][partyCol];
+        return store.tileAt(partyRow, partyCol);
     }
 
     /**
@@ -344,7 +782,7 @@ public class Board {
         if (!isInside(r, c)) {
             return null;
         }
-        return grid[r][c];
+        return store.tileAt(r, c);
     }
 
     /**
@@ -356,7 +794,7 @@ public class Board {
      */
     public boolean isVisited(int r, int c) {
         if (!isInside(r, c)) return false;
-        return visited[r][c];
+        return store.isVisited(r, c);
     }
 
     /**
@@ -382,13 +820,10 @@ public class Board {
                 if (i == partyRow && j == partyCol) {
                     layout[i][j] = 'H';
                 } else {
-                    Tile t = grid[i][j];
-                    if (t instanceof MarketTile) {
-                        layout[i][j] = 'M';
-                    } else if (t instanceof InaccessibleTile) {
-                        layout[i][j] = 'X';
-                    } else {
-                        layout[i][j] = visited[i][j] ? '*' : '.';
+                    switch (store.kindAt(i, j)) {
+                        case TileKind.MARKET -> layout[i][j] = 'M';
+                        case TileKind.INACCESSIBLE -> layout[i][j] = 'X';
+                        default -> layout[i][j] = store.isVisited(i, j) ? '*' : '.';
                     }
                 }
             }
@@ -397,23 +832,100 @@ public class Board {
     }
 
     /**
-     * Collect all markets keyed by "row,col" for snapshotting.
+     * Get the index of market positions, kept current as tiles change.
+     * Chunked boards only index markets inside chunks the party has visited or changed.
+     *
+     * @return live market index; do not modify
      */
-    public Map<String, Market> getMarkets() {
-        Map<String, Market> map = new HashMap<>();
-        for (int i = 0; i < size; i++) {
-            for (int j = 0; j < size; j++) {
-                if (grid[i][j] instanceof MarketTile mt) {
-                    map.put(i + "," + j, mt.getMarket());
-                }
-            }
+    public MarketIndex getMarketIndex() {
+        return marketIndex;
+    }
+
+    /**
+     * Get the market on the tile at (r, c).
+     *
+     * @return the market, or null if the tile is not a market
+     */
+    public Market getMarketAt(int r, int c) {
+        if (!isInside(r, c) || store.kindAt(r, c) != TileKind.MARKET) {
+            return null;
         }
-        return map;
+        Tile tile = store.tileAt(r, c);
+        return tile instanceof MarketTile mt ? mt.getMarket() : null;
+    }
+
+    /**
+     * Get the market at (r, c) only if it cannot be rebuilt from the board seed: it was opened,
+     * or it was placed with its own stock. Unlike {@link #getMarketAt}, this never creates a
+     * market tile, so it is cheap to call for every indexed market when saving.
+     *
+     * @return the market, or null if the tile is not a market or its market is untouched
+     */
+    public Market getChangedMarketAt(int r, int c) {
+        if (!isInside(r, c) || store.kindAt(r, c) != TileKind.MARKET) {
+            return null;
+        }
+        Market market = store.loadedMarketAt(r, c);
+        if (market == null || (!market.isStocked() && market.getSeed() == SeedMixer.mix(seed, r, c))) {
+            return null;
+        }
+        return market;
     }
 
 
     /* ===================== Display ===================== */
 
+    /**
+     * Draw only a window of the given side length centred on the party, so each frame costs
+     * O(viewport) instead of O(size^2). Pass 0 to draw the whole map again.
+     *
+     * @param viewportSize window side length in cells, or 0 for the full map
+     */
+    public void setViewportSize(int viewportSize) {
+        int clamped = Math.max(0, viewportSize);
+        if (clamped != this.viewportSize) {
+            this.viewportSize = clamped;
+            minimap = null;
+        }
+    }
+
+    public int getViewportSize() {
+        return viewportSize;
+    }
+
+    /**
+     * Show a downsampled overview of the whole board next to the viewport, one glyph per block
+     * of cells. Only drawn when a viewport is set; not available for chunked worlds, which are
+     * never fully generated.
+     */
+    public void setMinimapEnabled(boolean minimapEnabled) {
+        this.minimapEnabled = minimapEnabled;
+    }
+
+    public boolean isMinimapEnabled() {
+        return minimapEnabled;
+    }
+
+    /**
+     * Side length in cells of the window that is actually drawn.
+     */
+    int visibleSize() {
+        return viewportSize <= 0 ? size : Math.min(viewportSize, size);
+    }
+
+    /**
+     * @return the minimap to draw this frame, or null if none should be shown
+     */
+    Minimap minimapForDisplay() {
+        if (!minimapEnabled || mode == BoardMode.CHUNKED || visibleSize() >= size) {
+            return null;
+        }
+        if (minimap == null) {
+            minimap = new Minimap(size, visibleSize(), store);
+        }
+        return minimap;
+    }
+
     /**
      * Display the board in the console with color coding.
      * 'H' for hero position (yellow)
@@ -421,31 +933,47 @@ public class Board {
      * 'X' for inaccessible tiles (red)
      * '*' for visited common tiles (cyan)
      * '.' for unvisited common tiles (white)
+     * With a viewport set, only the window around the party is drawn.
      */
     public void display() {
-        System.out.println(Color.title("=== World Map ==="));
-        for (int i = 0; i < size; i++) {
-            for (int j = 0; j < size; j++) {
-                String cell;
-                if (i == partyRow && j == partyCol) {
-                    cell = Color.YELLOW + "H" + Color.RESET;
-                } else {
-                    Tile t = grid[i][j];
-                    if (t instanceof MarketTile) {
-                        cell = Color.GREEN + "M" + Color.RESET;
-                    } else if (t instanceof InaccessibleTile) {
-                        cell = Color.RED + "X" + Color.RESET;
-                    } else {
-                        // common tile
-                        boolean tileVisited = isVisited(i, j); // from the new visited-tracking
-                        char symbol = tileVisited ? '*' : '.';
-                        cell = (tileVisited ? Color.CYAN : Color.WHITE) + symbol + Color.RESET;
-                    }
-                }
-                System.out.print("| " + cell + " ");
-            }
-            System.out.println("|");
+        if (renderer == null) {
+            renderer = new BoardRenderer(System.out);
+        }
+        renderer.render(this);
+    }
+
+    /**
+     * Force the next {@link #display()} to redraw the whole map, e.g. after the screen was cleared.
+     */
+    public void invalidateDisplay() {
+        if (renderer != null) {
+            renderer.invalidate();
+        }
+    }
+
+    /**
+     * Stop pinning the map to the top of the terminal; call before the board is discarded or the game exits.
+     */
+    public void releaseDisplay() {
+        if (renderer != null) {
+            renderer.release();
+        }
+    }
+
+    /**
+     * Symbol drawn for a cell: H (party), M (market), X (inaccessible), '*' (visited), '.' (unvisited).
+     */
+    char glyphAt(int i, int j) {
+        if (i == partyRow && j == partyCol) {
+            return 'H';
+        }
+        byte kind = store.kindAt(i, j);
+        if (kind == TileKind.MARKET) {
+            return 'M';
+        }
+        if (kind == TileKind.INACCESSIBLE) {
+            return 'X';
         }
-        System.out.println(Color.title("================="));
+        return isVisited(i, j) ? '*' : '.';
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,31 @@
+package legends.game;
+
+/**
+ * Storage layout used by a {@link Board}.
+ */
+public enum BoardMode {
+    /** One tile object per cell plus a separate visited grid. Simple, fine for small maps. */
+    STANDARD,
+    /** One byte per cell (tile kind plus visited bit) with shared tile flyweights. */
+    COMPACT,
+    /** Fixed-size chunks generated lazily from a seed and evicted under a memory budget. */
+    CHUNKED;
+
+    /** Boards larger than this (per side) default to compact storage. */
+    public static final int COMPACT_THRESHOLD = 64;
+    /** Boards larger than this (per side) default to chunked storage. */
+    public static final int CHUNKED_THRESHOLD = 2048;
+
+    /**
+     * Pick a sensible storage mode for a board of the given side length.
+     *
+     * @param size board side length
+     * @return STANDARD for small boards, COMPACT for large ones, CHUNKED for huge ones
+     */
+    public static BoardMode defaultFor(int size) {
+        if (size > CHUNKED_THRESHOLD) {
+            return CHUNKED;
+        }
+        return size > COMPACT_THRESHOLD ? COMPACT : STANDARD;
+    }
+}
@@ -0,0 +1,250 @@
+package legends.game;
+
+import java.io.PrintStream;
+import legends.utilities.Color;
+
+/**
+ * Draws a {@link Board} to the terminal.
+ * <p>
+ * Every frame is assembled in one reusable buffer and written with a single flush. On an
+ * interactive terminal the map is pinned to the top of the screen: the lines below it become the
+ * scrolling region for prompts and messages, and later frames only send the cells that changed
+ * (party moved, tile visited) using ANSI cursor addressing. When output is not a terminal or the
+ * map is too tall to pin, each frame is a full redraw, as before.
+ * <p>
+ * With a viewport set on the board only the window around the party is drawn, optionally with a
+ * minimap to its right, so a frame costs O(viewport) whatever the board size.
+ */
+final class BoardRenderer {
+
+    private static final String CSI = "\u001B[";
+    private static final String SAVE_CURSOR = "\u001B7";
+    private static final String RESTORE_CURSOR = "\u001B8";
+
+    // screen lines reserved below the map for controls and the prompt
+    private static final int PROMPT_LINES = 4;
+    private static final int DEFAULT_TERMINAL_LINES = 24;
+
+    // width of one drawn cell: "| x "
+    private static final int CELL_WIDTH = 4;
+    // blank columns between the map's closing '|' and the minimap
+    private static final int MINIMAP_GAP = 3;
+
+    private static final String FOOTER = Color.title("=================");
+
+    private final PrintStream out;
+    private final boolean interactive;
+    private final StringBuilder buffer = new StringBuilder();
+
+    // what is currently on screen; shown is null until the first frame
+    private boolean pinned;
+    private int shownView;
+    private int shownMiniSide;
+    private char[] shown;
+    private char[] shownMini;
+    private String shownTitle;
+    private boolean screenCleared;
+
+    BoardRenderer(PrintStream out) {
+        this.out = out;
+        this.interactive = System.console() != null;
+    }
+
+    /**
+     * Draw the board, sending only changed cells when the previous frame is still on screen.
+     */
+    void render(Board board) {
+        int size = board.getSize();
+        int view = board.visibleSize();
+        // centre the window on the party, clamped to the board edges
+        int top = clamp(board.getPartyRow() - view / 2, 0, size - view);
+        int left = clamp(board.getPartyCol() - view / 2, 0, size - view);
+        Minimap minimap = board.minimapForDisplay();
+        int miniSide = minimap == null ? 0 : minimap.getBlocksPerSide();
+        String title = title(board, view < size);
+
+        boolean pin = interactive && view + 2 + PROMPT_LINES <= terminalLines();
+        if (pinned && !pin) {
+            release();
+        }
+
+        buffer.setLength(0);
+        if (!pin || shown == null || shownView != view || shownMiniSide != miniSide) {
+            pinned = pin;
+            fullFrame(board, top, left, view, minimap, miniSide, title);
+        } else {
+            diffFrame(board, top, left, view, minimap, miniSide, title);
+        }
+        if (buffer.length() > 0) {
+            out.print(buffer);
+            out.flush();
+        }
+    }
+
+    /**
+     * Forget what is on screen so the next frame is a full redraw.
+     */
+    void invalidate() {
+        shown = null;
+    }
+
+    /**
+     * Give the whole screen back to normal scrolling output.
+     */
+    void release() {
+        if (pinned && shown != null) {
+            out.print(CSI + "r");
+            out.flush();
+        }
+        shown = null;
+        pinned = false;
+        screenCleared = false;
+    }
+
+    private void fullFrame(Board board, int top, int left, int view, Minimap minimap, int miniSide, String title) {
+        shownView = view;
+        shownMiniSide = miniSide;
+        shown = new char[view * view];
+        shownMini = new char[miniSide * miniSide];
+        shownTitle = title;
+        int partyBlock = minimap == null ? -1 : minimap.blockOf(board.getPartyRow(), board.getPartyCol());
+
+        int firstFreeLine = view + 3;
+        if (pinned) {
+            if (!screenCleared) {
+                buffer.append(CSI).append("r").append(CSI).append("H").append(CSI).append("2J");
+            } else {
+                buffer.append(SAVE_CURSOR).append(CSI).append("H");
+            }
+        }
+
+        buffer.append(title);
+        endLine();
+        for (int i = 0; i < view; i++) {
+            for (int j = 0; j < view; j++) {
+                char glyph = board.glyphAt(top + i, left + j);
+                shown[i * view + j] = glyph;
+                buffer.append("| ");
+                appendGlyph(glyph);
+                buffer.append(' ');
+            }
+            buffer.append('|');
+            if (i < miniSide) {
+                buffer.append(" ".repeat(MINIMAP_GAP));
+                for (int k = 0; k < miniSide; k++) {
+                    char glyph = miniGlyph(minimap, i, k, partyBlock);
+                    shownMini[i * miniSide + k] = glyph;
+                    appendGlyph(glyph);
+                }
+            }
+            endLine();
+        }
+        buffer.append(FOOTER);
+        endLine();
+
+        if (pinned) {
+            // setting the scrolling region homes the cursor, so position it afterwards
+            buffer.append(CSI).append(firstFreeLine).append(";r");
+            if (!screenCleared) {
+                buffer.append(CSI).append(firstFreeLine).append(";1H");
+                screenCleared = true;
+            } else {
+                buffer.append(RESTORE_CURSOR);
+            }
+        }
+    }
+
+    private void diffFrame(Board board, int top, int left, int view, Minimap minimap, int miniSide, String title) {
+        int start = buffer.length();
+        if (!title.equals(shownTitle)) {
+            shownTitle = title;
+            buffer.append(CSI).append("1;1H").append(title).append(CSI).append('K');
+        }
+        // compare by screen position, so scrolling the window is just more changed cells
+        for (int i = 0; i < view; i++) {
+            for (int j = 0; j < view; j++) {
+                char glyph = board.glyphAt(top + i, left + j);
+                int idx = i * view + j;
+                if (shown[idx] == glyph) {
+                    continue;
+                }
+                shown[idx] = glyph;
+                // title is line 1, so window row i is screen line i + 2; the glyph sits after "| "
+                moveTo(i + 2, j * CELL_WIDTH + 3);
+                appendGlyph(glyph);
+            }
+        }
+        if (minimap != null) {
+            int partyBlock = minimap.blockOf(board.getPartyRow(), board.getPartyCol());
+            int firstMiniCol = view * CELL_WIDTH + 2 + MINIMAP_GAP;
+            for (int i = 0; i < miniSide; i++) {
+                for (int k = 0; k < miniSide; k++) {
+                    char glyph = miniGlyph(minimap, i, k, partyBlock);
+                    int idx = i * miniSide + k;
+                    if (shownMini[idx] == glyph) {
+                        continue;
+                    }
+                    shownMini[idx] = glyph;
+                    moveTo(i + 2, firstMiniCol + k);
+                    appendGlyph(glyph);
+                }
+            }
+        }
+        if (buffer.length() > start) {
+            buffer.insert(start, SAVE_CURSOR).append(RESTORE_CURSOR);
+        }
+    }
+
+    private static char miniGlyph(Minimap minimap, int blockRow, int blockCol, int partyBlock) {
+        if (blockRow * minimap.getBlocksPerSide() + blockCol == partyBlock) {
+            return 'H';
+        }
+        return minimap.glyphAt(blockRow, blockCol);
+    }
+
+    private static String title(Board board, boolean windowed) {
+        if (!windowed) {
+            return Color.title("=== World Map ===");
+        }
+        return Color.title("=== World Map (" + board.getPartyRow() + ", " + board.getPartyCol()
+                + ") of " + board.getSize() + "x" + board.getSize() + " ===");
+    }
+
+    private void moveTo(int line, int column) {
+        buffer.append(CSI).append(line).append(';').append(column).append('H');
+    }
+
+    private void appendGlyph(char glyph) {
+        String color = switch (glyph) {
+            case 'H' -> Color.YELLOW;
+            case 'M' -> Color.GREEN;
+            case 'X' -> Color.RED;
+            case '*' -> Color.CYAN;
+            default -> Color.WHITE;
+        };
+        buffer.append(color).append(glyph).append(Color.RESET);
+    }
+
+    private void endLine() {
+        if (pinned) {
+            buffer.append(CSI).append('K'); // clear leftovers from older output on this line
+        }
+        buffer.append(System.lineSeparator());
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static int terminalLines() {
+        String lines = System.getenv("LINES");
+        if (lines != null) {
+            try {
+                return Integer.parseInt(lines.trim());
+            } catch (NumberFormatException e) {
+                // fall through to the default
+            }
+        }
+        return DEFAULT_TERMINAL_LINES;
+    }
+}
@@ -0,0 +1,264 @@
+package legends.game;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import legends.game.CompiledCatalog.Table;
+
+/**
+ * Compiles the text tables under {@code data/} into the binary catalog read by
+ * {@link CompiledCatalog}, so later starts can map the file instead of parsing text.
+ * <p>
+ * Run with {@code java -cp out legends.Main --compile-catalog [dataDir] [outputFile]}. Records are
+ * built from the raw table columns rather than from loaded objects, because some constructors
+ * adjust their inputs (dragons boost their damage) and must see the original values again when
+ * the record is decoded.
+ */
+public final class CatalogCompiler {
+
+    /** Command-line flag that runs the compiler instead of the game. */
+    public static final String FLAG = "--compile-catalog";
+
+    private CatalogCompiler() {
+    }
+
+    /**
+     * Entry point for {@link #FLAG}: compile {@code args[0]} (default {@code data/}) into
+     * {@code args[1]} (default {@code catalog.bin} inside the data directory).
+     */
+    public static void run(String[] args) {
+        String baseDir = args.length > 0 ? withSlash(args[0]) : GameCatalog.DEFAULT_DATA_DIR;
+        Path output = args.length > 1 ? Path.of(args[1]) : Path.of(baseDir, CompiledCatalog.FILE_NAME);
+        try {
+            int records = compile(baseDir, output);
+            System.out.println("Compiled " + records + " catalog entries from " + baseDir + " into " + output);
+        } catch (IOException e) {
+            System.err.println("Error compiling catalog to " + output + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Compile every table of a data directory into one catalog file. The file is written next to
+     * its destination and moved into place, so a running game never maps a half-written catalog.
+     *
+     * @param baseDir data directory (with trailing slash)
+     * @param output  file to create or replace
+     * @return number of records written
+     */
+    public static int compile(String baseDir, Path output) throws IOException {
+        StringPool pool = new StringPool();
+        TableBuffer[] tables = new TableBuffer[Table.values().length];
+        for (Table table : Table.values()) {
+            tables[table.ordinal()] = new TableBuffer(table.width);
+        }
+
+        compileHeroes(baseDir + GameCatalog.WARRIORS_FILE, "warriors", tables[Table.WARRIORS.ordinal()], pool);
+        compileHeroes(baseDir + GameCatalog.PALADINS_FILE, "paladins", tables[Table.PALADINS.ordinal()], pool);
+        compileHeroes(baseDir + GameCatalog.SORCERERS_FILE, "sorcerers", tables[Table.SORCERERS.ordinal()], pool);
+        compileMonsters(baseDir + GameCatalog.DRAGONS_FILE, "dragons", tables[Table.DRAGONS.ordinal()], pool);
+        compileMonsters(baseDir + GameCatalog.SPIRITS_FILE, "spirits", tables[Table.SPIRITS.ordinal()], pool);
+        compileMonsters(baseDir + GameCatalog.EXOSKELETONS_FILE, "exoskeletons", tables[Table.EXOSKELETONS.ordinal()], pool);
+
+        // Name/cost/level/damage/required hands
+        TableBuffer weapons = tables[Table.WEAPONS.ordinal()];
+        TableReader.read(baseDir + GameCatalog.WEAPONS_FILE, "weapons", 5, row -> weapons.begin()
+                .putString(row.text(0), pool)
+                .putInt(row.intAt(1)).putInt(row.intAt(2)).putInt(row.intAt(3)).putInt(row.intAt(4))
+                .end());
+        // Name/cost/required level/damage reduction
+        TableBuffer armors = tables[Table.ARMORS.ordinal()];
+        TableReader.read(baseDir + GameCatalog.ARMORS_FILE, "armors", 4, row -> armors.begin()
+                .putString(row.text(0), pool)
+                .putInt(row.intAt(1)).putInt(row.intAt(2)).putInt(row.intAt(3))
+                .end());
+        // Name/cost/required level/attribute increase/attribute affected
+        TableBuffer potions = tables[Table.POTIONS.ordinal()];
+        TableReader.read(baseDir + GameCatalog.POTIONS_FILE, "potions", 5, row -> potions.begin()
+                .putString(row.text(0), pool)
+                .putInt(row.intAt(1)).putInt(row.intAt(2)).putInt(row.intAt(3))
+                .putString(row.rest(4), pool)
+                .end());
+
+        TableBuffer spells = tables[Table.SPELLS.ordinal()];
+        compileSpells(baseDir + GameCatalog.FIRE_SPELLS_FILE, "fire spells", CompiledCatalog.FIRE_SPELL, spells, pool);
+        compileSpells(baseDir + GameCatalog.ICE_SPELLS_FILE, "ice spells", CompiledCatalog.ICE_SPELL, spells, pool);
+        compileSpells(baseDir + GameCatalog.LIGHTNING_SPELLS_FILE, "lightning spells", CompiledCatalog.LIGHTNING_SPELL, spells, pool);
+
+        return write(output, tables, pool);
+    }
+
+    private static void compileHeroes(String path, String what, TableBuffer table, StringPool pool) {
+        // Name/mana/strength/agility/dexterity/starting gold/starting experience
+        TableReader.read(path, what, 7, row -> table.begin()
+                .putString(row.text(0), pool)
+                .putDouble(row.doubleAt(1)).putDouble(row.doubleAt(2)).putDouble(row.doubleAt(3))
+                .putDouble(row.doubleAt(4)).putDouble(row.doubleAt(5)).putDouble(row.doubleAt(6))
+                .end());
+    }
+
+    private static void compileMonsters(String path, String what, TableBuffer table, StringPool pool) {
+        // Name/level/damage/defense/dodge chance
+        TableReader.read(path, what, 5, row -> table.begin()
+                .putString(row.text(0), pool)
+                .putInt(row.intAt(1))
+                .putDouble(row.doubleAt(2)).putDouble(row.doubleAt(3)).putDouble(row.doubleAt(4))
+                .end());
+    }
+
+    private static void compileSpells(String path, String what, int kind, TableBuffer table, StringPool pool) {
+        // Name/cost/required level/damage/mana cost
+        TableReader.read(path, what, 5, row -> table.begin()
+                .putInt(kind)
+                .putString(row.text(0), pool)
+                .putInt(row.intAt(1)).putInt(row.intAt(2)).putInt(row.intAt(3)).putInt(row.intAt(4))
+                .end());
+    }
+
+    private static int write(Path output, TableBuffer[] tables, StringPool pool) throws IOException {
+        int size = CompiledCatalog.headerSize();
+        int records = 0;
+        for (TableBuffer table : tables) {
+            size += table.length();
+            records += table.count;
+        }
+        size += pool.length;
+
+        ByteBuffer file = ByteBuffer.allocate(size);
+        file.putInt(CompiledCatalog.MAGIC).putInt(CompiledCatalog.VERSION).putInt(tables.length);
+        int offset = CompiledCatalog.headerSize();
+        for (TableBuffer table : tables) {
+            file.putInt(table.count).putInt(table.width).putInt(offset);
+            offset += table.length();
+        }
+        file.putInt(offset).putInt(pool.length);
+        for (TableBuffer table : tables) {
+            file.put(table.bytes, 0, table.length());
+        }
+        file.put(pool.bytes, 0, pool.length);
+        file.flip();
+
+        Path target = output.toAbsolutePath();
+        Files.createDirectories(target.getParent());
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (file.hasRemaining()) {
+                    channel.write(file);
+                }
+            }
+            try {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return records;
+    }
+
+    private static String withSlash(String dir) {
+        return dir.endsWith("/") ? dir : dir + "/";
+    }
+
+    /* ===================== Buffers ===================== */
+
+    /**
+     * Growable record area of one table. A record is only kept once {@link #end()} is reached,
+     * so a row that fails to parse halfway leaves nothing behind.
+     */
+    private static final class TableBuffer {
+        private final int width;
+        private byte[] bytes = new byte[256];
+        private int position;
+        private int committed;
+        private int count;
+
+        TableBuffer(int width) {
+            this.width = width;
+        }
+
+        TableBuffer begin() {
+            position = committed;
+            ensure(width);
+            return this;
+        }
+
+        TableBuffer putInt(int value) {
+            bytes[position++] = (byte) (value >>> 24);
+            bytes[position++] = (byte) (value >>> 16);
+            bytes[position++] = (byte) (value >>> 8);
+            bytes[position++] = (byte) value;
+            return this;
+        }
+
+        TableBuffer putDouble(double value) {
+            long bits = Double.doubleToRawLongBits(value);
+            putInt((int) (bits >>> 32));
+            return putInt((int) bits);
+        }
+
+        TableBuffer putString(String value, StringPool pool) {
+            return putInt(pool.offsetOf(value));
+        }
+
+        /**
+         * @return null, so it can end a {@link RowMapper} that only writes
+         */
+        Void end() {
+            committed = position;
+            count++;
+            return null;
+        }
+
+        int length() {
+            return committed;
+        }
+
+        private void ensure(int extra) {
+            if (position + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, position + extra));
+            }
+        }
+    }
+
+    /**
+     * Deduplicated strings, each stored as an unsigned short length followed by UTF-8 bytes.
+     */
+    private static final class StringPool {
+        private final Map<String, Integer> offsets = new HashMap<>();
+        private byte[] bytes = new byte[1024];
+        private int length;
+
+        int offsetOf(String value) {
+            Integer known = offsets.get(value);
+            if (known != null) {
+                return known;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            if (utf8.length > 0xffff) {
+                throw new IllegalArgumentException("text longer than 65535 bytes");
+            }
+            if (length + 2 + utf8.length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 2 + utf8.length));
+            }
+            int offset = length;
+            bytes[length++] = (byte) (utf8.length >>> 8);
+            bytes[length++] = (byte) utf8.length;
+            System.arraycopy(utf8, 0, bytes, length, utf8.length);
+            length += utf8.length;
+            offsets.put(value, offset);
+            return offset;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package legends.game;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the data directory and hot-reloads the default {@link GameCatalog} when a table changes.
+ * <p>
+ * A daemon thread waits on a {@link WatchService} for the heroes/, monsters/ and items/
+ * directories. Events are coalesced for a short settle time, since editors often write a file in
+ * several steps, and then only the edited tables are re-parsed and published as a new catalog
+ * version. Markets stocked and encounters rolled after that use the new version; battles already
+ * running keep the monsters they were created with. A table that comes back empty or with
+ * malformed rows is not published, so the previous one stays in use.
+ * <p>
+ * Notices about reloads are queued rather than printed from the watcher thread, and the game
+ * prints them with {@link #printNotices()} between prompts.
+ */
+public final class CatalogWatcher implements AutoCloseable {
+
+    // quiet time after the last event before the changed tables are re-parsed
+    private static final long SETTLE_MILLIS = 200;
+
+    private final String baseDir;
+    private final WatchService watchService;
+    private final Map<WatchKey, String> watchedDirs = new HashMap<>();
+    private final Queue<String> notices = new ConcurrentLinkedQueue<>();
+    private final Thread thread;
+
+    private CatalogWatcher(String baseDir, WatchService watchService) {
+        this.baseDir = baseDir;
+        this.watchService = watchService;
+        this.thread = new Thread(this::watchLoop, "legends-catalog-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Start watching the tables of the default catalog.
+     *
+     * @param baseDir data directory the default catalog was loaded from (with trailing slash)
+     * @return the running watcher, or null if the directory cannot be watched
+     */
+    public static CatalogWatcher start(String baseDir) {
+        try {
+            CatalogWatcher watcher = new CatalogWatcher(baseDir, FileSystems.getDefault().newWatchService());
+            watcher.registerTableDirs();
+            watcher.thread.start();
+            return watcher;
+        } catch (IOException e) {
+            System.err.println("Data hot-reload disabled for " + baseDir + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void registerTableDirs() throws IOException {
+        for (String file : GameCatalog.SOURCE_FILES) {
+            String dir = file.substring(0, file.lastIndexOf('/') + 1);
+            if (watchedDirs.containsValue(dir)) {
+                continue;
+            }
+            Path path = Path.of(baseDir, dir);
+            if (!Files.isDirectory(path)) {
+                continue;
+            }
+            WatchKey key = path.register(watchService,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+            watchedDirs.put(key, dir);
+        }
+    }
+
+    private void watchLoop() {
+        Set<String> changed = new LinkedHashSet<>();
+        try {
+            while (true) {
+                collect(watchService.take(), changed);
+                // keep draining until the directory has been quiet for the settle time
+                WatchKey next;
+                while ((next = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    collect(next, changed);
+                }
+                for (String file : changed) {
+                    try {
+                        GameCatalog published = GameCatalog.reloadDefault(baseDir, file);
+                        if (published != null) {
+                            notices.add("[data] Reloaded " + file + " (catalog version " + published.getVersion() + ")");
+                        }
+                    } catch (IOException e) {
+                        notices.add("[data] Kept the previous " + file + ": " + e.getMessage());
+                    }
+                }
+                changed.clear();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // closed by the game
+        }
+    }
+
+    private void collect(WatchKey key, Set<String> changed) {
+        String dir = watchedDirs.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (dir != null && event.context() instanceof Path name) {
+                String file = dir + name;
+                if (GameCatalog.SOURCE_FILES.contains(file)) {
+                    changed.add(file);
+                }
+            }
+        }
+        key.reset();
+    }
+
+    /**
+     * Print the notices queued by the watcher thread since the last call. Call this from the
+     * thread that owns the console, between prompts.
+     */
+    public void printNotices() {
+        String notice;
+        while ((notice = notices.poll()) != null) {
+            System.out.println(notice);
+        }
+    }
+
+    /**
+     * Stop watching. Catalog versions already published stay in effect.
+     */
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            // nothing left to release
+        }
+        thread.interrupt();
+    }
+}
@@ -0,0 +1,285 @@
+package legends.game;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.LongConsumer;
+import legends.utilities.SeedMixer;
+
+/**
+ * Lazily generated board storage for very large worlds.
+ * <p>
+ * The grid is split into square chunks that are generated on first touch from the world seed
+ * and the chunk coordinates, so a chunk always comes back identical. Chunks live in an
+ * access-ordered map; once more than {@code maxResidentChunks} are loaded, the least recently
+ * used chunks that are not pinned and not next to the party are dropped. A chunk is pinned once
+ * one of its cells is visited or changed, since regenerating it would lose that state; pinned
+ * chunks are the only ones exported for saving.
+ */
+class ChunkedTileStore implements TileStore {
+
+    static final int CHUNK_SIZE = 64;
+    static final int DEFAULT_MAX_RESIDENT_CHUNKS = 256;
+    // chunks within this many chunk steps of the party are never evicted
+    private static final int KEEP_RADIUS = 1;
+
+    private final int size;
+    private final long seed;
+    private final double inaccessiblePercent;
+    private final double marketPercent;
+    private final GameCatalog catalog;
+    private final int maxResidentChunks;
+    private final LinkedHashMap<Long, Chunk> chunks = new LinkedHashMap<>(64, 0.75f, true);
+
+    private int focusChunkRow;
+    private int focusChunkCol;
+
+    ChunkedTileStore(int size, long seed, double inaccessiblePercent, double marketPercent,
+                     GameCatalog catalog, int maxResidentChunks) {
+        this.size = size;
+        this.seed = seed;
+        this.inaccessiblePercent = inaccessiblePercent;
+        this.marketPercent = marketPercent;
+        this.catalog = catalog;
+        this.maxResidentChunks = Math.max(1, maxResidentChunks);
+    }
+
+    /**
+     * Per-chunk cells in the same packed format as {@link PackedTileStore}.
+     */
+    private static final class Chunk {
+        final byte[] cells;
+        final Map<Integer, MarketTile> markets = new HashMap<>();
+        // holds a visited or changed cell, so it must never be regenerated
+        boolean pinned;
+
+        Chunk(byte[] cells) {
+            this.cells = cells;
+        }
+    }
+
+    static long chunkKey(int chunkRow, int chunkCol) {
+        return ((long) chunkRow << 32) | (chunkCol & 0xffffffffL);
+    }
+
+    /* ===================== TileStore ===================== */
+
+    @Override
+    public byte kindAt(int r, int c) {
+        return (byte) (chunkFor(r, c).cells[localIndex(r, c)] & PackedTileStore.KIND_MASK);
+    }
+
+    @Override
+    public Tile tileAt(int r, int c) {
+        Chunk chunk = chunkFor(r, c);
+        int idx = localIndex(r, c);
+        switch (chunk.cells[idx] & PackedTileStore.KIND_MASK) {
+            case TileKind.INACCESSIBLE:
+                return InaccessibleTile.INSTANCE;
+            case TileKind.MARKET:
+                return chunk.markets.computeIfAbsent(idx, k -> new MarketTile(catalog, SeedMixer.mix(seed, r, c)));
+            default:
+                return CommonTile.INSTANCE;
+        }
+    }
+
+    @Override
+    public void setKind(int r, int c, byte kind) {
+        Chunk chunk = chunkFor(r, c);
+        int idx = localIndex(r, c);
+        chunk.cells[idx] = (byte) ((chunk.cells[idx] & PackedTileStore.VISITED_BIT) | (kind & PackedTileStore.KIND_MASK));
+        chunk.markets.remove(idx);
+        chunk.pinned = true;
+    }
+
+    @Override
+    public void setMarket(int r, int c, Market market) {
+        setKind(r, c, TileKind.MARKET);
+        chunkFor(r, c).markets.put(localIndex(r, c), new MarketTile(market));
+    }
+
+    @Override
+    public Market loadedMarketAt(int r, int c) {
+        // an evicted chunk had no market tiles worth keeping, so it is not regenerated here
+        Chunk chunk = chunks.get(chunkKey(r / CHUNK_SIZE, c / CHUNK_SIZE));
+        MarketTile tile = chunk == null ? null : chunk.markets.get(localIndex(r, c));
+        return tile == null ? null : tile.getMarket();
+    }
+
+    @Override
+    public boolean isVisited(int r, int c) {
+        // Evicted chunks are never pinned, so they hold no visited cells and need no regenerating here.
+        Chunk chunk = chunks.get(chunkKey(r / CHUNK_SIZE, c / CHUNK_SIZE));
+        return chunk != null && (chunk.cells[localIndex(r, c)] & PackedTileStore.VISITED_BIT) != 0;
+    }
+
+    @Override
+    public void setVisited(int r, int c, boolean visited) {
+        Chunk chunk = chunkFor(r, c);
+        int idx = localIndex(r, c);
+        if (visited) {
+            chunk.cells[idx] |= (byte) PackedTileStore.VISITED_BIT;
+            chunk.pinned = true;
+        } else {
+            chunk.cells[idx] &= (byte) ~PackedTileStore.VISITED_BIT;
+        }
+    }
+
+    /* ===================== Chunk management ===================== */
+
+    /**
+     * Tell the store where the party is so nearby chunks are kept resident.
+     */
+    void setFocus(int r, int c) {
+        focusChunkRow = r / CHUNK_SIZE;
+        focusChunkCol = c / CHUNK_SIZE;
+    }
+
+    int residentChunkCount() {
+        return chunks.size();
+    }
+
+    long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Copy the cells of every pinned chunk, keyed by {@link #chunkKey}.
+     */
+    Map<Long, byte[]> copyPinnedChunks() {
+        Map<Long, byte[]> out = new HashMap<>();
+        for (Map.Entry<Long, Chunk> e : chunks.entrySet()) {
+            if (e.getValue().pinned) {
+                out.put(e.getKey(), e.getValue().cells.clone());
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Install previously saved chunks; they stay pinned because they contain visited or changed cells.
+     */
+    void restoreChunks(Map<Long, byte[]> saved) {
+        if (saved == null) {
+            return;
+        }
+        for (Map.Entry<Long, byte[]> e : saved.entrySet()) {
+            byte[] cells = e.getValue();
+            if (cells == null || cells.length != CHUNK_SIZE * CHUNK_SIZE) {
+                continue;
+            }
+            Chunk chunk = new Chunk(cells.clone());
+            chunk.pinned = true;
+            chunks.put(e.getKey(), chunk);
+        }
+    }
+
+    /**
+     * @return true if the chunk holding (r, c) has a visited or changed cell
+     */
+    boolean isChunkPinned(int r, int c) {
+        return chunkFor(r, c).pinned;
+    }
+
+    /**
+     * Report the packed position (see {@link MarketIndex#pack}) of every market cell in the chunk holding (r, c).
+     */
+    void forEachMarketInChunk(int r, int c, LongConsumer consumer) {
+        int chunkRow = r / CHUNK_SIZE;
+        int chunkCol = c / CHUNK_SIZE;
+        emitMarkets(chunkRow, chunkCol, chunkFor(r, c), consumer);
+    }
+
+    /**
+     * Report the packed position of every market cell in pinned chunks.
+     */
+    void forEachPinnedMarket(LongConsumer consumer) {
+        for (Map.Entry<Long, Chunk> e : chunks.entrySet()) {
+            if (e.getValue().pinned) {
+                emitMarkets((int) (e.getKey() >> 32), (int) (long) e.getKey(), e.getValue(), consumer);
+            }
+        }
+    }
+
+    private void emitMarkets(int chunkRow, int chunkCol, Chunk chunk, LongConsumer consumer) {
+        int baseRow = chunkRow * CHUNK_SIZE;
+        int baseCol = chunkCol * CHUNK_SIZE;
+        // edge chunks extend past the board; their outside cells are never reported
+        int rows = Math.min(CHUNK_SIZE, size - baseRow);
+        int cols = Math.min(CHUNK_SIZE, size - baseCol);
+        for (int lr = 0; lr < rows; lr++) {
+            int rowStart = lr * CHUNK_SIZE;
+            for (int lc = 0; lc < cols; lc++) {
+                if ((chunk.cells[rowStart + lc] & PackedTileStore.KIND_MASK) == TileKind.MARKET) {
+                    consumer.accept(MarketIndex.pack(baseRow + lr, baseCol + lc));
+                }
+            }
+        }
+    }
+
+    private static int localIndex(int r, int c) {
+        return (r % CHUNK_SIZE) * CHUNK_SIZE + (c % CHUNK_SIZE);
+    }
+
+    private Chunk chunkFor(int r, int c) {
+        int chunkRow = r / CHUNK_SIZE;
+        int chunkCol = c / CHUNK_SIZE;
+        long key = chunkKey(chunkRow, chunkCol);
+        Chunk chunk = chunks.get(key);
+        if (chunk == null) {
+            chunk = generate(chunkRow, chunkCol);
+            chunks.put(key, chunk);
+            evictIfNeeded(key);
+        }
+        return chunk;
+    }
+
+    /**
+     * Generate a chunk purely from the world seed and its coordinates.
+     */
+    private Chunk generate(int chunkRow, int chunkCol) {
+        SplittableRandom rng = new SplittableRandom(SeedMixer.mix(seed, chunkRow, chunkCol));
+        byte[] cells = new byte[CHUNK_SIZE * CHUNK_SIZE];
+        double marketCut = inaccessiblePercent + marketPercent;
+        for (int i = 0; i < cells.length; i++) {
+            double roll = rng.nextDouble();
+            if (roll < inaccessiblePercent) {
+                cells[i] = TileKind.INACCESSIBLE;
+            } else if (roll < marketCut) {
+                cells[i] = TileKind.MARKET;
+            } else {
+                cells[i] = TileKind.COMMON;
+            }
+        }
+        return new Chunk(cells);
+    }
+
+    /**
+     * Drop least recently used chunks until the resident limit is met or only pinned chunks,
+     * chunks next to the party and the chunk being loaded are left.
+     *
+     * @param loadingKey key of the chunk being loaded, which the caller is about to use
+     */
+    private void evictIfNeeded(long loadingKey) {
+        if (chunks.size() <= maxResidentChunks) {
+            return;
+        }
+        // iteration runs from least to most recently used
+        Iterator<Map.Entry<Long, Chunk>> it = chunks.entrySet().iterator();
+        while (chunks.size() > maxResidentChunks && it.hasNext()) {
+            Map.Entry<Long, Chunk> e = it.next();
+            if (e.getValue().pinned || e.getKey() == loadingKey) {
+                continue;
+            }
+            int chunkRow = (int) (e.getKey() >> 32);
+            int chunkCol = (int) (long) e.getKey();
+            if (Math.abs(chunkRow - focusChunkRow) <= KEEP_RADIUS && Math.abs(chunkCol - focusChunkCol) <= KEEP_RADIUS) {
+                continue;
+            }
+            it.remove();
+        }
+    }
+
+}
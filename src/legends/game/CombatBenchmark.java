@@ -0,0 +1,190 @@
+package legends.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import legends.entities.heroes.Hero;
+import legends.entities.monsters.Monster;
+import legends.items.Weapon;
+
+/**
+ * Measures the per-hit cost of combat stat lookups, as in a simulated battle with no console output.
+ * <p>
+ * Run with {@code java -cp out legends.Main --bench-combat [hits]}. Each hit is one hero attack and
+ * one monster counter-attack: attack damage, dodge roll and damage application on both sides. The
+ * "recomputed" pass rebuilds attack damage, both dodge chances and the defense reduction from the
+ * raw stats on every hit, with the formulas and clamps the combat code used before the stats were
+ * cached; the "cached" pass calls the entity methods battles use now. Dodge rolls come from a
+ * table filled before timing starts, so neither pass is dominated by the random generator and the
+ * difference is the cost of the stat lookups.
+ */
+public final class CombatBenchmark {
+
+    /** Command-line flag that runs the benchmark instead of the game. */
+    public static final String FLAG = "--bench-combat";
+
+    private static final int DEFAULT_HITS = 5_000_000;
+    private static final int ROUNDS = 5;
+    private static final int MONSTER_LEVEL = 5;
+    // precomputed dodge rolls, cycled through by both passes; a power of two for cheap wrapping
+    private static final int ROLLS = 1 << 16;
+
+    private CombatBenchmark() {
+    }
+
+    /**
+     * Entry point for {@link #FLAG}: {@code args[0]} is the number of hits per pass.
+     */
+    public static void run(String[] args) {
+        int hits = DEFAULT_HITS;
+        if (args.length > 0) {
+            try {
+                hits = Integer.parseInt(args[0]);
+            } catch (NumberFormatException e) {
+                System.err.println("Invalid hit count '" + args[0] + "', using " + DEFAULT_HITS);
+            }
+        }
+
+        GameCatalog catalog = GameCatalog.getDefault();
+        List<Weapon> weapons = catalog.getWeapons();
+        List<Hero> heroes = new ArrayList<>();
+        for (String id : catalog.getHeroPrototypes().ids()) {
+            Hero hero = catalog.getHeroPrototypes().get(id).copy();
+            if (!weapons.isEmpty()) {
+                hero.equipWeapon(weapons.get(heroes.size() % weapons.size()).copy());
+            }
+            heroes.add(hero);
+        }
+        List<Monster> monsters = new ArrayList<>();
+        for (String id : catalog.getMonsterPrototypes().ids()) {
+            monsters.add(catalog.getMonsterPrototypes().get(id).copyAtLevel(MONSTER_LEVEL));
+        }
+        if (heroes.isEmpty() || monsters.isEmpty()) {
+            System.err.println("Benchmark needs at least one hero and one monster in " + GameCatalog.DEFAULT_DATA_DIR);
+            return;
+        }
+        Hero[] h = heroes.toArray(new Hero[0]);
+        Monster[] m = monsters.toArray(new Monster[0]);
+
+        // first rounds warm up both paths; keep the best of the rest
+        double bestRecomputed = Double.MAX_VALUE;
+        double bestCached = Double.MAX_VALUE;
+        double sink = 0;
+        for (int round = 0; round < ROUNDS + 2; round++) {
+            double[] rolls = rolls(round);
+            long start = System.nanoTime();
+            sink += recomputedHits(h, m, hits, rolls);
+            double recomputed = (System.nanoTime() - start) / (double) hits;
+            start = System.nanoTime();
+            sink += cachedHits(h, m, hits, rolls);
+            double cached = (System.nanoTime() - start) / (double) hits;
+            if (round >= 2) {
+                bestRecomputed = Math.min(bestRecomputed, recomputed);
+                bestCached = Math.min(bestCached, cached);
+            }
+        }
+
+        System.out.println(String.format("Combat stats over %d hits (%d heroes, %d monsters):", hits, h.length, m.length));
+        System.out.println(String.format("  recomputed per hit: %7.2f ns/hit", bestRecomputed));
+        System.out.println(String.format("  cached:             %7.2f ns/hit", bestCached));
+        System.out.println(String.format("  speedup:            %7.2fx", bestRecomputed / bestCached));
+        if (sink == 42) {
+            System.out.println(); // keeps the work observable to the JIT
+        }
+    }
+
+    private static double[] rolls(long seed) {
+        SplittableRandom rand = new SplittableRandom(seed);
+        double[] rolls = new double[ROLLS];
+        for (int i = 0; i < ROLLS; i++) {
+            rolls[i] = rand.nextDouble();
+        }
+        return rolls;
+    }
+
+    /**
+     * Hits with the cached stats, through the same entity methods a battle calls.
+     */
+    private static double cachedHits(Hero[] heroes, Monster[] monsters, int hits, double[] rolls) {
+        double dealt = 0;
+        int hi = 0;
+        int mi = 0;
+        for (int i = 0; i < hits; i++) {
+            Hero hero = heroes[hi];
+            Monster monster = monsters[mi];
+            // the hero swings
+            double damage = hero.getAttackDamage();
+            if (rolls[(2 * i) & (ROLLS - 1)] >= monster.getDodgeProbability()) {
+                monster.takeDamage(damage);
+                dealt += damage;
+            }
+            // the monster hits back
+            damage = monster.attack();
+            if (rolls[(2 * i + 1) & (ROLLS - 1)] >= hero.getDodgeChance()) {
+                hero.receiveDamage(damage);
+                dealt += damage;
+            }
+            hi = hi + 1 == heroes.length ? 0 : hi + 1;
+            mi = mi + 1 == monsters.length ? 0 : mi + 1;
+        }
+        return dealt;
+    }
+
+    /**
+     * Hits as the combat code ran them before the derived stats were cached: every value is
+     * rebuilt from the raw stats and clamped on every hit. Monsters have no HP setter, so their
+     * HP is tracked in a local array, which costs the same as the field write in takeDamage.
+     */
+    private static double recomputedHits(Hero[] heroes, Monster[] monsters, int hits, double[] rolls) {
+        double[] monsterHp = new double[monsters.length];
+        for (int k = 0; k < monsters.length; k++) {
+            monsterHp[k] = monsters[k].getHp();
+        }
+        double dealt = 0;
+        int hi = 0;
+        int mi = 0;
+        for (int i = 0; i < hits; i++) {
+            Hero hero = heroes[hi];
+            Monster monster = monsters[mi];
+
+            // the hero swings: (strength + weapon damage) * 0.05, with the two-handed grip bonus
+            double weaponDamage = 0;
+            Weapon weapon = hero.getEquippedWeapon();
+            if (weapon != null) {
+                weaponDamage = weapon.getDamage();
+                if (weapon.getHandsRequired() == 1 && hero.isWeaponTwoHandedGrip()) {
+                    weaponDamage *= 1.5;
+                }
+            }
+            double damage = (hero.getStrength() + weaponDamage) * 0.05;
+            double monsterDodge = clamp(monster.getDodgeChance() * 0.01 * 0.5, 0.5);
+            if (rolls[(2 * i) & (ROLLS - 1)] >= monsterDodge) {
+                double defense = monster.getDefense();
+                double reduction = clamp(defense / (defense + 3000.0), 0.8);
+                double reduced = damage * (1.0 - reduction);
+                if (reduced < 1.0 && damage > 0) {
+                    reduced = 1.0;
+                }
+                monsterHp[mi] = Math.max(0, monsterHp[mi] - reduced);
+                dealt += damage;
+            }
+            // the monster hits back
+            damage = monster.getBaseDamage() * 0.1;
+            double heroDodge = clamp(hero.getAgility() * 0.002 * 0.5, 0.5);
+            if (rolls[(2 * i + 1) & (ROLLS - 1)] >= heroDodge) {
+                hero.receiveDamage(damage);
+                dealt += damage;
+            }
+            hi = hi + 1 == heroes.length ? 0 : hi + 1;
+            mi = mi + 1 == monsters.length ? 0 : mi + 1;
+        }
+        return dealt;
+    }
+
+    private static double clamp(double value, double max) {
+        if (value < 0) {
+            return 0;
+        }
+        return value > max ? max : value;
+    }
+}
@@ -5,6 +5,11 @@ package legends.game;
  */
 public class CommonTile extends Tile {
 
+    /**
+     * Shared stateless instance used by compact boards instead of one object per cell.
+     */
+    public static final CommonTile INSTANCE = new CommonTile();
+
     /**
      * Check if the tile is accessible by heroes.
      * 
@@ -0,0 +1,298 @@
+package legends.game;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import legends.entities.heroes.Paladin;
+import legends.entities.heroes.Sorcerer;
+import legends.entities.heroes.Warrior;
+import legends.entities.monsters.Dragon;
+import legends.entities.monsters.Exoskeleton;
+import legends.entities.monsters.Spirit;
+import legends.items.Armor;
+import legends.items.FireSpell;
+import legends.items.IceSpell;
+import legends.items.LightningSpell;
+import legends.items.Potion;
+import legends.items.Spell;
+import legends.items.Weapon;
+
+/**
+ * Reader for the binary catalog written by {@link CatalogCompiler}.
+ * <p>
+ * The file is memory-mapped and never parsed up front: each table is exposed as a read-only list
+ * whose entries are decoded from their fixed-width record the first time they are requested.
+ * All integers are big-endian. Layout:
+ * <pre>
+ * int MAGIC, int VERSION, int tableCount
+ * per table (in {@link Table} order): int recordCount, int recordWidth, int offset
+ * int stringPoolOffset, int stringPoolLength
+ * records, then the string pool (unsigned short length + UTF-8 bytes per string)
+ * </pre>
+ * Strings inside records are stored as the pool offset of their entry.
+ */
+final class CompiledCatalog {
+
+    /** Name of the compiled catalog inside the data directory. */
+    static final String FILE_NAME = "catalog.bin";
+
+    static final int MAGIC = 0x4C4D4843; // "LMHC"
+    /** Bump whenever a record layout changes; older files are then ignored. */
+    static final int VERSION = 1;
+
+    static final int HEADER_INTS_PER_TABLE = 3;
+
+    // name, mana, strength, agility, dexterity, gold, experience
+    static final int HERO_WIDTH = 4 + 6 * 8;
+    // name, level, damage, defense, dodge chance
+    static final int MONSTER_WIDTH = 4 + 4 + 3 * 8;
+    // name, cost, level, damage, hands
+    static final int WEAPON_WIDTH = 5 * 4;
+    // name, cost, level, reduction
+    static final int ARMOR_WIDTH = 4 * 4;
+    // name, cost, level, increase, attributes
+    static final int POTION_WIDTH = 5 * 4;
+    // spell kind, name, cost, level, damage, mana cost
+    static final int SPELL_WIDTH = 6 * 4;
+
+    static final int FIRE_SPELL = 0;
+    static final int ICE_SPELL = 1;
+    static final int LIGHTNING_SPELL = 2;
+
+    /**
+     * Tables of the file, in header order.
+     */
+    enum Table {
+        WARRIORS(HERO_WIDTH, 0),
+        PALADINS(HERO_WIDTH, 0),
+        SORCERERS(HERO_WIDTH, 0),
+        DRAGONS(MONSTER_WIDTH, 0),
+        SPIRITS(MONSTER_WIDTH, 0),
+        EXOSKELETONS(MONSTER_WIDTH, 0),
+        WEAPONS(WEAPON_WIDTH, 0),
+        ARMORS(ARMOR_WIDTH, 0),
+        POTIONS(POTION_WIDTH, 0, 16),
+        SPELLS(SPELL_WIDTH, 4);
+
+        final int width;
+        // record offsets of the string pool references
+        final int[] stringFields;
+
+        Table(int width, int... stringFields) {
+            this.width = width;
+            this.stringFields = stringFields;
+        }
+    }
+
+    static int headerSize() {
+        return 3 * 4 + Table.values().length * HEADER_INTS_PER_TABLE * 4 + 2 * 4;
+    }
+
+    // only absolute reads are used, so the buffer can be shared by threads decoding different lists
+    private final ByteBuffer buffer;
+    private final int poolOffset;
+    private final int poolLength;
+
+    private CompiledCatalog(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < headerSize() || buffer.getInt(0) != MAGIC) {
+            throw new IOException("not a compiled catalog");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("catalog version " + buffer.getInt(4) + ", expected " + VERSION);
+        }
+        if (buffer.getInt(8) != Table.values().length) {
+            throw new IOException("unexpected table count " + buffer.getInt(8));
+        }
+        int poolAt = headerSize() - 8;
+        this.poolOffset = buffer.getInt(poolAt);
+        this.poolLength = buffer.getInt(poolAt + 4);
+        checkRange(poolOffset, poolLength);
+    }
+
+    /**
+     * Load the compiled catalog of a data directory if it exists and is newer than every text table.
+     *
+     * @param baseDir data directory (with trailing slash)
+     * @return the catalog, or null if there is no usable compiled file
+     */
+    static GameCatalog loadIfFresh(String baseDir) {
+        Path file = Path.of(baseDir, FILE_NAME);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            FileTime compiledAt = Files.getLastModifiedTime(file);
+            for (String source : GameCatalog.SOURCE_FILES) {
+                Path sourcePath = Path.of(baseDir, source);
+                if (Files.exists(sourcePath) && Files.getLastModifiedTime(sourcePath).compareTo(compiledAt) >= 0) {
+                    return null; // text was edited since the last compile
+                }
+            }
+            return load(file);
+        } catch (IOException e) {
+            System.err.println("Ignoring compiled catalog " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Map a compiled catalog file. Entries are decoded lazily, on first access.
+     */
+    static GameCatalog load(Path file) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        return new CompiledCatalog(mapped).toCatalog();
+    }
+
+    private GameCatalog toCatalog() throws IOException {
+        return new GameCatalog(
+                list(Table.WARRIORS, at -> new Warrior(string(at),
+                        buffer.getDouble(at + 4), buffer.getDouble(at + 12), buffer.getDouble(at + 20),
+                        buffer.getDouble(at + 28), buffer.getDouble(at + 36), buffer.getDouble(at + 44))),
+                list(Table.PALADINS, at -> new Paladin(string(at),
+                        buffer.getDouble(at + 4), buffer.getDouble(at + 12), buffer.getDouble(at + 20),
+                        buffer.getDouble(at + 28), buffer.getDouble(at + 36), buffer.getDouble(at + 44))),
+                list(Table.SORCERERS, at -> new Sorcerer(string(at),
+                        buffer.getDouble(at + 4), buffer.getDouble(at + 12), buffer.getDouble(at + 20),
+                        buffer.getDouble(at + 28), buffer.getDouble(at + 36), buffer.getDouble(at + 44))),
+                list(Table.DRAGONS, at -> new Dragon(string(at), buffer.getInt(at + 4),
+                        buffer.getDouble(at + 8), buffer.getDouble(at + 16), buffer.getDouble(at + 24))),
+                list(Table.SPIRITS, at -> new Spirit(string(at), buffer.getInt(at + 4),
+                        buffer.getDouble(at + 8), buffer.getDouble(at + 16), buffer.getDouble(at + 24))),
+                list(Table.EXOSKELETONS, at -> new Exoskeleton(string(at), buffer.getInt(at + 4),
+                        buffer.getDouble(at + 8), buffer.getDouble(at + 16), buffer.getDouble(at + 24))),
+                list(Table.WEAPONS, at -> new Weapon(string(at),
+                        buffer.getInt(at + 4), buffer.getInt(at + 8), buffer.getInt(at + 12), buffer.getInt(at + 16))),
+                list(Table.ARMORS, at -> new Armor(string(at),
+                        buffer.getInt(at + 4), buffer.getInt(at + 8), buffer.getInt(at + 12))),
+                list(Table.POTIONS, this::potionAt),
+                list(Table.SPELLS, this::spellAt));
+    }
+
+    private Potion potionAt(int at) {
+        return DataLoader.potionOf(string(at), buffer.getInt(at + 4), buffer.getInt(at + 8),
+                buffer.getInt(at + 12), string(at + 16));
+    }
+
+    private Spell spellAt(int at) {
+        String name = string(at + 4);
+        int cost = buffer.getInt(at + 8);
+        int level = buffer.getInt(at + 12);
+        int damage = buffer.getInt(at + 16);
+        int manaCost = buffer.getInt(at + 20);
+        return switch (buffer.getInt(at)) {
+            case ICE_SPELL -> new IceSpell(name, cost, level, damage, manaCost);
+            case LIGHTNING_SPELL -> new LightningSpell(name, cost, level, damage, manaCost);
+            default -> new FireSpell(name, cost, level, damage, manaCost);
+        };
+    }
+
+    private <T> RecordList<T> list(Table table, RecordDecoder<T> decoder) throws IOException {
+        int at = 12 + table.ordinal() * HEADER_INTS_PER_TABLE * 4;
+        int count = buffer.getInt(at);
+        int width = buffer.getInt(at + 4);
+        int offset = buffer.getInt(at + 8);
+        if (width != table.width || count < 0) {
+            throw new IOException("bad " + table + " table header");
+        }
+        checkRange(offset, (long) count * width);
+        // entries are decoded lazily, so catch bad string references now, while the caller
+        // can still fall back to the text tables
+        for (int i = 0; i < count; i++) {
+            for (int field : table.stringFields) {
+                checkString(table, offset + i * width + field);
+            }
+        }
+        return new RecordList<>(offset, width, count, decoder);
+    }
+
+    /**
+     * @param at position of a 4-byte string pool reference
+     */
+    private void checkString(Table table, int at) throws IOException {
+        int ref = buffer.getInt(at);
+        if (ref < 0 || (long) ref + 2 > poolLength
+                || (long) ref + 2 + (buffer.getShort(poolOffset + ref) & 0xffff) > poolLength) {
+            throw new IOException("bad string reference in " + table + " table");
+        }
+    }
+
+    /**
+     * @param at position of a 4-byte string pool reference
+     */
+    private String string(int at) {
+        int entry = poolOffset + buffer.getInt(at);
+        int length = buffer.getShort(entry) & 0xffff;
+        byte[] bytes = new byte[length];
+        buffer.get(entry + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void checkRange(int offset, long length) throws IOException {
+        if (offset < 0 || length < 0 || offset + length > buffer.capacity()) {
+            throw new IOException("truncated catalog file");
+        }
+    }
+
+    /**
+     * Decodes the record starting at a buffer offset.
+     */
+    @FunctionalInterface
+    interface RecordDecoder<T> {
+        T decode(int offset);
+    }
+
+    /**
+     * Read-only view of one table. Each entry is decoded once, on first access, and then reused;
+     * concurrent first reads agree on a single instance.
+     */
+    static final class RecordList<T> extends AbstractList<T> implements RandomAccess {
+
+        private final int offset;
+        private final int width;
+        private final int count;
+        private final RecordDecoder<T> decoder;
+        private final AtomicReferenceArray<T> decoded;
+
+        RecordList(int offset, int width, int count, RecordDecoder<T> decoder) {
+            this.offset = offset;
+            this.width = width;
+            this.count = count;
+            this.decoder = decoder;
+            this.decoded = new AtomicReferenceArray<>(count);
+        }
+
+        @Override
+        public T get(int index) {
+            Objects.checkIndex(index, count);
+            T value = decoded.get(index);
+            if (value == null) {
+                T fresh = decoder.decode(offset + index * width);
+                value = decoded.compareAndExchange(index, null, fresh);
+                if (value == null) {
+                    value = fresh;
+                }
+            }
+            return value;
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package legends.game;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Connected-component labels for the accessible cells of a board.
+ * <p>
+ * Built with one BFS labeling pass over a flat {@code int[]} grid. Afterwards reachability,
+ * component sizes and market counts are constant-time lookups, and a spawn cell on the largest
+ * component can be drawn in O(1) because cells are stored grouped by component.
+ * Only used for boards that keep every cell in memory; chunked worlds are never labeled.
+ */
+public final class ConnectivityIndex {
+
+    /** Label of inaccessible cells. */
+    public static final int NONE = -1;
+
+    private static final int[] DR = { -1, 1, 0, 0 };
+    private static final int[] DC = { 0, 0, -1, 1 };
+
+    private final int size;
+    private final int[] labels;
+    private final int[] componentSizes;
+    private final int[] componentMarkets;
+    // cell indices grouped by component: component k occupies [offsets[k], offsets[k + 1])
+    private final int[] cellsByComponent;
+    private final int[] offsets;
+    private final int largest;
+
+    private ConnectivityIndex(int size, int[] labels, int[] componentSizes, int[] componentMarkets,
+                              int[] cellsByComponent, int[] offsets, int largest) {
+        this.size = size;
+        this.labels = labels;
+        this.componentSizes = componentSizes;
+        this.componentMarkets = componentMarkets;
+        this.cellsByComponent = cellsByComponent;
+        this.offsets = offsets;
+        this.largest = largest;
+    }
+
+    /**
+     * Label every accessible cell of the store by its 4-connected component.
+     */
+    static ConnectivityIndex build(int size, TileStore store) {
+        int total = size * size;
+        byte[] kinds = new byte[total];
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                kinds[r * size + c] = store.kindAt(r, c);
+            }
+        }
+        return build(size, kinds);
+    }
+
+    private static ConnectivityIndex build(int size, byte[] kinds) {
+        int total = size * size;
+        int[] labels = new int[total];
+        Arrays.fill(labels, NONE);
+
+        // the BFS queue doubles as the grouped cell list: each component is appended contiguously
+        int[] queue = new int[total];
+        int tail = 0;
+        int[] sizes = new int[16];
+        int[] markets = new int[16];
+        int[] starts = new int[17];
+        int components = 0;
+
+        for (int start = 0; start < total; start++) {
+            if (labels[start] != NONE || !TileKind.isAccessible(kinds[start])) {
+                continue;
+            }
+            if (components == sizes.length) {
+                sizes = Arrays.copyOf(sizes, components * 2);
+                markets = Arrays.copyOf(markets, components * 2);
+                starts = Arrays.copyOf(starts, components * 2 + 1);
+            }
+            int label = components++;
+            starts[label] = tail;
+            int head = tail;
+            labels[start] = label;
+            queue[tail++] = start;
+            int marketCount = 0;
+            while (head < tail) {
+                int cell = queue[head++];
+                if (kinds[cell] == TileKind.MARKET) {
+                    marketCount++;
+                }
+                int r = cell / size;
+                int c = cell % size;
+                for (int d = 0; d < 4; d++) {
+                    int nr = r + DR[d];
+                    int nc = c + DC[d];
+                    if (nr < 0 || nr >= size || nc < 0 || nc >= size) {
+                        continue;
+                    }
+                    int next = nr * size + nc;
+                    if (labels[next] == NONE && TileKind.isAccessible(kinds[next])) {
+                        labels[next] = label;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+            sizes[label] = tail - starts[label];
+            markets[label] = marketCount;
+        }
+        starts[components] = tail;
+
+        int largest = NONE;
+        for (int k = 0; k < components; k++) {
+            if (largest == NONE || sizes[k] > sizes[largest]) {
+                largest = k;
+            }
+        }
+        return new ConnectivityIndex(size,
+                labels,
+                Arrays.copyOf(sizes, components),
+                Arrays.copyOf(markets, components),
+                queue,
+                Arrays.copyOf(starts, components + 1),
+                largest);
+    }
+
+    /**
+     * Carve corridors so every accessible region joins the largest one. Each smaller component
+     * walks an L-shaped path toward the largest component's first cell, turning inaccessible
+     * cells into common ones, and stops as soon as it touches a region or corridor that is
+     * already joined.
+     *
+     * @return the number of inaccessible cells that were opened up
+     */
+    static int repair(int size, TileStore store, ConnectivityIndex index) {
+        if (index.largest == NONE || index.getComponentCount() <= 1) {
+            return 0;
+        }
+        boolean[] joined = new boolean[index.getComponentCount()];
+        joined[index.largest] = true;
+        int target = index.cellsByComponent[index.offsets[index.largest]];
+        int targetRow = target / size;
+        int targetCol = target % size;
+        int carved = 0;
+
+        int[] pending = new int[16];
+        for (int k = 0; k < joined.length; k++) {
+            if (joined[k]) {
+                continue;
+            }
+            // components crossed on the way; they join once the path reaches a joined region
+            int pendingCount = 0;
+            pending[pendingCount++] = k;
+            int cell = index.cellsByComponent[index.offsets[k]];
+            int r = cell / size;
+            int c = cell % size;
+            while (r != targetRow || c != targetCol) {
+                if (c != targetCol) {
+                    c += c < targetCol ? 1 : -1;
+                } else {
+                    r += r < targetRow ? 1 : -1;
+                }
+                int label = index.labels[r * size + c];
+                if (label == NONE) {
+                    // the labels predate carving; an open cell here belongs to an earlier
+                    // corridor, and every corridor already leads to a joined region
+                    if (TileKind.isAccessible(store.kindAt(r, c))) {
+                        break;
+                    }
+                    store.setKind(r, c, TileKind.COMMON);
+                    carved++;
+                } else if (joined[label]) {
+                    break;
+                } else if (label != pending[pendingCount - 1]) {
+                    if (pendingCount == pending.length) {
+                        pending = Arrays.copyOf(pending, pendingCount * 2);
+                    }
+                    pending[pendingCount++] = label;
+                }
+            }
+            for (int i = 0; i < pendingCount; i++) {
+                joined[pending[i]] = true;
+            }
+        }
+        return carved;
+    }
+
+    /* ===================== Queries ===================== */
+
+    /**
+     * @return component label of (r, c), or {@link #NONE} if the cell is inaccessible
+     */
+    public int labelAt(int r, int c) {
+        return labels[r * size + c];
+    }
+
+    /**
+     * Check whether two cells are both accessible and connected to each other.
+     */
+    public boolean isConnected(int r1, int c1, int r2, int c2) {
+        int a = labelAt(r1, c1);
+        return a != NONE && a == labelAt(r2, c2);
+    }
+
+    public int getComponentCount() {
+        return componentSizes.length;
+    }
+
+    /**
+     * @return number of cells in the component containing (r, c); 0 for inaccessible cells
+     */
+    public int componentSizeAt(int r, int c) {
+        int label = labelAt(r, c);
+        return label == NONE ? 0 : componentSizes[label];
+    }
+
+    /**
+     * @return number of market tiles reachable from (r, c), including (r, c) itself
+     */
+    public int marketsInComponentAt(int r, int c) {
+        int label = labelAt(r, c);
+        return label == NONE ? 0 : componentMarkets[label];
+    }
+
+    /**
+     * @return label of the largest component, or {@link #NONE} if nothing is accessible
+     */
+    public int getLargestComponent() {
+        return largest;
+    }
+
+    public int getLargestComponentSize() {
+        return largest == NONE ? 0 : componentSizes[largest];
+    }
+
+    /**
+     * Pick a uniformly random cell of the largest component.
+     *
+     * @param rand random source
+     * @return row-major cell index (row * size + col), or -1 if nothing is accessible
+     */
+    public int randomCellInLargest(Random rand) {
+        if (largest == NONE) {
+            return -1;
+        }
+        return cellsByComponent[offsets[largest] + rand.nextInt(componentSizes[largest])];
+    }
+}
@@ -1,9 +1,5 @@
 package legends.game;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import legends.entities.heroes.Paladin;
 import legends.entities.heroes.Sorcerer;
@@ -25,7 +21,8 @@ import legends.items.Weapon;
 public class DataLoader {
     /**
      * Utility class for loading heroes, monsters, and items from the assignment data files.
-     * Each loader parses rows from text tables into domain objects.
+     * Each loader describes how the columns of one table map to a domain object; reading and
+     * tokenizing is shared in {@link TableReader}.
      */
     
     /* ====================== HEROES ====================== */
@@ -37,44 +34,9 @@ public class DataLoader {
      * @return list of Warrior objects
      */
     public static List<Warrior> loadWarriors(String path) {
-    List<Warrior> warriors = new ArrayList<>();
-        BufferedReader br = null;
-
-        try {
-            br = new BufferedReader(new FileReader(path));
-            String line;
-
-            // skip header
-            br.readLine();
-
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty()) {
-                    continue;
-                }
-                // split by whitespace (name has no spaces, uses _)
-                String[] parts = line.split("\\s+");
-                if (parts.length < 7) {
-                    continue; // malformed line
-                }
-
-                String name = parts[0];
-                double mana = Double.parseDouble(parts[1]);
-                double strength = Double.parseDouble(parts[2]);
-                double agility = Double.parseDouble(parts[3]);
-                double dexterity = Double.parseDouble(parts[4]);
-                double gold = Double.parseDouble(parts[5]);
-                double experience = Double.parseDouble(parts[6]);
-
-                Warrior w = new Warrior(name, mana, strength, agility, dexterity, gold, experience);
-                warriors.add(w);
-            }
-        } catch (IOException e) {
-            System.err.println("Error loading warriors from " + path + ": " + e.getMessage());
-        } finally {
-            closeQuietly(br);
-        }
-        return warriors;
+        // Name/mana/strength/agility/dexterity/starting gold/starting experience
+        return TableReader.read(path, "warriors", 7, row -> new Warrior(row.text(0),
+                row.doubleAt(1), row.doubleAt(2), row.doubleAt(3), row.doubleAt(4), row.doubleAt(5), row.doubleAt(6)));
     }
 
     /**
@@ -84,43 +46,8 @@ public class DataLoader {
      * @return list of Paladin objects
      */
     public static List<Paladin> loadPaladins(String path) {
-    List<Paladin> paladins = new ArrayList<>();
-        BufferedReader br = null;
-        
-        try {
-            br = new BufferedReader(new FileReader(path));
-            String line;
-
-            // skip header
-            br.readLine();
-
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty()) {
-                    continue;
-                }
-                String[] parts = line.split("\\s+");
-                if (parts.length < 7) {
-                    continue;
-                }
-
-                String name = parts[0];
-                double mana = Double.parseDouble(parts[1]);
-                double strength = Double.parseDouble(parts[2]);
-                double agility = Double.parseDouble(parts[3]);
-                double dexterity = Double.parseDouble(parts[4]);
-                double gold = Double.parseDouble(parts[5]);
-                double experience = Double.parseDouble(parts[6]);
-
-                Paladin p = new Paladin(name, mana, strength, agility, dexterity, gold, experience);
-                paladins.add(p);
-            }
-        } catch (IOException e) {
-            System.err.println("Error loading paladins from " + path + ": " + e.getMessage());
-        } finally {
-            closeQuietly(br);
-        }
-        return paladins;
+        return TableReader.read(path, "paladins", 7, row -> new Paladin(row.text(0),
+                row.doubleAt(1), row.doubleAt(2), row.doubleAt(3), row.doubleAt(4), row.doubleAt(5), row.doubleAt(6)));
     }
 
     /**
@@ -130,43 +57,8 @@ public class DataLoader {
      * @return list of Sorcerer objects
      */
     public static List<Sorcerer> loadSorcerers(String path) {
-    List<Sorcerer> sorcerers = new ArrayList<>();
-        BufferedReader br = null;
-
-        try {
-            br = new BufferedReader(new FileReader(path));
-            String line;
-
-            // skip header
-            br.readLine();
-
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty()) {
-                    continue;
-                }
-                String[] parts = line.split("\\s+");
-                if (parts.length < 7) {
-                    continue;
-                }
-
-                String name = parts[0];
-                double mana = Double.parseDouble(parts[1]);
-                double strength = Double.parseDouble(parts[2]);
-                double agility = Double.parseDouble(parts[3]);
-                double dexterity = Double.parseDouble(parts[4]);
-                double gold = Double.parseDouble(parts[5]);
-                double experience = Double.parseDouble(parts[6]);
-
-                Sorcerer s = new Sorcerer(name, mana, strength, agility, dexterity, gold, experience);
-                sorcerers.add(s);
-            }
-        } catch (IOException e) {
-            System.err.println("Error loading sorcerers from " + path + ": " + e.getMessage());
-        } finally {
-            closeQuietly(br);
-        }
-        return sorcerers;
+        return TableReader.read(path, "sorcerers", 7, row -> new Sorcerer(row.text(0),
+                row.doubleAt(1), row.doubleAt(2), row.doubleAt(3), row.doubleAt(4), row.doubleAt(5), row.doubleAt(6)));
     }
 
     /* ====================== MONSTERS ====================== */
@@ -178,42 +70,9 @@ public class DataLoader {
      * @return list of Dragon objects
      */
     public static List<Dragon> loadDragons(String path) {
-    List<Dragon> dragons = new ArrayList<>();
-        BufferedReader br = null;
-
-        try {
-            br = new BufferedReader(new FileReader(path));
-            String line;
-
-            // skip header
-            br.readLine();
-
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty()) {
-                    continue;
-                }
-                // Name/level/damage/defense/dodge chance
-                String[] parts = line.split("\\s+");
-                if (parts.length < 5) {
-                    continue;
-                }
-
-                String name = parts[0];
-                int level = Integer.parseInt(parts[1]);
-                double damage = Double.parseDouble(parts[2]);
-                double defense = Double.parseDouble(parts[3]);
-                double dodgeChance = Double.parseDouble(parts[4]);
-
-                Dragon d = new Dragon(name, level, damage, defense, dodgeChance);
-                dragons.add(d);
-            }
-        } catch (IOException e) {
-            System.err.println("Error loading dragons from " + path + ": " + e.getMessage());
-        } finally {
-            closeQuietly(br);
-        }
-        return dragons;
+        // Name/level/damage/defense/dodge chance
+        return TableReader.read(path, "dragons", 5, row -> new Dragon(row.text(0),
+                row.intAt(1), row.doubleAt(2), row.doubleAt(3), row.doubleAt(4)));
     }
 
     /**
@@ -223,42 +82,8 @@ public class DataLoader {
      * @return list of Spirit objects
      */
     public static List<Spirit> loadSpirits(String path) {
-    List<Spirit> spirits = new ArrayList<>();
-        BufferedReader br = null;
-        
-        try {
-            br = new BufferedReader(new FileReader(path));
-            String line;
-
-            // skip header
-            br.readLine();
-
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty()) {
-                    continue;
-                }
-                // Name/level/damage/defense/dodge chance
-                String[] parts = line.split("\\s+");
-                if (parts.length < 5) {
-                    continue;
-                }
-
-                String name = parts[0];
-                int level = Integer.parseInt(parts[1]);
-                double damage = Double.parseDouble(parts[2]);
-                double defense = Double.parseDouble(parts[3]);
-                double dodgeChance = Double.parseDouble(parts[4]);
-
-                Spirit s = new Spirit(name, level, damage, defense, dodgeChance);
-                spirits.add(s);
-            }
-        } catch (IOException e) {
-            System.err.println("Error loading spirits from " + path + ": " + e.getMessage());
-        } finally {
-            closeQuietly(br);
-        }
-        return spirits;
+        return TableReader.read(path, "spirits", 5, row -> new Spirit(row.text(0),
+                row.intAt(1), row.doubleAt(2), row.doubleAt(3), row.doubleAt(4)));
     }
 
     /**
@@ -268,42 +93,8 @@ public class DataLoader {
      * @return list of Exoskeleton objects
      */
     public static List<Exoskeleton> loadExoskeletons(String path) {
-    List<Exoskeleton> exos = new ArrayList<>();
-        BufferedReader br = null;
-
-        try {
-            br = new BufferedReader(new FileReader(path));
-            String line;
-
-            // skip header
-            br.readLine();
-
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty()) {
-                    continue;
-                }
-                // Name/level/damage/defense/dodge chance
-                String[] parts = line.split("\\s+");
-                if (parts.length < 5) {
-                    continue;
-                }
-
-                String name = parts[0];
-                int level = Integer.parseInt(parts[1]);
-                double damage = Double.parseDouble(parts[2]);
-                double defense = Double.parseDouble(parts[3]);
-                double dodgeChance = Double.parseDouble(parts[4]);
-
-                Exoskeleton e = new Exoskeleton(name, level, damage, defense, dodgeChance);
-                exos.add(e);
-            }
-        } catch (IOException e) {
-            System.err.println("Error loading exoskeletons from " + path + ": " + e.getMessage());
-        } finally {
-            closeQuietly(br);
-        }
-        return exos;
+        return TableReader.read(path, "exoskeletons", 5, row -> new Exoskeleton(row.text(0),
+                row.intAt(1), row.doubleAt(2), row.doubleAt(3), row.doubleAt(4)));
     }
 
     /* ====================== ITEMS ====================== */
@@ -315,42 +106,9 @@ public class DataLoader {
      * @return list of Weapon objects
      */
     public static List<Weapon> loadWeapons(String path) {
-    List<Weapon> weapons = new ArrayList<>();
-        BufferedReader br = null;
-
-        try {
-            br = new BufferedReader(new FileReader(path));
-            String line;
-
-            // skip header
-            br.readLine();
-
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty()) {
-                    continue;
-                }
-                // Name/cost/level/damage/required hands
-                String[] parts = line.split("\\s+");
-                if (parts.length < 5) {
-                    continue;
-                }
-
-                String name = parts[0];
-                int cost = Integer.parseInt(parts[1]);
-                int level = Integer.parseInt(parts[2]);
-                int damage = Integer.parseInt(parts[3]);
-                int hands = Integer.parseInt(parts[4]);
-
-                Weapon w = new Weapon(name, cost, level, damage, hands);
-                weapons.add(w);
-            }
-        } catch (IOException e) {
-            System.err.println("Error loading weapons from " + path + ": " + e.getMessage());
-        } finally {
-            closeQuietly(br);
-        }
-        return weapons;
+        // Name/cost/level/damage/required hands
+        return TableReader.read(path, "weapons", 5, row -> new Weapon(row.text(0),
+                row.intAt(1), row.intAt(2), row.intAt(3), row.intAt(4)));
     }
 
     /**
@@ -360,41 +118,9 @@ public class DataLoader {
      * @return list of Armor objects
      */
     public static List<Armor> loadArmors(String path) {
-    List<Armor> armors = new ArrayList<>();
-        BufferedReader br = null;
-
-        try {
-            br = new BufferedReader(new FileReader(path));
-            String line;
-
-            // skip header
-            br.readLine();
-
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty()) {
-                    continue;
-                }
-                // Name/cost/required level/damage reduction
-                String[] parts = line.split("\\s+");
-                if (parts.length < 4) {
-                    continue;
-                }
-
-                String name = parts[0];
-                int cost = Integer.parseInt(parts[1]);
-                int level = Integer.parseInt(parts[2]);
-                int reduction = Integer.parseInt(parts[3]);
-
-                Armor a = new Armor(name, cost, level, reduction);
-                armors.add(a);
-            }
-        } catch (IOException e) {
-            System.err.println("Error loading armors from " + path + ": " + e.getMessage());
-        } finally {
-            closeQuietly(br);
-        }
-        return armors;
+        // Name/cost/required level/damage reduction
+        return TableReader.read(path, "armors", 4, row -> new Armor(row.text(0),
+                row.intAt(1), row.intAt(2), row.intAt(3)));
     }
 
     /**
@@ -404,57 +130,15 @@ public class DataLoader {
      * @return list of Potion objects
      */
     public static List<Potion> loadPotions(String path) {
-    List<Potion> potions = new ArrayList<>();
-        BufferedReader br = null;
-
-        try {
-            br = new BufferedReader(new FileReader(path));
-            String line;
-
-            // skip header
-            br.readLine();
-
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty()) {
-                    continue;
-                }
-                // Name/cost/required level/attribute increase/attribute affected
-                String[] parts = line.split("\\s+");
-                if (parts.length < 5) {
-                    continue;
-                }
-
-                String name = parts[0];
-                int cost = Integer.parseInt(parts[1]);
-                int level = Integer.parseInt(parts[2]);
-                int increase = Integer.parseInt(parts[3]);
-
-                // attribute affected might have slashes/spaces, join the rest
-                StringBuilder attr = new StringBuilder();
-                for (int i = 4; i < parts.length; i++) {
-                    if (i > 4) {
-                        attr.append(" ");
-                    }
-                    attr.append(parts[i]);
-                }
-
-                String attrs = attr.toString();
-                String key = attrs.toUpperCase().trim();
-                Potion p;
-                switch (key) {
-                    case "HEALTH" -> p = new HealthPotion(name, cost, level, increase);
-                    case "MANA" -> p = new ManaPotion(name, cost, level, increase);
-                    default -> p = new AttributePotion(name, cost, level, increase, attrs);
-                }
-                potions.add(p);
-            }
-        } catch (IOException e) {
-            System.err.println("Error loading potions from " + path + ": " + e.getMessage());
-        } finally {
-            closeQuietly(br);
-        }
-        return potions;
+        // Name/cost/required level/attribute increase/attribute affected
+        return TableReader.read(path, "potions", 5, row -> {
+            String name = row.text(0);
+            int cost = row.intAt(1);
+            int level = row.intAt(2);
+            int increase = row.intAt(3);
+            // attribute affected might have slashes/spaces, join the rest
+            return potionOf(name, cost, level, increase, row.rest(4));
+        });
     }
 
     /**
@@ -464,41 +148,9 @@ public class DataLoader {
      * @return list of FireSpell objects
      */
     public static List<Spell> loadFireSpells(String path) {
-    List<Spell> spells = new ArrayList<>();
-        BufferedReader br = null;
-
-        try {
-            br = new BufferedReader(new FileReader(path));
-            String line;
-
-            // skip header
-            br.readLine();
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty()) {
-                    continue;
-                }
-                // Name/cost/required level/damage/mana cost
-                String[] parts = line.split("\\s+");
-                if (parts.length < 5) {
-                    continue;
-                }
-
-                String name = parts[0];
-                int cost = Integer.parseInt(parts[1]);
-                int level = Integer.parseInt(parts[2]);
-                int damage = Integer.parseInt(parts[3]);
-                int manaCost = Integer.parseInt(parts[4]);
-
-                Spell s = new FireSpell(name, cost, level, damage, manaCost);
-                spells.add(s);
-            }
-        } catch (IOException e) {
-            System.err.println("Error loading fire spells from " + path + ": " + e.getMessage());
-        } finally {
-            closeQuietly(br);
-        }
-        return spells;
+        // Name/cost/required level/damage/mana cost
+        return TableReader.read(path, "fire spells", 5, row -> new FireSpell(row.text(0),
+                row.intAt(1), row.intAt(2), row.intAt(3), row.intAt(4)));
     }
 
     /**
@@ -508,41 +160,8 @@ public class DataLoader {
      * @return list of IceSpell objects
      */
     public static List<Spell> loadIceSpells(String path) {
-    List<Spell> spells = new ArrayList<>();
-        BufferedReader br = null;
-
-        try {
-            br = new BufferedReader(new FileReader(path));
-            String line;
-
-            // skip header
-            br.readLine();
-
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty()) {
-                    continue;
-                }
-                String[] parts = line.split("\\s+");
-                if (parts.length < 5) {
-                    continue;
-                }
-
-                String name = parts[0];
-                int cost = Integer.parseInt(parts[1]);
-                int level = Integer.parseInt(parts[2]);
-                int damage = Integer.parseInt(parts[3]);
-                int manaCost = Integer.parseInt(parts[4]);
-
-                Spell s = new IceSpell(name, cost, level, damage, manaCost);
-                spells.add(s);
-            }
-        } catch (IOException e) {
-            System.err.println("Error loading ice spells from " + path + ": " + e.getMessage());
-        } finally {
-            closeQuietly(br);
-        }
-        return spells;
+        return TableReader.read(path, "ice spells", 5, row -> new IceSpell(row.text(0),
+                row.intAt(1), row.intAt(2), row.intAt(3), row.intAt(4)));
     }
 
     /**
@@ -552,52 +171,18 @@ public class DataLoader {
      * @return list of LightningSpell objects
      */
     public static List<Spell> loadLightningSpells(String path) {
-    List<Spell> spells = new ArrayList<>();
-        BufferedReader br = null;
-
-        try {
-            br = new BufferedReader(new FileReader(path));
-            String line;
-
-            // skip header
-            br.readLine();
-
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty()) {
-                    continue;
-                }
-                String[] parts = line.split("\\s+");
-                if (parts.length < 5) {
-                    continue;
-                }
-
-                String name = parts[0];
-                int cost = Integer.parseInt(parts[1]);
-                int level = Integer.parseInt(parts[2]);
-                int damage = Integer.parseInt(parts[3]);
-                int manaCost = Integer.parseInt(parts[4]);
-
-                Spell s = new LightningSpell(name, cost, level, damage, manaCost);
-                spells.add(s);
-            }
-        } catch (IOException e) {
-            System.err.println("Error loading lightning spells from " + path + ": " + e.getMessage());
-        } finally {
-            closeQuietly(br);
-        }
-        return spells;
+        return TableReader.read(path, "lightning spells", 5, row -> new LightningSpell(row.text(0),
+                row.intAt(1), row.intAt(2), row.intAt(3), row.intAt(4)));
     }
 
-    /* ====================== UTIL ====================== */
-
-    private static void closeQuietly(BufferedReader br) {
-        if (br != null) {
-            try {
-                br.close();
-            } catch (IOException e) {
-                // ignore
-            }
-        }
+    /**
+     * Build the potion subtype named by the attribute column.
+     */
+    static Potion potionOf(String name, int cost, int level, int increase, String attrs) {
+        return switch (attrs.toUpperCase()) {
+            case "HEALTH" -> new HealthPotion(name, cost, level, increase);
+            case "MANA" -> new ManaPotion(name, cost, level, increase);
+            default -> new AttributePotion(name, cost, level, increase, attrs);
+        };
     }
 }
@@ -1,9 +1,10 @@
 package legends.game;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Random;
 import java.util.Scanner;
+import java.util.function.UnaryOperator;
 import legends.entities.heroes.Hero;
 import legends.entities.heroes.HeroTeam;
 import legends.entities.heroes.Paladin;
@@ -12,7 +13,6 @@ import legends.entities.heroes.Warrior;
 import legends.entities.monsters.Dragon;
 import legends.entities.monsters.Exoskeleton;
 import legends.entities.monsters.Monster;
-import legends.entities.monsters.MonsterFactory;
 import legends.entities.monsters.Spirit;
 import legends.items.Armor;
 import legends.items.Inventory;
@@ -22,7 +22,9 @@ import legends.state.GameState;
 import legends.state.SaveLoadManager;
 import legends.utilities.AsciiArtRenderer;
 import legends.utilities.Color;
+import legends.utilities.RandomSource;
 import legends.utilities.SoundService;
+import legends.utilities.SplittableRandomSource;
 
 /**
  * Main class representing the Legends game.
@@ -32,17 +34,28 @@ public class Game extends BaseGame {
     private Board board;
     private static final int DEFAULT_BOARD_SIZE = 8;
     private static final int MIN_BOARD_SIZE = 5;
-    private static final int MAX_BOARD_SIZE = 12;
+    private static final int MAX_BOARD_SIZE = 1_000_000;
+    // larger boards are drawn as a window around the party plus a minimap
+    private static final int FULL_MAP_LIMIT = 12;
+    private static final int VIEWPORT_SIZE = 11;
+    // markets listed when auto-travel is not available
+    private static final int NEARBY_MARKET_RADIUS = 32;
+    private static final int MAX_NEARBY_MARKETS = 5;
     private final HeroTeam party;
     private boolean running;
     private final Scanner in;
-    private final Random rand;
-    private final SaveLoadManager saveLoadManager;
+    // every roll of the session: encounters, monster picks, dodges, flee attempts
+    private final RandomSource random;
+    private final StartupPipeline startup;
     private final SoundService sound;
     private boolean musicEnabled = true;
     private String currentLoopTrack = "intro_theme";
     private Difficulty difficulty = Difficulty.NORMAL;
 
+    // every clip the game plays, opened in the background at startup
+    private static final List<String> SOUNDS = List.of("intro_theme", "move_step", "market_enter",
+            "battle_start", "victory_fanfare", "defeat_loss", "flee_escape", "hero_down");
+
     private List<Warrior> allWarriors;
     private List<Paladin> allPaladins;
     private List<Sorcerer> allSorcerers;
@@ -50,14 +63,30 @@ public class Game extends BaseGame {
     private List<Dragon> allDragons;
     private List<Spirit> allSpirits;
     private List<Exoskeleton> allExoskeletons;
+    // catalog version the monster lists above were taken from; null until the first encounter
+    private GameCatalog monsterSource;
+    // alias tables over the monster lists above, rebuilt with them
+    private MonsterSampler monsterSampler;
+    // monsters of finished battles are recycled into later encounters
+    private final MonsterPool monsterPool = new MonsterPool(16);
+    private final List<Monster> encounterMonsters = new ArrayList<>();
+    private CatalogWatcher catalogWatcher;
 
     public Game() {
+        this(new SplittableRandomSource());
+    }
+
+    /**
+     * @param random source of the session's rolls; a seeded or replaying source repeats a run
+     */
+    public Game(RandomSource random) {
         this.party = new HeroTeam();
         this.in = new Scanner(System.in);
         this.running = false;
-        this.rand = new Random();
-        this.saveLoadManager = new SaveLoadManager();
+        this.random = random;
         this.sound = new SoundService();
+        // data, saves and sounds load in the background; each is joined when first needed
+        this.startup = new StartupPipeline(GameCatalog.DEFAULT_DATA_DIR, sound, SOUNDS);
     }
 
     /**
@@ -84,14 +113,34 @@ public class Game extends BaseGame {
     System.out.println(Color.success("Tip: Press V (or B) any time to toggle all sound on/off. Press Q anytime to quit.\n"));
 
         loadHeroData();
-        loadMonsterData();
         chooseHeroes();
+        // monsters are first needed in battle; they finished loading while heroes were picked
+        loadMonsterData();
 
         int size = askBoardSize();
-        board = new Board(size);
+        // storage layout (object, packed, or chunked) is picked from the size
+        board = new Board(size, startup.catalog());
+        configureView(board);
+        System.out.println(startup.report());
+        // edits to data/ are picked up by markets and encounters without a restart
+        catalogWatcher = CatalogWatcher.start(GameCatalog.DEFAULT_DATA_DIR);
         running = true;
     }
 
+    /**
+     * Small boards show the whole map; larger ones switch to a viewport centred on the party
+     * with a minimap, so each frame stays the same size however big the world is.
+     */
+    private void configureView(Board b) {
+        if (b.getSize() > FULL_MAP_LIMIT) {
+            b.setViewportSize(VIEWPORT_SIZE);
+            b.setMinimapEnabled(true);
+        } else {
+            b.setViewportSize(0);
+            b.setMinimapEnabled(false);
+        }
+    }
+
     /**
      * Ask the user for the desired board size.
      * @return the chosen board size
@@ -125,14 +174,14 @@ public class Game extends BaseGame {
     }
 
     /**
-     * Load hero data from files.
+     * Load hero data from the startup pipeline, waiting only for the hero tables.
+     * Heroes are copied because the party levels them up and spends their gold.
      */
     private void loadHeroData() {
-        String base = "data/";
-
-        allWarriors = DataLoader.loadWarriors(base + "heroes/Warriors.txt");
-        allPaladins = DataLoader.loadPaladins(base + "heroes/Paladins.txt");
-        allSorcerers = DataLoader.loadSorcerers(base + "heroes/Sorcerers.txt");
+        StartupPipeline.HeroData heroes = startup.heroes();
+        allWarriors = freshCopies(heroes.warriors, GameCatalog::copyOf);
+        allPaladins = freshCopies(heroes.paladins, GameCatalog::copyOf);
+        allSorcerers = freshCopies(heroes.sorcerers, GameCatalog::copyOf);
 
         System.out.println("Loaded heroes:");
         System.out.println("  Warriors: " + allWarriors.size());
@@ -142,14 +191,14 @@ public class Game extends BaseGame {
     }
 
     /**
-     * Load monster data from files.
+     * Load monster data from the startup pipeline, waiting only for the monster tables.
+     * Monsters are only ever cloned through Monster.copyAtLevel, so the prototypes are shared as-is.
      */
     private void loadMonsterData() {
-        String base = "data/";
-
-        allDragons = DataLoader.loadDragons(base + "monsters/Dragons.txt");
-        allSpirits = DataLoader.loadSpirits(base + "monsters/Spirits.txt");
-        allExoskeletons = DataLoader.loadExoskeletons(base + "monsters/Exoskeletons.txt");
+        StartupPipeline.MonsterData monsters = startup.monsters();
+        allDragons = monsters.dragons;
+        allSpirits = monsters.spirits;
+        allExoskeletons = monsters.exoskeletons;
 
         System.out.println("Loaded monsters:");
         System.out.println("  Dragons: " + allDragons.size());
@@ -158,6 +207,33 @@ public class Game extends BaseGame {
         System.out.println();
     }
 
+    /**
+     * Switch the monster lists to the newest catalog version if the data files were hot-reloaded.
+     * Battles already in progress keep the monsters they were created with.
+     */
+    private void refreshMonsterData() {
+        GameCatalog live = startup.catalog().latest();
+        if (live == monsterSource) {
+            return;
+        }
+        monsterSource = live;
+        allDragons = live.getDragons();
+        allSpirits = live.getSpirits();
+        allExoskeletons = live.getExoskeletons();
+        monsterSampler = new MonsterSampler(allDragons, allSpirits, allExoskeletons);
+    }
+
+    /**
+     * Copy each hero prototype so party progress never leaks back into the catalog.
+     */
+    private static <T extends Hero> List<T> freshCopies(List<T> prototypes, UnaryOperator<T> copier) {
+        List<T> copies = new ArrayList<>(prototypes.size());
+        for (T proto : prototypes) {
+            copies.add(copier.apply(proto));
+        }
+        return copies;
+    }
+
     /**
      * Let the user choose 1–3 heroes for their party.
      */
@@ -347,7 +423,7 @@ public class Game extends BaseGame {
     /**
      * Main game loop:
      * - display map
-     * - handle WASD / I / M / Q
+     * - handle WASD / I / M / T / Q
      */
     private void run() {
         if (party.isEmpty()) {
@@ -362,6 +438,9 @@ public class Game extends BaseGame {
 
         while (running) {
             board.display();
+            if (catalogWatcher != null) {
+                catalogWatcher.printNotices();
+            }
             printControls();
             System.out.print("Enter command: ");
 
@@ -379,6 +458,7 @@ public class Game extends BaseGame {
                 case 'I' -> showPartyInfo();
                 case 'E' -> openPartyManagementMenu();
                 case 'M' -> enterMarketIfPossible();
+                case 'T' -> travelToNearestMarket();
                 case 'V' -> toggleSound();
                 case 'B' -> toggleSound();
                 case 'P' -> saveGameMenu();
@@ -391,6 +471,10 @@ public class Game extends BaseGame {
 					System.out.println(Color.error("Unknown command."));
             }
         }
+        board.releaseDisplay();
+        if (catalogWatcher != null) {
+            catalogWatcher.close();
+        }
     }
 
     /**
@@ -399,7 +483,7 @@ public class Game extends BaseGame {
     private void printControls() {
 		System.out.println(Color.title("Controls: ") +
         Color.CYAN + "W/A/S/D" + Color.RESET + " to move | " +
-        "I: info | E: equip/use | M: market | V/B: all sound on/off | P: save | O: load | Q: quit");
+        "I: info | E: equip/use | M: market | T: travel to market | V/B: all sound on/off | P: save | O: load | Q: quit");
     }
 
     private void toggleSound() {
@@ -430,7 +514,7 @@ public class Game extends BaseGame {
         if (path.isEmpty()) {
             path = "saves/latest.dat";
         }
-        boolean ok = saveLoadManager.save(state, path);
+        boolean ok = startup.saves().save(state, path);
         System.out.println(ok ? Color.success("Game saved to " + path) : Color.error("Failed to save."));
     }
 
@@ -440,15 +524,20 @@ public class Game extends BaseGame {
         if (path.isEmpty()) {
             path = "saves/latest.dat";
         }
-        SaveLoadManager.SaveResult result = saveLoadManager.load(path);
+        SaveLoadManager.SaveResult result = startup.saves().load(path);
         if (result == null || result.getBoard() == null || result.getHeroes() == null || result.getHeroes().isEmpty()) {
             System.out.println(Color.error("Failed to load game from " + path));
             return;
         }
+        board.releaseDisplay();
         this.board = result.getBoard();
+        configureView(board);
         this.difficulty = result.getDifficulty();
         this.party.replaceWith(result.getHeroes());
         System.out.println(Color.success("Game loaded: " + result.getHeroes().size() + " heroes, board size " + board.getSize()));
+        if (result.isStockChanged()) {
+            System.out.println(Color.warning("Item data changed since this save; markets you never opened are restocked from the current tables."));
+        }
     }
     /**
      * Open an out-of-battle party management menu for equipment and potions.
@@ -473,6 +562,7 @@ public class Game extends BaseGame {
             }
 
             if (idx == 0) {
+                returnToMap();
                 return;
             }
             if (idx < 1 || idx > party.size()) {
@@ -546,6 +636,9 @@ public class Game extends BaseGame {
             case "Q" -> {
                 System.out.println(Color.warning("Quitting game. Goodbye!"));
                 running = false;
+                if (board != null) {
+                    board.releaseDisplay();
+                }
                 System.exit(0);
                 return true;
             }
@@ -590,7 +683,10 @@ public class Game extends BaseGame {
                 continue;
             }
             Weapon chosen = weapons.get(idx - 1);
-            hero.equipWeapon(chosen);
+            if (!hero.equipWeapon(chosen)) {
+                System.out.println(Color.error(chosen.getName() + " is broken and cannot be equipped until repaired."));
+                return;
+            }
             if (chosen.getHandsRequired() == 1) {
                 System.out.print("Use two hands for extra damage? (y/n): ");
                 String grip = in.nextLine().trim().toLowerCase();
@@ -636,7 +732,10 @@ public class Game extends BaseGame {
                 continue;
             }
             Armor chosen = armors.get(idx - 1);
-            hero.equipArmor(chosen);
+            if (!hero.equipArmor(chosen)) {
+                System.out.println(Color.error(chosen.getName() + " is broken and cannot be equipped until repaired."));
+                return;
+            }
             System.out.println(Color.success(hero.getDisplayName() + " equipped " + chosen.getName() + "."));
             return;
         }
@@ -676,15 +775,19 @@ public class Game extends BaseGame {
             return;
         }
         Potion chosen = potions.get(idx - 1);
-        hero.usePotion(chosen);
+        if (!hero.usePotion(chosen)) {
+            System.out.println(Color.warning("That potion is empty and crumbles to dust."));
+            return;
+        }
         System.out.println(Color.success(hero.getDisplayName() + " used " + chosen.getName() + "."));
     }
 
     /**
      * Handle movement commands.
      * @param direction the direction character ('W', 'A', 'S', 'D')
+     * @return true if the party moved and was not stopped by a battle
      */
-    private void handleMove(char direction) {
+    private boolean handleMove(char direction) {
         boolean moved;
         switch (direction) {
             case 'W' -> moved = board.moveUp();
@@ -692,12 +795,12 @@ public class Game extends BaseGame {
             case 'S' -> moved = board.moveDown();
             case 'D' -> moved = board.moveRight();
             default -> {
-                return;
+                return false;
             }
         }
 
         if (!moved) {
-            return;
+            return false;
         }
 
     sound.playEffect("move_step");
@@ -706,9 +809,75 @@ public class Game extends BaseGame {
         if (tile.hasMarket()) {
         sound.playEffect("market_enter");
 		System.out.println(Color.success("You stepped on a MARKET tile. Press 'M' to enter."));
-        } else {
+            return true;
+        }
 			System.out.println(Color.warning("You are on a COMMON tile."));
-            maybeTriggerBattle();
+        return !maybeTriggerBattle();
+    }
+
+    /**
+     * Walk the party along the shortest route to the nearest market, one step at a time.
+     * Every step can still trigger an encounter; the walk stops after any battle.
+     */
+    private void travelToNearestMarket() {
+        PathfindingService paths = board.getPathfinding();
+        if (paths == null) {
+			System.out.println(Color.error("Auto-travel is not available on this map."));
+            showNearbyMarkets();
+            return;
+        }
+        int[] path = paths.pathToNearestMarket(board.getPartyRow(), board.getPartyCol());
+        if (path == null) {
+			System.out.println(Color.error("No market can be reached from here."));
+            return;
+        }
+        if (path.length == 0) {
+			System.out.println(Color.warning("You are already on a market tile."));
+            return;
+        }
+		System.out.println(Color.success("Traveling to the nearest market (" + path.length + " steps)..."));
+        int size = board.getSize();
+        for (int cell : path) {
+            int dr = cell / size - board.getPartyRow();
+            int dc = cell % size - board.getPartyCol();
+            char direction = dr < 0 ? 'W' : dr > 0 ? 'S' : dc < 0 ? 'A' : 'D';
+            if (!handleMove(direction) || !running) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * List the known markets within {@link #NEARBY_MARKET_RADIUS} tiles, closest first, or the
+     * nearest one if none is that close.
+     */
+    private void showNearbyMarkets() {
+        int row = board.getPartyRow();
+        int col = board.getPartyCol();
+        MarketIndex markets = board.getMarketIndex();
+        List<Long> nearby = new ArrayList<>();
+        markets.forEachWithin(row, col, NEARBY_MARKET_RADIUS, nearby::add);
+        if (nearby.isEmpty()) {
+            long nearest = markets.nearest(row, col);
+            if (nearest >= 0) {
+                int r = MarketIndex.rowOf(nearest);
+                int c = MarketIndex.colOf(nearest);
+                int distance = Math.abs(r - row) + Math.abs(c - col);
+				System.out.println(Color.warning("Nearest known market: (" + r + ", " + c + "), " + distance + " tiles away."));
+            }
+            return;
+        }
+        nearby.sort(Comparator.comparingInt((Long p) -> Math.abs(MarketIndex.rowOf(p) - row) + Math.abs(MarketIndex.colOf(p) - col))
+                .thenComparingLong(p -> p));
+		System.out.println(Color.warning("Known markets within " + NEARBY_MARKET_RADIUS + " tiles:"));
+        for (int i = 0; i < Math.min(nearby.size(), MAX_NEARBY_MARKETS); i++) {
+            int r = MarketIndex.rowOf(nearby.get(i));
+            int c = MarketIndex.colOf(nearby.get(i));
+            int distance = Math.abs(r - row) + Math.abs(c - col);
+            System.out.println("  (" + r + ", " + c + "), " + distance + " tiles away");
+        }
+        if (nearby.size() > MAX_NEARBY_MARKETS) {
+            System.out.println("  ... and " + (nearby.size() - MAX_NEARBY_MARKETS) + " more");
         }
     }
 
@@ -723,6 +892,15 @@ public class Game extends BaseGame {
 		System.out.println(Color.title("=================="));
     }
 
+    /**
+     * Called when a view that took over the terminal (market, battle, party menu) hands control
+     * back to the map. Those views write freely to the screen, so the next frame is drawn in full
+     * instead of as a diff against cells that may no longer be shown.
+     */
+    private void returnToMap() {
+        board.invalidateDisplay();
+    }
+
     /**
      * Enter the market if the current tile has one.
      */
@@ -736,16 +914,18 @@ public class Game extends BaseGame {
     sound.playEffect("market_enter");
         if (tile instanceof MarketTile marketTile) {
             marketTile.getMarket().run(party.asList(), in);
+            returnToMap();
         }
     }
 
     /**
      * Maybe trigger a battle when on a common tile.
+     * @return true if a battle was fought
      */
-    private void maybeTriggerBattle() {
+    private boolean maybeTriggerBattle() {
         double encounterChance = 0.3; // 30%
-        if (Math.random() >= encounterChance) {
-            return;
+        if (random.nextDouble() >= encounterChance) {
+            return false;
         }
 
          System.out.println(Color.warning("A group of monsters appears!"));
@@ -753,7 +933,7 @@ public class Game extends BaseGame {
         List<Monster> encounter = createEncounter();
         if (encounter.isEmpty()) {
             System.out.println("No monsters available to fight.");
-            return;
+            return false;
         }
 
         boolean resumeMusic = musicEnabled && sound.isLoopingActive();
@@ -761,8 +941,11 @@ public class Game extends BaseGame {
             sound.stopLoop();
         }
 
-        Battle battle = new Battle(party.asList(), encounter, sound);
+        Battle battle = new Battle(party.asList(), encounter, in, sound, random);
         battle.start();
+        returnToMap();
+        monsterPool.releaseAll(encounter);
+        encounter.clear();
 
         if (resumeMusic && running) {
             currentLoopTrack = "background_music";
@@ -774,14 +957,18 @@ public class Game extends BaseGame {
 			System.out.println(Color.error("Your entire party has fallen..."));
             running = false;
         }
+        return true;
     }
 
     /**
      * Create a monster encounter scaled to the party.
      * Simple rule: one monster per hero, at max hero level.
+     * The returned list is reused by the next encounter.
      */
     private List<Monster> createEncounter() {
-    List<Monster> result = new ArrayList<>();
+        List<Monster> result = encounterMonsters;
+        result.clear();
+        refreshMonsterData();
 
         if ((allDragons == null || allDragons.isEmpty()) &&
             (allSpirits == null || allSpirits.isEmpty()) &&
@@ -820,46 +1007,10 @@ public class Game extends BaseGame {
      * Create a single random monster for a given level
      * by sampling from loaded monsters and building a fresh instance.
      * @param level the desired monster level
-     * @return a new Monster instance, or null if none could be created
+     * @return a new Monster instance, or null if no monster is allowed at this level
      */
     private Monster createRandomMonsterForLevel(int level) {
-        // 0 = Dragon, 1 = Spirit, 2 = Exoskeleton
-        for (int attempts = 0; attempts < 10; attempts++) {
-            int type = rand.nextInt(3);
-
-            switch (type) {
-                case 0 -> {
-                    if (allDragons != null && !allDragons.isEmpty()) {
-                        Dragon protoD = allDragons.get(rand.nextInt(allDragons.size()));
-                        if (level <= 2 && (protoD.getBaseDamage() > 500 || protoD.getDefense() > 600)) {
-                            continue; // pick another monster type
-                        }
-                        return MonsterFactory.cloneAtLevel(protoD, level);
-                    }
-                }
-                case 1 -> {
-                    if (allSpirits != null && !allSpirits.isEmpty()) {
-                        Spirit protoS = allSpirits.get(rand.nextInt(allSpirits.size()));
-                        if (level <= 2 && (protoS.getBaseDamage() > 500 || protoS.getDefense() > 600)) {
-                            continue;
-                        }
-                        return MonsterFactory.cloneAtLevel(protoS, level);
-                    }
-                }
-                default -> {
-                    if (allExoskeletons != null && !allExoskeletons.isEmpty()) {
-                        Exoskeleton protoE = allExoskeletons.get(rand.nextInt(allExoskeletons.size()));
-                        if (level <= 2 && (protoE.getBaseDamage() > 500 || protoE.getDefense() > 600)) {
-                            continue;
-                        }
-                        return MonsterFactory.cloneAtLevel(protoE, level);
-                    }
-                }
-            }
-        }
-
-        // Fallback: no monsters available of selected types
-        return null;
+        return monsterSampler.sample(level, random, monsterPool);
     }
 
     /**
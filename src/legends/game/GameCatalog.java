@@ -0,0 +1,503 @@
+package legends.game;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import legends.entities.heroes.Hero;
+import legends.entities.heroes.Paladin;
+import legends.entities.heroes.Sorcerer;
+import legends.entities.heroes.Warrior;
+import legends.entities.monsters.Dragon;
+import legends.entities.monsters.Exoskeleton;
+import legends.entities.monsters.Monster;
+import legends.entities.monsters.Spirit;
+import legends.items.Armor;
+import legends.items.FireSpell;
+import legends.items.IceSpell;
+import legends.items.Item;
+import legends.items.ItemDefinition;
+import legends.items.ItemIndex;
+import legends.items.ItemRegistry;
+import legends.items.LightningSpell;
+import legends.items.Potion;
+import legends.items.Spell;
+import legends.items.Weapon;
+
+/**
+ * Immutable snapshot of every hero, monster, and item definition in the data files.
+ * <p>
+ * The catalog is parsed once per process and shared by markets, save/load, and the game loop,
+ * so the text tables are no longer re-read for every market tile. All lists are unmodifiable and
+ * the instance is safe to share between threads. Entries are prototypes: use the {@code copyOf}
+ * helpers before handing one to a player, since heroes and items carry mutable state.
+ * <p>
+ * The default catalog can be hot-reloaded: {@link CatalogWatcher} re-parses an edited table and
+ * publishes a new version with an atomic reference swap. Earlier versions stay valid for whoever
+ * holds them, and {@link #latest()} moves a holder to the newest version of the same catalog.
+ */
+public final class GameCatalog {
+
+    public static final String DEFAULT_DATA_DIR = "data/";
+
+    // table files, relative to the data directory
+    static final String WARRIORS_FILE = "heroes/Warriors.txt";
+    static final String PALADINS_FILE = "heroes/Paladins.txt";
+    static final String SORCERERS_FILE = "heroes/Sorcerers.txt";
+    static final String DRAGONS_FILE = "monsters/Dragons.txt";
+    static final String SPIRITS_FILE = "monsters/Spirits.txt";
+    static final String EXOSKELETONS_FILE = "monsters/Exoskeletons.txt";
+    static final String WEAPONS_FILE = "items/Weaponry.txt";
+    static final String ARMORS_FILE = "items/Armory.txt";
+    static final String POTIONS_FILE = "items/Potions.txt";
+    static final String FIRE_SPELLS_FILE = "items/FireSpells.txt";
+    static final String ICE_SPELLS_FILE = "items/IceSpells.txt";
+    static final String LIGHTNING_SPELLS_FILE = "items/LightningSpells.txt";
+
+    /** Every table the catalog is built from. */
+    static final List<String> SOURCE_FILES = List.of(
+            WARRIORS_FILE, PALADINS_FILE, SORCERERS_FILE,
+            DRAGONS_FILE, SPIRITS_FILE, EXOSKELETONS_FILE,
+            WEAPONS_FILE, ARMORS_FILE, POTIONS_FILE,
+            FIRE_SPELLS_FILE, ICE_SPELLS_FILE, LIGHTNING_SPELLS_FILE);
+
+    private static final AtomicReference<GameCatalog> DEFAULT = new AtomicReference<>();
+
+    // versions reloaded from the same catalog share a lineage
+    private final Object lineage;
+    private final long version;
+
+    private final List<Warrior> warriors;
+    private final List<Paladin> paladins;
+    private final List<Sorcerer> sorcerers;
+
+    private final List<Dragon> dragons;
+    private final List<Spirit> spirits;
+    private final List<Exoskeleton> exoskeletons;
+
+    private final List<Weapon> weapons;
+    private final List<Armor> armors;
+    private final List<Potion> potions;
+    private final List<Spell> spells;
+    // built on first use, so a compiled catalog's items stay undecoded until needed
+    private volatile ItemRegistry itemRegistry;
+    private volatile ItemIndexes itemIndexes;
+    // 0 until first computed; racing computations produce the same value
+    private volatile long stockFingerprint;
+    // built on first use without locking; racing builders produce equal registries
+    private volatile PrototypeRegistry<Hero> heroPrototypes;
+    private volatile PrototypeRegistry<Monster> monsterPrototypes;
+
+    GameCatalog(List<Warrior> warriors, List<Paladin> paladins, List<Sorcerer> sorcerers,
+                        List<Dragon> dragons, List<Spirit> spirits, List<Exoskeleton> exoskeletons,
+                        List<Weapon> weapons, List<Armor> armors, List<Potion> potions, List<Spell> spells) {
+        this(new Object(), 1, warriors, paladins, sorcerers, dragons, spirits, exoskeletons, weapons, armors, potions, spells);
+    }
+
+    private GameCatalog(Object lineage, long version,
+                        List<Warrior> warriors, List<Paladin> paladins, List<Sorcerer> sorcerers,
+                        List<Dragon> dragons, List<Spirit> spirits, List<Exoskeleton> exoskeletons,
+                        List<Weapon> weapons, List<Armor> armors, List<Potion> potions, List<Spell> spells) {
+        this.lineage = lineage;
+        this.version = version;
+        this.warriors = immutable(warriors);
+        this.paladins = immutable(paladins);
+        this.sorcerers = immutable(sorcerers);
+        this.dragons = immutable(dragons);
+        this.spirits = immutable(spirits);
+        this.exoskeletons = immutable(exoskeletons);
+        this.weapons = immutable(weapons);
+        this.armors = immutable(armors);
+        this.potions = immutable(potions);
+        this.spells = immutable(spells);
+    }
+
+    /**
+     * Get the process-wide catalog, loading it from {@link #DEFAULT_DATA_DIR} on first use.
+     *
+     * @return shared catalog instance
+     */
+    public static GameCatalog getDefault() {
+        GameCatalog current = DEFAULT.get();
+        if (current == null) {
+            synchronized (GameCatalog.class) {
+                current = DEFAULT.get();
+                if (current == null) {
+                    current = load(DEFAULT_DATA_DIR);
+                    DEFAULT.set(current);
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Adopt a catalog loaded elsewhere (e.g. by the startup pipeline) as the process-wide
+     * default, unless a default was already loaded.
+     *
+     * @return the default catalog after the call
+     */
+    static GameCatalog installDefault(GameCatalog catalog) {
+        DEFAULT.compareAndSet(null, catalog);
+        return DEFAULT.get();
+    }
+
+    /**
+     * Re-parse one table of the default catalog and publish the result as a new version.
+     * Parsing happens before the swap, so readers never see a half-built catalog.
+     *
+     * @param baseDir data directory the default catalog was loaded from
+     * @param file    table path relative to the data directory, e.g. {@link #DRAGONS_FILE}
+     * @return the published version, or null if there is no default yet or the file is not a table
+     * @throws IOException if the file has no rows or any malformed row; the current table is kept,
+     *                     so a half-saved edit never empties or trims it
+     */
+    static GameCatalog reloadDefault(String baseDir, String file) throws IOException {
+        while (true) {
+            GameCatalog current = DEFAULT.get();
+            if (current == null) {
+                return null;
+            }
+            GameCatalog next = current.withReloaded(baseDir, file);
+            if (next == null) {
+                return null;
+            }
+            if (DEFAULT.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Load the catalog for the given directory. A compiled {@code catalog.bin} is used when it is
+     * newer than every text table; otherwise the text tables are parsed.
+     *
+     * @param baseDir directory containing heroes/, monsters/ and items/ (with trailing slash)
+     * @return freshly loaded catalog
+     */
+    public static GameCatalog load(String baseDir) {
+        GameCatalog compiled = CompiledCatalog.loadIfFresh(baseDir);
+        return compiled != null ? compiled : parse(baseDir);
+    }
+
+    /**
+     * Parse every data table under the given directory into a new catalog.
+     *
+     * @param baseDir directory containing heroes/, monsters/ and items/ (with trailing slash)
+     * @return freshly parsed catalog
+     */
+    public static GameCatalog parse(String baseDir) {
+        List<Spell> allSpells = new ArrayList<>();
+        allSpells.addAll(DataLoader.loadFireSpells(baseDir + FIRE_SPELLS_FILE));
+        allSpells.addAll(DataLoader.loadIceSpells(baseDir + ICE_SPELLS_FILE));
+        allSpells.addAll(DataLoader.loadLightningSpells(baseDir + LIGHTNING_SPELLS_FILE));
+
+        return new GameCatalog(
+                DataLoader.loadWarriors(baseDir + WARRIORS_FILE),
+                DataLoader.loadPaladins(baseDir + PALADINS_FILE),
+                DataLoader.loadSorcerers(baseDir + SORCERERS_FILE),
+                DataLoader.loadDragons(baseDir + DRAGONS_FILE),
+                DataLoader.loadSpirits(baseDir + SPIRITS_FILE),
+                DataLoader.loadExoskeletons(baseDir + EXOSKELETONS_FILE),
+                DataLoader.loadWeapons(baseDir + WEAPONS_FILE),
+                DataLoader.loadArmors(baseDir + ARMORS_FILE),
+                DataLoader.loadPotions(baseDir + POTIONS_FILE),
+                allSpells);
+    }
+
+    // compiled tables are already read-only and decode on access, so copying them would defeat that
+    private static <T> List<T> immutable(List<T> list) {
+        return list instanceof CompiledCatalog.RecordList ? list : List.copyOf(list);
+    }
+
+    private GameCatalog withReloaded(String baseDir, String file) throws IOException {
+        String path = baseDir + file;
+        List<Warrior> w = warriors;
+        List<Paladin> p = paladins;
+        List<Sorcerer> so = sorcerers;
+        List<Dragon> d = dragons;
+        List<Spirit> sp = spirits;
+        List<Exoskeleton> e = exoskeletons;
+        List<Weapon> we = weapons;
+        List<Armor> a = armors;
+        List<Potion> po = potions;
+        List<Spell> sl = spells;
+        switch (file) {
+            case WARRIORS_FILE -> w = checked(DataLoader.loadWarriors(path));
+            case PALADINS_FILE -> p = checked(DataLoader.loadPaladins(path));
+            case SORCERERS_FILE -> so = checked(DataLoader.loadSorcerers(path));
+            case DRAGONS_FILE -> d = checked(DataLoader.loadDragons(path));
+            case SPIRITS_FILE -> sp = checked(DataLoader.loadSpirits(path));
+            case EXOSKELETONS_FILE -> e = checked(DataLoader.loadExoskeletons(path));
+            case WEAPONS_FILE -> we = checked(DataLoader.loadWeapons(path));
+            case ARMORS_FILE -> a = checked(DataLoader.loadArmors(path));
+            case POTIONS_FILE -> po = checked(DataLoader.loadPotions(path));
+            case FIRE_SPELLS_FILE -> sl = replaceSpells(FireSpell.class, checked(DataLoader.loadFireSpells(path)));
+            case ICE_SPELLS_FILE -> sl = replaceSpells(IceSpell.class, checked(DataLoader.loadIceSpells(path)));
+            case LIGHTNING_SPELLS_FILE -> sl = replaceSpells(LightningSpell.class, checked(DataLoader.loadLightningSpells(path)));
+            default -> {
+                return null;
+            }
+        }
+        return new GameCatalog(lineage, version + 1, w, p, so, d, sp, e, we, a, po, sl);
+    }
+
+    /**
+     * Accept a reloaded table only if it parsed cleanly and is not empty.
+     */
+    private static <T> List<T> checked(List<T> rows) throws IOException {
+        int problems = TableReader.problemCount(rows);
+        if (problems > 0) {
+            throw new IOException(problems + (problems == 1 ? " malformed row" : " malformed rows"));
+        }
+        if (rows.isEmpty()) {
+            throw new IOException("no rows");
+        }
+        return rows;
+    }
+
+    /**
+     * Swap the spells of one school, keeping the fire, ice, lightning order of a fresh parse.
+     */
+    private List<Spell> replaceSpells(Class<? extends Spell> school, List<Spell> reloaded) {
+        List<Spell> out = new ArrayList<>();
+        for (Class<?> k : List.of(FireSpell.class, IceSpell.class, LightningSpell.class)) {
+            if (k == school) {
+                out.addAll(reloaded);
+                continue;
+            }
+            for (Spell s : spells) {
+                if (s.getClass() == k) {
+                    out.add(s);
+                }
+            }
+        }
+        return out;
+    }
+
+    /* ====================== Versions ====================== */
+
+    /**
+     * @return 1 for a freshly loaded catalog, incremented by every hot reload
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Get the newest published version of this catalog. Catalogs that are not (or no longer)
+     * the process default are returned unchanged.
+     *
+     * @return the current default if it was reloaded from this catalog, otherwise this
+     */
+    public GameCatalog latest() {
+        GameCatalog current = DEFAULT.get();
+        return current != null && current.lineage == lineage && current.version > version ? current : this;
+    }
+
+    /* ====================== Accessors ====================== */
+
+    public List<Warrior> getWarriors() {
+        return warriors;
+    }
+
+    public List<Paladin> getPaladins() {
+        return paladins;
+    }
+
+    public List<Sorcerer> getSorcerers() {
+        return sorcerers;
+    }
+
+    public List<Dragon> getDragons() {
+        return dragons;
+    }
+
+    public List<Spirit> getSpirits() {
+        return spirits;
+    }
+
+    public List<Exoskeleton> getExoskeletons() {
+        return exoskeletons;
+    }
+
+    public List<Weapon> getWeapons() {
+        return weapons;
+    }
+
+    public List<Armor> getArmors() {
+        return armors;
+    }
+
+    public List<Potion> getPotions() {
+        return potions;
+    }
+
+    public List<Spell> getSpells() {
+        return spells;
+    }
+
+    /**
+     * Get the id index of every item in this catalog.
+     *
+     * @return item registry of this catalog version
+     */
+    public ItemRegistry getItemRegistry() {
+        ItemRegistry registry = itemRegistry;
+        if (registry == null) {
+            synchronized (this) {
+                registry = itemRegistry;
+                if (registry == null) {
+                    registry = new ItemRegistry(weapons, armors, potions, spells);
+                    itemRegistry = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * Get every hero prototype of this catalog keyed by hero name.
+     *
+     * @return hero prototypes; create party members with {@link Hero#copy()}
+     */
+    public PrototypeRegistry<Hero> getHeroPrototypes() {
+        PrototypeRegistry<Hero> registry = heroPrototypes;
+        if (registry == null) {
+            registry = new PrototypeRegistry<>(Hero::getName, warriors, paladins, sorcerers);
+            heroPrototypes = registry;
+        }
+        return registry;
+    }
+
+    /**
+     * Get every monster prototype of this catalog keyed by monster name.
+     *
+     * @return monster prototypes; spawn monsters with {@link Monster#copyAtLevel(int)}
+     */
+    public PrototypeRegistry<Monster> getMonsterPrototypes() {
+        PrototypeRegistry<Monster> registry = monsterPrototypes;
+        if (registry == null) {
+            registry = new PrototypeRegistry<>(Monster::getName, dragons, spirits, exoskeletons);
+            monsterPrototypes = registry;
+        }
+        return registry;
+    }
+
+    /**
+     * Level and price index over this catalog's weapons, for queries such as "usable at level L
+     * and affordable with G gold" that would otherwise scan the whole table.
+     */
+    public ItemIndex<Weapon> getWeaponIndex() {
+        return itemIndexes().weapons;
+    }
+
+    /**
+     * Level and price index over this catalog's armors. See {@link #getWeaponIndex()}.
+     */
+    public ItemIndex<Armor> getArmorIndex() {
+        return itemIndexes().armors;
+    }
+
+    private ItemIndexes itemIndexes() {
+        ItemIndexes indexes = itemIndexes;
+        if (indexes == null) {
+            synchronized (this) {
+                indexes = itemIndexes;
+                if (indexes == null) {
+                    indexes = new ItemIndexes(weapons, armors);
+                    itemIndexes = indexes;
+                }
+            }
+        }
+        return indexes;
+    }
+
+    // one index per equipment type, built together on first use
+    private static final class ItemIndexes {
+        final ItemIndex<Weapon> weapons;
+        final ItemIndex<Armor> armors;
+
+        ItemIndexes(List<Weapon> weapons, List<Armor> armors) {
+            this.weapons = new ItemIndex<>(weapons);
+            this.armors = new ItemIndex<>(armors);
+        }
+    }
+
+    /**
+     * Fingerprint of the item tables market stock is drawn from: every weapon, armor, potion and
+     * spell definition in table order. A market restocked from its seed gets the same items only
+     * from a catalog with the same fingerprint, so saves record it to notice data edits.
+     *
+     * @return non-zero fingerprint, equal across runs for equal tables
+     */
+    public long getStockFingerprint() {
+        long fingerprint = stockFingerprint;
+        if (fingerprint == 0) {
+            fingerprint = 17;
+            fingerprint = fingerprintOf(fingerprint, weapons);
+            fingerprint = fingerprintOf(fingerprint, armors);
+            fingerprint = fingerprintOf(fingerprint, potions);
+            fingerprint = fingerprintOf(fingerprint, spells);
+            if (fingerprint == 0) {
+                fingerprint = 1;
+            }
+            stockFingerprint = fingerprint;
+        }
+        return fingerprint;
+    }
+
+    private static long fingerprintOf(long fingerprint, List<? extends Item> items) {
+        fingerprint = fingerprint * 31 + items.size();
+        for (Item item : items) {
+            ItemDefinition d = item.getDefinition();
+            // the class matters too: it decides a spell's effect
+            fingerprint = fingerprint * 31 + item.getClass().getName().hashCode();
+            fingerprint = fingerprint * 31 + Objects.hash(d.getName(), d.getCost(), d.getRequiredLevel(),
+                    d.getMaxUses(), d.getDamage(), d.getHandsRequired(), d.getDamageReduction(),
+                    d.getEffectAmount(), d.getAffectedAttributes(), d.getManaCost());
+        }
+        return fingerprint;
+    }
+
+    /* ====================== Copies ====================== */
+
+    /**
+     * Create a fresh level-1 hero with the same starting stats as the prototype.
+     *
+     * @param proto hero prototype from this catalog
+     * @return new hero instance, or null if proto is null
+     */
+    public static Hero copyOf(Hero proto) {
+        return proto == null ? null : proto.copy();
+    }
+
+    public static Warrior copyOf(Warrior w) {
+        return w == null ? null : w.copy();
+    }
+
+    public static Paladin copyOf(Paladin p) {
+        return p == null ? null : p.copy();
+    }
+
+    public static Sorcerer copyOf(Sorcerer s) {
+        return s == null ? null : s.copy();
+    }
+
+    public static Weapon copyOf(Weapon proto) {
+        return proto == null ? null : proto.copy();
+    }
+
+    public static Armor copyOf(Armor proto) {
+        return proto == null ? null : proto.copy();
+    }
+
+    public static Potion copyOf(Potion proto) {
+        return proto == null ? null : proto.copy();
+    }
+
+    public static Spell copyOf(Spell proto) {
+        return proto == null ? null : proto.copy();
+    }
+}
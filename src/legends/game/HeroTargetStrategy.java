@@ -2,10 +2,22 @@ package legends.game;
 
 import java.util.List;
 import legends.entities.heroes.Hero;
+import legends.utilities.AliveSet;
 
 /**
  * Strategy interface for selecting which hero a monster targets.
  */
 public interface HeroTargetStrategy {
     Hero selectTarget(List<Hero> heroes);
+
+    /**
+     * Select a target when the living heroes are already tracked, as in a battle. Strategies that
+     * only care about living heroes override this to skip the fainted ones without a scan.
+     *
+     * @param living the party's living heroes
+     * @return the hero to attack, or null if there is none
+     */
+    default Hero selectTarget(AliveSet<Hero> living) {
+        return selectTarget(living.members());
+    }
 }
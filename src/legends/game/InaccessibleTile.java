@@ -5,6 +5,11 @@ package legends.game;
  */
 public class InaccessibleTile extends Tile {
 
+    /**
+     * Shared stateless instance used by compact boards instead of one object per cell.
+     */
+    public static final InaccessibleTile INSTANCE = new InaccessibleTile();
+
     /**
      * Check if the tile is accessible by heroes.
      * 
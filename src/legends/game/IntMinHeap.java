@@ -0,0 +1,85 @@
+package legends.game;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap of (priority, value) int pairs stored in two parallel arrays.
+ * Avoids boxing and per-entry objects in the hot loops of path searches.
+ * Duplicate values are allowed; callers skip stale entries when they pop them.
+ */
+final class IntMinHeap {
+
+    private int[] priorities;
+    private int[] values;
+    private int size;
+
+    IntMinHeap(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        priorities = new int[capacity];
+        values = new int[capacity];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    void push(int priority, int value) {
+        if (size == priorities.length) {
+            priorities = Arrays.copyOf(priorities, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (priorities[parent] <= priority) {
+                break;
+            }
+            priorities[i] = priorities[parent];
+            values[i] = values[parent];
+            i = parent;
+        }
+        priorities[i] = priority;
+        values[i] = value;
+    }
+
+    /**
+     * @return priority of the smallest entry; heap must not be empty
+     */
+    int peekPriority() {
+        return priorities[0];
+    }
+
+    /**
+     * Remove the smallest entry and return its value; heap must not be empty.
+     */
+    int pop() {
+        int result = values[0];
+        size--;
+        if (size > 0) {
+            int priority = priorities[size];
+            int value = values[size];
+            int i = 0;
+            int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                int right = child + 1;
+                if (right < size && priorities[right] < priorities[child]) {
+                    child = right;
+                }
+                if (priority <= priorities[child]) {
+                    break;
+                }
+                priorities[i] = priorities[child];
+                values[i] = values[child];
+                i = child;
+            }
+            priorities[i] = priority;
+            values[i] = value;
+        }
+        return result;
+    }
+}
@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.Scanner;
+import java.util.function.UnaryOperator;
 import legends.entities.heroes.Hero;
 import legends.items.Armor;
 import legends.items.Inventory;
@@ -19,34 +20,46 @@ import legends.utilities.Color;
  *
  * Follows the assignment's spirit:
  * - Heroes can only buy items if they have enough gold and meet the required level.
- * - Items are loaded from the data/items text files via DataLoader.
+ * - Items come from the shared GameCatalog, loaded once from the data/items text files.
  * - Selling returns half the item's original cost.
  */
 public class Market {
 
-	private final List<Weapon> weapons;
-	private final List<Armor> armors;
-	private final List<Potion> potions;
-	private final List<Spell> spells;
-	private final Random rand = new Random();
+	// stock lists stay null until the market is first opened or inspected
+	private List<Weapon> weapons;
+	private List<Armor> armors;
+	private List<Potion> potions;
+	private List<Spell> spells;
+
+	// recipe for the initial stock; the catalog is dropped once the stock is built
+	private final long seed;
+	private GameCatalog catalog;
 
 	public Market() {
-		String base = "data/items/";
-		List<Weapon> allWeapons = DataLoader.loadWeapons(base + "Weaponry.txt");
-		List<Armor> allArmors = DataLoader.loadArmors(base + "Armory.txt");
-		List<Potion> allPotions = DataLoader.loadPotions(base + "Potions.txt");
+		this(GameCatalog.getDefault());
+	}
 
-		// Collect all spell types into one list
-		List<Spell> allSpells = new ArrayList<>();
-		allSpells.addAll(DataLoader.loadFireSpells(base + "FireSpells.txt"));
-		allSpells.addAll(DataLoader.loadIceSpells(base + "IceSpells.txt"));
-		allSpells.addAll(DataLoader.loadLightningSpells(base + "LightningSpells.txt"));
+	/**
+	 * Create a market with a random stock seed. See {@link #Market(GameCatalog, long)}.
+	 *
+	 * @param catalog the catalog to draw stock from
+	 */
+	public Market(GameCatalog catalog) {
+		this(catalog, new Random().nextLong());
+	}
 
-		// Create per-market subsets to make inventories unique per tile
-		this.weapons = pickSubset(allWeapons, 6);
-		this.armors = pickSubset(allArmors, 6);
-		this.potions = pickSubset(allPotions, 6);
-		this.spells = pickSubset(allSpells, 6);
+	/**
+	 * Create a market whose stock is drawn from the catalog on first use.
+	 * Only the seed is kept until then, so unvisited markets cost almost nothing,
+	 * and the same seed always produces the same stock. Each market gets its own
+	 * copies of the selected items so durability is never shared between tiles.
+	 *
+	 * @param catalog the catalog to draw stock from
+	 * @param seed    seed for the stock selection
+	 */
+	public Market(GameCatalog catalog, long seed) {
+		this.catalog = catalog == null ? GameCatalog.getDefault() : catalog;
+		this.seed = seed;
 	}
 
 	public Market(List<Weapon> weapons, List<Armor> armors, List<Potion> potions, List<Spell> spells) {
@@ -54,24 +67,65 @@ public class Market {
 		this.armors = armors == null ? new ArrayList<>() : armors;
 		this.potions = potions == null ? new ArrayList<>() : potions;
 		this.spells = spells == null ? new ArrayList<>() : spells;
+		this.seed = 0L;
 	}
 
 	public List<Weapon> getWeapons() {
+		ensureStocked();
 		return weapons;
 	}
 
 	public List<Armor> getArmors() {
+		ensureStocked();
 		return armors;
 	}
 
 	public List<Potion> getPotions() {
+		ensureStocked();
 		return potions;
 	}
 
 	public List<Spell> getSpells() {
+		ensureStocked();
 		return spells;
 	}
 
+	/**
+	 * Check whether the stock has been built. An unstocked market is fully described by its seed.
+	 *
+	 * @return true once item lists exist
+	 */
+	public boolean isStocked() {
+		return weapons != null;
+	}
+
+	/**
+	 * Get the seed the initial stock is (or was) drawn from.
+	 *
+	 * @return stock seed; meaningless for markets built from explicit item lists
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Build the stock from the seed if that has not happened yet.
+	 */
+	private void ensureStocked() {
+		if (weapons != null) {
+			return;
+		}
+		// stock from the newest catalog version, so hot-reloaded tables reach markets not yet visited
+		GameCatalog source = catalog.latest();
+		// Create per-market subsets to make inventories unique per tile
+		Random rand = new Random(seed);
+		this.weapons = pickSubset(source.getWeapons(), 6, GameCatalog::copyOf, rand);
+		this.armors = pickSubset(source.getArmors(), 6, GameCatalog::copyOf, rand);
+		this.potions = pickSubset(source.getPotions(), 6, GameCatalog::copyOf, rand);
+		this.spells = pickSubset(source.getSpells(), 6, GameCatalog::copyOf, rand);
+		this.catalog = null;
+	}
+
 	/**
 	 * Main market loop. Lets the user pick a hero and then buy/sell items
 	 * until they choose to leave.
@@ -84,6 +138,7 @@ public class Market {
 			System.out.println(Color.error("No heroes in party to use the market."));
 			return;
 		}
+		ensureStocked();
 
 		while (true) {
 			System.out.println(Color.title("\n=== Market ==="));
@@ -217,16 +272,8 @@ public class Market {
 			return;
 		}
 
-		// Reset remainingUses depending on item type
-		if (chosen instanceof Potion) {
-			chosen.setRemainingUses(3);
-		} else if (chosen instanceof Spell) {
-			chosen.setRemainingUses(1);
-		} else if (chosen instanceof Weapon) {
-			chosen.setRemainingUses(15);
-		} else if (chosen instanceof Armor) {
-			chosen.setRemainingUses(25);
-		}
+		// Reset remainingUses to what the item type starts with
+		chosen.repair();
 
 		System.out.println("Repaired " + chosen.getName() + " for " + repairCost + " gold.");
 		System.out.println("Updated hero info:");
@@ -390,15 +437,7 @@ public class Market {
 			return;
 		}
 
-		Inventory inv = hero.getInventory();
-		switch (item) {
-			case Weapon weapon -> inv.addWeapon(weapon);
-			case Armor armor -> inv.addArmor(armor);
-			case Potion potion -> inv.addPotion(potion);
-			case Spell spell -> inv.addSpell(spell);
-			default -> {
-			}
-		}
+		hero.getInventory().add(item);
 
 		System.out.println("Purchased " + item.getName() + " for " + cost + " gold.");
 		// Use display name so underscores do not appear in hero names
@@ -554,18 +593,21 @@ public class Market {
 	private static enum SellType { WEAPON, ARMOR, POTION, SPELL }
 
 	/**
-	 * Randomly select up to maxCount items from the source list to stock this market.
+	 * Randomly select up to maxCount items from the source list to stock this market,
+	 * copying each pick so the shared catalog prototypes are never handed out.
 	 */
-	private <T> List<T> pickSubset(List<T> source, int maxCount) {
+	private static <T> List<T> pickSubset(List<T> source, int maxCount, UnaryOperator<T> copier, Random rand) {
 		if (source == null || source.isEmpty()) {
 			return new ArrayList<>();
 		}
-		List<T> copy = new ArrayList<>(source);
-		Collections.shuffle(copy, rand);
-		if (copy.size() <= maxCount) {
-			return copy;
+		List<T> shuffled = new ArrayList<>(source);
+		Collections.shuffle(shuffled, rand);
+		int count = Math.min(maxCount, shuffled.size());
+		List<T> picked = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			picked.add(copier.apply(shuffled.get(i)));
 		}
-		return new ArrayList<>(copy.subList(0, maxCount));
+		return picked;
 	}
 
     /**
@@ -0,0 +1,299 @@
+package legends.game;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Spatial index of market positions, keyed by packed {@code long} coordinates.
+ * <p>
+ * A position is packed as {@code row << 32 | col}, so no strings or boxed keys are created.
+ * Positions are grouped into square buckets held in a primitive open-addressing table; nearest
+ * queries search rings of buckets outward from the query cell and radius queries only visit the
+ * buckets overlapping the search square. The board keeps the index current as tiles change.
+ */
+public final class MarketIndex {
+
+    /** Side length of a bucket in cells. */
+    static final int BUCKET_SIZE = 16;
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    // open-addressing table: bucket key -> bucket of packed positions
+    private long[] bucketKeys;
+    private long[][] bucketCells;
+    private int[] bucketCounts;
+    private int bucketsUsed;
+
+    private int size;
+    private final int boardSize;
+
+    /**
+     * @param boardSize side length of the board being indexed
+     */
+    public MarketIndex(int boardSize) {
+        this.boardSize = boardSize;
+        this.bucketKeys = new long[64];
+        Arrays.fill(bucketKeys, EMPTY);
+        this.bucketCells = new long[64][];
+        this.bucketCounts = new int[64];
+    }
+
+    /* ===================== Packing ===================== */
+
+    public static long pack(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+
+    public static int rowOf(long position) {
+        return (int) (position >> 32);
+    }
+
+    public static int colOf(long position) {
+        return (int) position;
+    }
+
+    /* ===================== Updates ===================== */
+
+    /**
+     * Add a market position if it is not indexed yet.
+     *
+     * @return true if the position was added
+     */
+    public boolean add(int row, int col) {
+        long position = pack(row, col);
+        int slot = slotFor(bucketKey(row, col));
+        if (bucketKeys[slot] != EMPTY && indexIn(slot, position) >= 0) {
+            return false;
+        }
+        append(slot, row, col, position);
+        return true;
+    }
+
+    /**
+     * Add a position known not to be indexed yet, skipping the duplicate check.
+     * Used while a board is being generated or restored.
+     */
+    void addNew(int row, int col) {
+        append(slotFor(bucketKey(row, col)), row, col, pack(row, col));
+    }
+
+    /**
+     * Remove a market position.
+     *
+     * @return true if the position was indexed
+     */
+    public boolean remove(int row, int col) {
+        int slot = slotFor(bucketKey(row, col));
+        if (bucketKeys[slot] == EMPTY) {
+            return false;
+        }
+        int idx = indexIn(slot, pack(row, col));
+        if (idx < 0) {
+            return false;
+        }
+        long[] cells = bucketCells[slot];
+        int last = --bucketCounts[slot];
+        cells[idx] = cells[last]; // order inside a bucket does not matter
+        size--;
+        return true;
+    }
+
+    /* ===================== Queries ===================== */
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int row, int col) {
+        int slot = slotFor(bucketKey(row, col));
+        return bucketKeys[slot] != EMPTY && indexIn(slot, pack(row, col)) >= 0;
+    }
+
+    /**
+     * Find the market with the smallest Manhattan distance to (row, col).
+     * Ignores walls; use the pathfinding service for walking distance.
+     *
+     * @return packed position of the nearest market, or -1 if the index is empty
+     */
+    public long nearest(int row, int col) {
+        if (size == 0) {
+            return -1L;
+        }
+        int bucketRow = Math.floorDiv(row, BUCKET_SIZE);
+        int bucketCol = Math.floorDiv(col, BUCKET_SIZE);
+        int maxRing = (boardSize + BUCKET_SIZE - 1) / BUCKET_SIZE + 1;
+        long best = -1L;
+        int bestDistance = Integer.MAX_VALUE;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // every cell in ring k is at least (k - 1) * BUCKET_SIZE + 1 rows or columns away
+            if (ring > 0 && bestDistance <= (ring - 1) * BUCKET_SIZE) {
+                break;
+            }
+            for (int br = bucketRow - ring; br <= bucketRow + ring; br++) {
+                boolean edgeRow = br == bucketRow - ring || br == bucketRow + ring;
+                int step = edgeRow ? 1 : Math.max(1, 2 * ring);
+                for (int bc = bucketCol - ring; bc <= bucketCol + ring; bc += step) {
+                    int slot = findSlot(packBucket(br, bc));
+                    if (slot < 0) {
+                        continue;
+                    }
+                    long[] cells = bucketCells[slot];
+                    for (int i = 0; i < bucketCounts[slot]; i++) {
+                        long p = cells[i];
+                        int d = Math.abs(rowOf(p) - row) + Math.abs(colOf(p) - col);
+                        if (d < bestDistance || (d == bestDistance && p < best)) {
+                            bestDistance = d;
+                            best = p;
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Visit every market within the given Manhattan distance of (row, col).
+     *
+     * @param consumer receives packed positions
+     * @return number of markets visited
+     */
+    public int forEachWithin(int row, int col, int radius, LongConsumer consumer) {
+        int count = 0;
+        int minBucketRow = Math.floorDiv(row - radius, BUCKET_SIZE);
+        int maxBucketRow = Math.floorDiv(row + radius, BUCKET_SIZE);
+        int minBucketCol = Math.floorDiv(col - radius, BUCKET_SIZE);
+        int maxBucketCol = Math.floorDiv(col + radius, BUCKET_SIZE);
+        for (int br = minBucketRow; br <= maxBucketRow; br++) {
+            for (int bc = minBucketCol; bc <= maxBucketCol; bc++) {
+                int slot = findSlot(packBucket(br, bc));
+                if (slot < 0) {
+                    continue;
+                }
+                long[] cells = bucketCells[slot];
+                for (int i = 0; i < bucketCounts[slot]; i++) {
+                    long p = cells[i];
+                    if (Math.abs(rowOf(p) - row) + Math.abs(colOf(p) - col) <= radius) {
+                        consumer.accept(p);
+                        count++;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Visit every indexed market position.
+     */
+    public void forEach(LongConsumer consumer) {
+        for (int slot = 0; slot < bucketKeys.length; slot++) {
+            if (bucketKeys[slot] == EMPTY) {
+                continue;
+            }
+            long[] cells = bucketCells[slot];
+            for (int i = 0; i < bucketCounts[slot]; i++) {
+                consumer.accept(cells[i]);
+            }
+        }
+    }
+
+    /**
+     * @return all indexed positions, sorted in row-major order
+     */
+    public long[] toArray() {
+        long[] out = new long[size];
+        int[] n = new int[1];
+        forEach(p -> out[n[0]++] = p);
+        Arrays.sort(out);
+        return out;
+    }
+
+    /* ===================== Buckets ===================== */
+
+    private static long bucketKey(int row, int col) {
+        return packBucket(row / BUCKET_SIZE, col / BUCKET_SIZE);
+    }
+
+    private static long packBucket(int bucketRow, int bucketCol) {
+        return ((long) bucketRow << 32) | (bucketCol & 0xffffffffL);
+    }
+
+    private void append(int slot, int row, int col, long position) {
+        if (bucketKeys[slot] == EMPTY) {
+            bucketKeys[slot] = bucketKey(row, col);
+            bucketCells[slot] = new long[8];
+            bucketsUsed++;
+            long[] cells = bucketCells[slot];
+            cells[bucketCounts[slot]++] = position;
+            size++;
+            if (bucketsUsed * 2 > bucketKeys.length) {
+                grow();
+            }
+            return;
+        }
+        long[] cells = bucketCells[slot];
+        if (bucketCounts[slot] == cells.length) {
+            cells = Arrays.copyOf(cells, cells.length * 2);
+            bucketCells[slot] = cells;
+        }
+        cells[bucketCounts[slot]++] = position;
+        size++;
+    }
+
+    private int indexIn(int slot, long position) {
+        long[] cells = bucketCells[slot];
+        for (int i = 0; i < bucketCounts[slot]; i++) {
+            if (cells[i] == position) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return slot holding the key, or -1 if absent
+     */
+    private int findSlot(long key) {
+        int slot = slotFor(key);
+        return bucketKeys[slot] == EMPTY ? -1 : slot;
+    }
+
+    /**
+     * @return slot holding the key, or the empty slot where it would go
+     */
+    private int slotFor(long key) {
+        int mask = bucketKeys.length - 1;
+        int slot = (int) mix(key) & mask;
+        while (bucketKeys[slot] != EMPTY && bucketKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldKeys = bucketKeys;
+        long[][] oldCells = bucketCells;
+        int[] oldCounts = bucketCounts;
+        int capacity = oldKeys.length * 2;
+        bucketKeys = new long[capacity];
+        Arrays.fill(bucketKeys, EMPTY);
+        bucketCells = new long[capacity][];
+        bucketCounts = new int[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) {
+                continue;
+            }
+            int slot = slotFor(oldKeys[i]);
+            bucketKeys[slot] = oldKeys[i];
+            bucketCells[slot] = oldCells[i];
+            bucketCounts[slot] = oldCounts[i];
+        }
+    }
+
+    private static long mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 29);
+    }
+}
@@ -8,7 +8,18 @@ public class MarketTile extends Tile {
     private final Market market;
 
     public MarketTile() {
-        this.market = new Market();
+        this(GameCatalog.getDefault());
+    }
+
+    public MarketTile(GameCatalog catalog) {
+        this.market = new Market(catalog);
+    }
+
+    /**
+     * Create a tile whose market stock is drawn lazily from the given seed.
+     */
+    public MarketTile(GameCatalog catalog, long seed) {
+        this.market = new Market(catalog, seed);
     }
 
     public MarketTile(Market market) {
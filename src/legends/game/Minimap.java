@@ -0,0 +1,113 @@
+package legends.game;
+
+/**
+ * Downsampled overview of a board: one glyph per square block of cells.
+ * <p>
+ * Per-block counts of inaccessible, market, and visited cells are gathered once from the tile
+ * store and then kept current by the board as tiles change or get visited, so drawing the
+ * minimap costs one lookup per block instead of a scan of the whole board.
+ */
+final class Minimap {
+
+    private final int size;
+    private final int blockSize;
+    private final int blocksPerSide;
+
+    private final int[] inaccessible;
+    private final int[] markets;
+    private final int[] visited;
+
+    /**
+     * @param size      board side length
+     * @param maxBlocks largest number of glyphs per minimap side
+     * @param store     tile data to aggregate
+     */
+    Minimap(int size, int maxBlocks, TileStore store) {
+        this.size = size;
+        this.blockSize = Math.max(1, (size + maxBlocks - 1) / maxBlocks);
+        this.blocksPerSide = (size + blockSize - 1) / blockSize;
+        int blocks = blocksPerSide * blocksPerSide;
+        this.inaccessible = new int[blocks];
+        this.markets = new int[blocks];
+        this.visited = new int[blocks];
+
+        for (int r = 0; r < size; r++) {
+            int rowBase = (r / blockSize) * blocksPerSide;
+            for (int c = 0; c < size; c++) {
+                int block = rowBase + c / blockSize;
+                byte kind = store.kindAt(r, c);
+                if (kind == TileKind.INACCESSIBLE) {
+                    inaccessible[block]++;
+                } else {
+                    if (kind == TileKind.MARKET) {
+                        markets[block]++;
+                    }
+                    if (store.isVisited(r, c)) {
+                        visited[block]++;
+                    }
+                }
+            }
+        }
+    }
+
+    int getBlocksPerSide() {
+        return blocksPerSide;
+    }
+
+    /**
+     * @return block index containing board cell (r, c)
+     */
+    int blockOf(int r, int c) {
+        return (r / blockSize) * blocksPerSide + c / blockSize;
+    }
+
+    /**
+     * Record that an accessible cell was visited for the first time.
+     */
+    void onVisited(int r, int c) {
+        visited[blockOf(r, c)]++;
+    }
+
+    /**
+     * Move a cell's contribution from its old kind to its new kind.
+     */
+    void onKindChanged(int r, int c, byte oldKind, byte newKind, boolean wasVisited) {
+        int block = blockOf(r, c);
+        adjust(block, oldKind, wasVisited, -1);
+        adjust(block, newKind, wasVisited, 1);
+    }
+
+    private void adjust(int block, byte kind, boolean wasVisited, int delta) {
+        if (kind == TileKind.INACCESSIBLE) {
+            inaccessible[block] += delta;
+            return;
+        }
+        if (kind == TileKind.MARKET) {
+            markets[block] += delta;
+        }
+        if (wasVisited) {
+            visited[block] += delta;
+        }
+    }
+
+    /**
+     * Glyph for a block: '*' once the party has been there, otherwise whichever of
+     * '.' (common), 'M' (market) or 'X' (inaccessible) covers most of it.
+     */
+    char glyphAt(int blockRow, int blockCol) {
+        int block = blockRow * blocksPerSide + blockCol;
+        if (visited[block] > 0) {
+            return '*';
+        }
+        int rows = Math.min(blockSize, size - blockRow * blockSize);
+        int cols = Math.min(blockSize, size - blockCol * blockSize);
+        int common = rows * cols - inaccessible[block] - markets[block];
+        if (inaccessible[block] > common && inaccessible[block] > markets[block]) {
+            return 'X';
+        }
+        if (markets[block] > common) {
+            return 'M';
+        }
+        return '.';
+    }
+}
@@ -0,0 +1,107 @@
+package legends.game;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import legends.entities.monsters.Monster;
+
+/**
+ * Recycles monsters between battles so high-rate encounter generation stops allocating once warm.
+ * <p>
+ * Pooling is opt-in: pass a pool where monsters are created (for example to
+ * {@link MonsterSampler#sample(int, java.util.random.RandomGenerator, MonsterPool)}) and hand the monsters back with
+ * {@link #releaseAll(Collection)} when their battle is over. A recycled monster is reset with
+ * {@link Monster#resetFrom(Monster, int)}, so it is indistinguishable from a fresh copy. A released
+ * monster must not be used by its previous owner again. Not thread-safe; use one pool per thread.
+ */
+public final class MonsterPool {
+
+    // free monsters by concrete class, since a monster can only be reset from its own kind
+    private final Map<Class<? extends Monster>, ArrayDeque<Monster>> free = new HashMap<>();
+    private final int maxPerClass;
+    private long created;
+    private long reused;
+
+    /**
+     * @param maxPerClass most idle monsters kept per monster class; extra releases are dropped
+     */
+    public MonsterPool(int maxPerClass) {
+        this.maxPerClass = maxPerClass;
+    }
+
+    /**
+     * Get a monster of the prototype's class reset to the prototype at the given level,
+     * recycling an idle one when possible.
+     *
+     * @return a monster equal to {@code proto.copyAtLevel(level)}
+     */
+    public Monster acquire(Monster proto, int level) {
+        ArrayDeque<Monster> idle = free.get(proto.getClass());
+        if (idle != null && !idle.isEmpty()) {
+            Monster m = idle.pop();
+            m.resetFrom(proto, level);
+            reused++;
+            return m;
+        }
+        created++;
+        return proto.copyAtLevel(level);
+    }
+
+    /**
+     * Return a monster to the pool. The caller must drop every reference to it.
+     */
+    public void release(Monster m) {
+        if (m == null) {
+            return;
+        }
+        ArrayDeque<Monster> idle = free.computeIfAbsent(m.getClass(), k -> new ArrayDeque<>());
+        if (idle.size() < maxPerClass) {
+            idle.push(m);
+        }
+    }
+
+    /**
+     * Return every monster of a finished battle to the pool. The collection itself is left as is;
+     * clear it if it will be reused.
+     */
+    public void releaseAll(Collection<? extends Monster> monsters) {
+        for (Monster m : monsters) {
+            release(m);
+        }
+    }
+
+    /**
+     * Drop every idle monster and reset the counters.
+     */
+    public void clear() {
+        free.clear();
+        created = 0;
+        reused = 0;
+    }
+
+    /**
+     * @return number of idle monsters currently held
+     */
+    public int idleCount() {
+        int n = 0;
+        for (ArrayDeque<Monster> idle : free.values()) {
+            n += idle.size();
+        }
+        return n;
+    }
+
+    /**
+     * @return monsters built because no idle one was available
+     */
+    public long getCreated() {
+        return created;
+    }
+
+    /**
+     * @return monsters handed out again after a reset
+     */
+    public long getReused() {
+        return reused;
+    }
+}
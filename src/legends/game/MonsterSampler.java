@@ -0,0 +1,146 @@
+package legends.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+import legends.entities.monsters.Dragon;
+import legends.entities.monsters.Exoskeleton;
+import legends.entities.monsters.Monster;
+import legends.entities.monsters.Spirit;
+import legends.utilities.AliasTable;
+
+/**
+ * Draws encounter monsters from the catalog prototypes in constant time.
+ * <p>
+ * The prototypes of all three monster types go into one array. For each monster level an alias
+ * table is built once, on first use, from every prototype's weight at that level. After that a
+ * draw is two random numbers and a clone, and it never needs a retry. Prototypes that are not
+ * allowed at a level get weight 0 and are never drawn there.
+ * <p>
+ * The default weights match the old pick-a-type-then-a-prototype rule, including the low-level
+ * rule that keeps very strong prototypes out of level 1 and 2 encounters.
+ */
+public final class MonsterSampler {
+
+    /**
+     * Relative chance of drawing a prototype in an encounter of a given level.
+     */
+    @FunctionalInterface
+    public interface Weights {
+        /**
+         * @param prototype catalog monster
+         * @param typeCount number of prototypes of the same type (dragons, spirits or exoskeletons)
+         * @param level     encounter level
+         * @return non-negative weight; 0 excludes the prototype at this level
+         */
+        double weight(Monster prototype, int typeCount, int level);
+    }
+
+    /**
+     * Each type is equally likely, then each prototype within its type. Prototypes with more than
+     * 500 damage or 600 defense are excluded at levels 2 and below.
+     */
+    public static final Weights DEFAULT_WEIGHTS = (prototype, typeCount, level) -> {
+        if (level <= 2 && (prototype.getBaseDamage() > 500 || prototype.getDefense() > 600)) {
+            return 0;
+        }
+        return 1.0 / typeCount;
+    };
+
+    // tables for levels below this are cached; others are built per call
+    private static final int CACHED_LEVELS = 64;
+
+    private final Monster[] prototypes;
+    private final int[] typeCounts;
+    private final Weights weights;
+    private final AliasTable[] tables = new AliasTable[CACHED_LEVELS];
+
+    public MonsterSampler(List<Dragon> dragons, List<Spirit> spirits, List<Exoskeleton> exoskeletons) {
+        this(dragons, spirits, exoskeletons, DEFAULT_WEIGHTS);
+    }
+
+    /**
+     * @param dragons      dragon prototypes (may be null)
+     * @param spirits      spirit prototypes (may be null)
+     * @param exoskeletons exoskeleton prototypes (may be null)
+     * @param weights      weight of each prototype per level
+     */
+    public MonsterSampler(List<Dragon> dragons, List<Spirit> spirits, List<Exoskeleton> exoskeletons,
+                          Weights weights) {
+        List<Monster> all = new ArrayList<>();
+        List<Integer> counts = new ArrayList<>();
+        addType(all, counts, dragons);
+        addType(all, counts, spirits);
+        addType(all, counts, exoskeletons);
+        this.prototypes = all.toArray(new Monster[0]);
+        this.typeCounts = new int[prototypes.length];
+        for (int i = 0; i < typeCounts.length; i++) {
+            typeCounts[i] = counts.get(i);
+        }
+        this.weights = weights;
+    }
+
+    private static void addType(List<Monster> all, List<Integer> counts, List<? extends Monster> type) {
+        if (type == null) {
+            return;
+        }
+        for (Monster m : type) {
+            all.add(m);
+            counts.add(type.size());
+        }
+    }
+
+    /**
+     * Draw a prototype and build a fresh monster of it at the given level.
+     *
+     * @param level monster level
+     * @param rand  random source
+     * @return a new monster, or null if no prototype is allowed at this level
+     */
+    public Monster sample(int level, RandomGenerator rand) {
+        return sample(level, rand, null);
+    }
+
+    /**
+     * Draw a prototype and take a monster of it at the given level from a pool.
+     *
+     * @param level monster level
+     * @param rand  random source
+     * @param pool  pool to recycle monsters from, or null to always build a new one
+     * @return a monster, or null if no prototype is allowed at this level
+     */
+    public Monster sample(int level, RandomGenerator rand, MonsterPool pool) {
+        int i = tableFor(level).sample(rand);
+        if (i < 0) {
+            return null;
+        }
+        return pool == null ? prototypes[i].copyAtLevel(level) : pool.acquire(prototypes[i], level);
+    }
+
+    /**
+     * @return true if at least one prototype can be drawn at this level
+     */
+    public boolean canSample(int level) {
+        return !tableFor(level).isEmpty();
+    }
+
+    private AliasTable tableFor(int level) {
+        boolean cached = level >= 0 && level < CACHED_LEVELS;
+        if (cached) {
+            // racing builders produce identical tables, so no locking is needed
+            AliasTable table = tables[level];
+            if (table != null) {
+                return table;
+            }
+        }
+        double[] w = new double[prototypes.length];
+        for (int i = 0; i < w.length; i++) {
+            w[i] = weights.weight(prototypes[i], typeCounts[i], level);
+        }
+        AliasTable table = new AliasTable(w);
+        if (cached) {
+            tables[level] = table;
+        }
+        return table;
+    }
+}
@@ -0,0 +1,67 @@
+package legends.game;
+
+import legends.utilities.SeedMixer;
+
+/**
+ * Original board storage: one tile object per cell and a parallel visited grid.
+ */
+class ObjectTileStore implements TileStore {
+
+    private final Tile[][] grid;
+    private final boolean[][] visited;
+    private final GameCatalog catalog;
+    private final long seed;
+
+    ObjectTileStore(int size, GameCatalog catalog, long seed) {
+        this.grid = new Tile[size][size];
+        this.visited = new boolean[size][size];
+        this.catalog = catalog;
+        this.seed = seed;
+    }
+
+    @Override
+    public byte kindAt(int r, int c) {
+        Tile t = grid[r][c];
+        if (t instanceof MarketTile) {
+            return TileKind.MARKET;
+        }
+        if (t instanceof InaccessibleTile) {
+            return TileKind.INACCESSIBLE;
+        }
+        return TileKind.COMMON;
+    }
+
+    @Override
+    public Tile tileAt(int r, int c) {
+        return grid[r][c];
+    }
+
+    @Override
+    public void setKind(int r, int c, byte kind) {
+        switch (kind) {
+            case TileKind.INACCESSIBLE -> grid[r][c] = new InaccessibleTile();
+            case TileKind.MARKET -> grid[r][c] = new MarketTile(catalog, SeedMixer.mix(seed, r, c));
+            default -> grid[r][c] = new CommonTile();
+        }
+    }
+
+    @Override
+    public void setMarket(int r, int c, Market market) {
+        grid[r][c] = new MarketTile(market);
+    }
+
+    @Override
+    public Market loadedMarketAt(int r, int c) {
+        return grid[r][c] instanceof MarketTile mt ? mt.getMarket() : null;
+    }
+
+    @Override
+    public boolean isVisited(int r, int c) {
+        return visited[r][c];
+    }
+
+    @Override
+    public void setVisited(int r, int c, boolean v) {
+        visited[r][c] = v;
+    }
+}
@@ -0,0 +1,89 @@
+package legends.game;
+
+import java.util.HashMap;
+import java.util.Map;
+import legends.utilities.SeedMixer;
+
+/**
+ * Compact board storage: one byte per cell holding the tile kind in the low bits and the
+ * visited flag in the high bit. Common and inaccessible cells resolve to shared flyweight
+ * tiles; market tiles are the only per-cell objects and are created when first looked up, with a
+ * stock seed derived from the board seed and the cell position.
+ */
+class PackedTileStore implements TileStore {
+
+    static final int KIND_MASK = 0x03;
+    static final int VISITED_BIT = 0x80;
+
+    private final int size;
+    private final byte[] cells;
+    private final Map<Integer, MarketTile> markets = new HashMap<>();
+    private final GameCatalog catalog;
+    private final long seed;
+
+    PackedTileStore(int size, GameCatalog catalog, long seed) {
+        this(size, new byte[size * size], catalog, seed);
+    }
+
+    /**
+     * Adopt an already generated row-major array of {@link TileKind} codes without copying it.
+     */
+    PackedTileStore(int size, byte[] cells, GameCatalog catalog, long seed) {
+        this.size = size;
+        this.cells = cells;
+        this.catalog = catalog;
+        this.seed = seed;
+    }
+
+    private int index(int r, int c) {
+        return r * size + c;
+    }
+
+    @Override
+    public byte kindAt(int r, int c) {
+        return (byte) (cells[index(r, c)] & KIND_MASK);
+    }
+
+    @Override
+    public Tile tileAt(int r, int c) {
+        int idx = index(r, c);
+        switch (cells[idx] & KIND_MASK) {
+            case TileKind.INACCESSIBLE:
+                return InaccessibleTile.INSTANCE;
+            case TileKind.MARKET:
+                return markets.computeIfAbsent(idx, k -> new MarketTile(catalog, SeedMixer.mix(seed, r, c)));
+            default:
+                return CommonTile.INSTANCE;
+        }
+    }
+
+    @Override
+    public void setKind(int r, int c, byte kind) {
+        int idx = index(r, c);
+        cells[idx] = (byte) ((cells[idx] & VISITED_BIT) | (kind & KIND_MASK));
+        markets.remove(idx);
+    }
+
+    @Override
+    public void setMarket(int r, int c, Market market) {
+        setKind(r, c, TileKind.MARKET);
+        markets.put(index(r, c), new MarketTile(market));
+    }
+
+    @Override
+    public Market loadedMarketAt(int r, int c) {
+        MarketTile tile = markets.get(index(r, c));
+        return tile == null ? null : tile.getMarket();
+    }
+
+    @Override
+    public boolean isVisited(int r, int c) {
+        return (cells[index(r, c)] & VISITED_BIT) != 0;
+    }
+
+    @Override
+    public void setVisited(int r, int c, boolean visited) {
+        int idx = index(r, c);
+        cells[idx] = (byte) (visited ? (cells[idx] | VISITED_BIT) : (cells[idx] & ~VISITED_BIT));
+    }
+}
@@ -0,0 +1,340 @@
+package legends.game;
+
+import java.util.Arrays;
+
+/**
+ * Shortest-path queries over a fully resident {@link Board}.
+ * <p>
+ * Keeps a distance field holding, for every cell, the number of steps to the closest market
+ * (multi-source BFS seeded from all market tiles) so "how far is the nearest market" is a
+ * constant-time lookup and the route there is found by walking downhill. When a tile changes the
+ * field is repaired locally: cells that lost their shortest route are invalidated and re-settled
+ * from their neighbours instead of re-running the whole BFS. Arbitrary point-to-point routes use
+ * A* with a Manhattan heuristic. All per-cell state lives in flat {@code int[]} arrays.
+ */
+public final class PathfindingService {
+
+    /** Distance reported for inaccessible cells and cells with no reachable market. */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private static final int[] DR = { -1, 1, 0, 0 };
+    private static final int[] DC = { 0, 0, -1, 1 };
+
+    private final int size;
+    private final TileStore store;
+
+    private final int[] marketDistance;
+
+    // scratch buffers reused across updates and searches
+    private final int[] queue;
+    private final IntMinHeap heap;
+    private final int[] gScore;
+    private final int[] parent;
+    private final int[] stamp;
+    private int currentStamp;
+
+    PathfindingService(int size, TileStore store) {
+        this.size = size;
+        this.store = store;
+        int total = size * size;
+        this.marketDistance = new int[total];
+        this.queue = new int[total];
+        this.heap = new IntMinHeap(64);
+        this.gScore = new int[total];
+        this.parent = new int[total];
+        this.stamp = new int[total];
+        rebuildDistanceField();
+    }
+
+    /* ===================== Distance field ===================== */
+
+    /**
+     * Recompute the whole market distance field with one multi-source BFS.
+     */
+    private void rebuildDistanceField() {
+        Arrays.fill(marketDistance, UNREACHABLE);
+        int head = 0;
+        int tail = 0;
+        for (int r = 0; r < size; r++) {
+            for (int c = 0; c < size; c++) {
+                if (store.kindAt(r, c) == TileKind.MARKET) {
+                    int cell = r * size + c;
+                    marketDistance[cell] = 0;
+                    queue[tail++] = cell;
+                }
+            }
+        }
+        while (head < tail) {
+            int cell = queue[head++];
+            int next = marketDistance[cell] + 1;
+            int r = cell / size;
+            int c = cell % size;
+            for (int d = 0; d < 4; d++) {
+                int nr = r + DR[d];
+                int nc = c + DC[d];
+                if (!isOpen(nr, nc)) {
+                    continue;
+                }
+                int n = nr * size + nc;
+                if (marketDistance[n] == UNREACHABLE) {
+                    marketDistance[n] = next;
+                    queue[tail++] = n;
+                }
+            }
+        }
+    }
+
+    /**
+     * Repair the distance field after the tile at (r, c) changed kind.
+     *
+     * @param r       row of the changed tile
+     * @param c       column of the changed tile
+     * @param oldKind kind the tile had before the change
+     */
+    void onTileChanged(int r, int c, byte oldKind) {
+        byte newKind = store.kindAt(r, c);
+        if (oldKind == newKind) {
+            return;
+        }
+        int root = r * size + c;
+        int affected;
+        boolean lostSupport = newKind == TileKind.INACCESSIBLE
+                || (oldKind == TileKind.MARKET && newKind != TileKind.MARKET);
+        if (lostSupport && marketDistance[root] != UNREACHABLE) {
+            affected = invalidateDependents(root);
+        } else {
+            marketDistance[root] = UNREACHABLE;
+            queue[0] = root;
+            affected = 1;
+        }
+
+        // seed every invalidated cell from its settled neighbours, then settle outward
+        heap.clear();
+        for (int i = 0; i < affected; i++) {
+            int cell = queue[i];
+            int tentative = tentativeDistance(cell);
+            if (tentative < marketDistance[cell]) {
+                marketDistance[cell] = tentative;
+                heap.push(tentative, cell);
+            }
+        }
+        while (!heap.isEmpty()) {
+            int dist = heap.peekPriority();
+            int cell = heap.pop();
+            if (dist != marketDistance[cell]) {
+                continue; // stale entry
+            }
+            int cr = cell / size;
+            int cc = cell % size;
+            for (int d = 0; d < 4; d++) {
+                int nr = cr + DR[d];
+                int nc = cc + DC[d];
+                if (!isOpen(nr, nc)) {
+                    continue;
+                }
+                int n = nr * size + nc;
+                if (dist + 1 < marketDistance[n]) {
+                    marketDistance[n] = dist + 1;
+                    heap.push(dist + 1, n);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collect, in BFS order starting at {@code root}, every cell whose shortest route to a market
+     * ran through root and which has no other neighbour one step closer. Their distances are
+     * reset to {@link #UNREACHABLE}. Layers are processed in increasing distance, so a cell's
+     * possible supporters are always decided before the cell itself.
+     *
+     * @return number of collected cells, stored at the front of {@link #queue}
+     */
+    private int invalidateDependents(int root) {
+        int head = 0;
+        int tail = 0;
+        int[] oldDistance = gScore; // reuse as scratch: old distance of cells in the queue
+        queue[tail] = root;
+        oldDistance[tail++] = marketDistance[root];
+        marketDistance[root] = UNREACHABLE;
+
+        while (head < tail) {
+            int cell = queue[head];
+            int dist = oldDistance[head++];
+            int r = cell / size;
+            int c = cell % size;
+            for (int d = 0; d < 4; d++) {
+                int nr = r + DR[d];
+                int nc = c + DC[d];
+                if (!isOpen(nr, nc)) {
+                    continue;
+                }
+                int n = nr * size + nc;
+                if (marketDistance[n] != dist + 1 || store.kindAt(nr, nc) == TileKind.MARKET) {
+                    continue;
+                }
+                if (!hasSupport(nr, nc, dist + 1)) {
+                    queue[tail] = n;
+                    oldDistance[tail++] = dist + 1;
+                    marketDistance[n] = UNREACHABLE;
+                }
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * Check whether (r, c) still has an open neighbour exactly one step closer to a market.
+     */
+    private boolean hasSupport(int r, int c, int dist) {
+        for (int d = 0; d < 4; d++) {
+            int nr = r + DR[d];
+            int nc = c + DC[d];
+            if (isOpen(nr, nc) && marketDistance[nr * size + nc] == dist - 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int tentativeDistance(int cell) {
+        int r = cell / size;
+        int c = cell % size;
+        byte kind = store.kindAt(r, c);
+        if (kind == TileKind.MARKET) {
+            return 0;
+        }
+        if (kind == TileKind.INACCESSIBLE) {
+            return UNREACHABLE;
+        }
+        int best = UNREACHABLE;
+        for (int d = 0; d < 4; d++) {
+            int nr = r + DR[d];
+            int nc = c + DC[d];
+            if (isOpen(nr, nc)) {
+                int nd = marketDistance[nr * size + nc];
+                if (nd != UNREACHABLE && nd + 1 < best) {
+                    best = nd + 1;
+                }
+            }
+        }
+        return best;
+    }
+
+    /* ===================== Queries ===================== */
+
+    /**
+     * Number of steps from (r, c) to the closest market.
+     *
+     * @return step count, 0 on a market, or {@link #UNREACHABLE}
+     */
+    public int distanceToNearestMarket(int r, int c) {
+        if (r < 0 || r >= size || c < 0 || c >= size) {
+            return UNREACHABLE;
+        }
+        return marketDistance[r * size + c];
+    }
+
+    /**
+     * Route from (r, c) to the closest market by following the distance field downhill.
+     *
+     * @return cells to step on in order, as {@code row * size + col}, ending on the market;
+     *         empty if already on a market, or null if no market is reachable
+     */
+    public int[] pathToNearestMarket(int r, int c) {
+        int dist = distanceToNearestMarket(r, c);
+        if (dist == UNREACHABLE) {
+            return null;
+        }
+        int[] path = new int[dist];
+        int cr = r;
+        int cc = c;
+        for (int step = 0; step < dist; step++) {
+            int want = dist - step - 1;
+            for (int d = 0; d < 4; d++) {
+                int nr = cr + DR[d];
+                int nc = cc + DC[d];
+                if (isOpen(nr, nc) && marketDistance[nr * size + nc] == want) {
+                    cr = nr;
+                    cc = nc;
+                    break;
+                }
+            }
+            path[step] = cr * size + cc;
+        }
+        return path;
+    }
+
+    /**
+     * Shortest route between two cells using A* with a Manhattan-distance heuristic.
+     *
+     * @return cells to step on in order, as {@code row * size + col}, ending on the target;
+     *         empty if start equals target, or null if the target cannot be reached
+     */
+    public int[] findPath(int fromRow, int fromCol, int toRow, int toCol) {
+        if (!isOpen(fromRow, fromCol) || !isOpen(toRow, toCol)) {
+            return null;
+        }
+        int start = fromRow * size + fromCol;
+        int goal = toRow * size + toCol;
+        if (start == goal) {
+            return new int[0];
+        }
+        if (++currentStamp == 0) {
+            // stamp wrapped around; clear so no stale cell looks visited
+            Arrays.fill(stamp, 0);
+            currentStamp = 1;
+        }
+        heap.clear();
+        stamp[start] = currentStamp;
+        gScore[start] = 0;
+        parent[start] = -1;
+        heap.push(manhattan(fromRow, fromCol, toRow, toCol), start);
+
+        while (!heap.isEmpty()) {
+            int f = heap.peekPriority();
+            int cell = heap.pop();
+            int r = cell / size;
+            int c = cell % size;
+            int g = gScore[cell];
+            if (f != g + manhattan(r, c, toRow, toCol)) {
+                continue; // stale entry
+            }
+            if (cell == goal) {
+                return tracePath(start, goal, g);
+            }
+            for (int d = 0; d < 4; d++) {
+                int nr = r + DR[d];
+                int nc = c + DC[d];
+                if (!isOpen(nr, nc)) {
+                    continue;
+                }
+                int n = nr * size + nc;
+                if (stamp[n] != currentStamp || g + 1 < gScore[n]) {
+                    stamp[n] = currentStamp;
+                    gScore[n] = g + 1;
+                    parent[n] = cell;
+                    heap.push(g + 1 + manhattan(nr, nc, toRow, toCol), n);
+                }
+            }
+        }
+        return null;
+    }
+
+    private int[] tracePath(int start, int goal, int length) {
+        int[] path = new int[length];
+        int cell = goal;
+        for (int i = length - 1; i >= 0; i--) {
+            path[i] = cell;
+            cell = parent[cell];
+        }
+        return path;
+    }
+
+    private static int manhattan(int r1, int c1, int r2, int c2) {
+        return Math.abs(r1 - r2) + Math.abs(c1 - c2);
+    }
+
+    private boolean isOpen(int r, int c) {
+        return r >= 0 && r < size && c >= 0 && c < size && TileKind.isAccessible(store.kindAt(r, c));
+    }
+}
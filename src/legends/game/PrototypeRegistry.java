@@ -0,0 +1,61 @@
+package legends.game;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Catalog prototypes keyed by type id, the name in the first column of their data row.
+ * <p>
+ * Every row of the hero and monster tables is its own type, so new heroes and monsters are
+ * added by editing the data files. New instances come from the prototype's own copy method
+ * ({@code Hero.copy()}, {@code Monster.copyAtLevel(int)}), which avoids reflection and
+ * class-by-class branching.
+ *
+ * @param <T> prototype type
+ */
+public final class PrototypeRegistry<T> {
+
+    private final Map<String, T> byId = new LinkedHashMap<>();
+
+    /**
+     * Register prototypes under their ids. A later prototype with the same id replaces
+     * the earlier one, as a later data row would.
+     *
+     * @param prototypes groups of prototypes, in catalog order
+     * @param idOf       id of a prototype
+     */
+    @SafeVarargs
+    PrototypeRegistry(Function<? super T, String> idOf, List<? extends T>... prototypes) {
+        for (List<? extends T> group : prototypes) {
+            for (T proto : group) {
+                byId.put(idOf.apply(proto), proto);
+            }
+        }
+    }
+
+    /**
+     * @return prototype registered under the id, or null if there is none
+     */
+    public T get(String id) {
+        return id == null ? null : byId.get(id);
+    }
+
+    public boolean contains(String id) {
+        return id != null && byId.containsKey(id);
+    }
+
+    /**
+     * @return every id, in catalog order
+     */
+    public Set<String> ids() {
+        return Collections.unmodifiableSet(byId.keySet());
+    }
+
+    public int size() {
+        return byId.size();
+    }
+}
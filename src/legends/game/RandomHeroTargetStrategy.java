@@ -1,27 +1,54 @@
 package legends.game;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 import legends.entities.heroes.Hero;
+import legends.utilities.AliveSet;
 
 /**
  * Random target selection strategy for monsters.
  */
 public class RandomHeroTargetStrategy implements HeroTargetStrategy {
-    private final Random rand = new Random();
+    private final RandomGenerator rand;
+
+    public RandomHeroTargetStrategy() {
+        this(new Random());
+    }
+
+    /**
+     * @param rand source of the target picks, e.g. the battle's random source
+     */
+    public RandomHeroTargetStrategy(RandomGenerator rand) {
+        this.rand = rand;
+    }
 
     @Override
     public Hero selectTarget(List<Hero> heroes) {
-        List<Hero> alive = new ArrayList<>();
+        // count, then walk to the chosen one, so no list of living heroes is built
+        int alive = 0;
         for (Hero h : heroes) {
             if (!h.isFainted()) {
-                alive.add(h);
+                alive++;
             }
         }
-        if (alive.isEmpty()) {
+        if (alive == 0) {
             return null;
         }
-        return alive.get(rand.nextInt(alive.size()));
+        int pick = rand.nextInt(alive);
+        for (Hero h : heroes) {
+            if (!h.isFainted() && pick-- == 0) {
+                return h;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Uniform over the living heroes in constant time.
+     */
+    @Override
+    public Hero selectTarget(AliveSet<Hero> living) {
+        return living.random(rand);
     }
 }
@@ -0,0 +1,17 @@
+package legends.game;
+
+/**
+ * Binds the columns of one parsed table row to a domain object.
+ *
+ * @param <T> type produced for each row
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+    /**
+     * @param row current row; only valid during this call
+     * @return the mapped object, or null to skip the row
+     * @throws IllegalArgumentException if a column cannot be parsed
+     */
+    T map(TableRow row);
+}
@@ -0,0 +1,217 @@
+package legends.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import legends.entities.heroes.Paladin;
+import legends.entities.heroes.Sorcerer;
+import legends.entities.heroes.Warrior;
+import legends.entities.monsters.Dragon;
+import legends.entities.monsters.Exoskeleton;
+import legends.entities.monsters.Spirit;
+import legends.items.Armor;
+import legends.items.Potion;
+import legends.items.Spell;
+import legends.items.Weapon;
+import legends.state.SaveLoadManager;
+import legends.utilities.SoundService;
+
+/**
+ * Loads everything the game needs at startup concurrently, while the title banner is shown.
+ * <p>
+ * Heroes, monsters, items and sounds are independent stages on a small daemon pool; the catalog
+ * is assembled from the first three and the save/load manager is built on top of it. The game
+ * joins a stage only when it first needs that data, so time to the first prompt is bounded by the
+ * slowest stage it waits on rather than by the sum of all of them. When a compiled catalog is
+ * fresh it is mapped once and the table stages just decode their part of it.
+ */
+final class StartupPipeline {
+
+    private static final String[] STAGE_ORDER = { "catalog file", "heroes", "monsters", "items", "sounds", "saves" };
+
+    private final long startedAt = System.nanoTime();
+    private final Map<String, Long> stageNanos = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+
+    private final CompletableFuture<HeroData> heroes;
+    private final CompletableFuture<MonsterData> monsters;
+    private final CompletableFuture<GameCatalog> catalog;
+    private final CompletableFuture<SaveLoadManager> saves;
+    private final CompletableFuture<Integer> sounds;
+
+    /**
+     * Start every stage in the background.
+     *
+     * @param baseDir    data directory (with trailing slash)
+     * @param sound      sound service whose clips are preloaded
+     * @param soundNames sounds the game plays
+     */
+    StartupPipeline(String baseDir, SoundService sound, List<String> soundNames) {
+        this.executor = Executors.newFixedThreadPool(4, task -> {
+            Thread t = new Thread(task, "legends-startup");
+            t.setDaemon(true); // never keeps the JVM alive if the player quits early
+            return t;
+        });
+
+        CompletableFuture<GameCatalog> compiled =
+                stage("catalog file", () -> CompiledCatalog.loadIfFresh(baseDir));
+        this.heroes = compiled.thenCompose(c -> stage("heroes", () -> HeroData.load(c, baseDir)));
+        this.monsters = compiled.thenCompose(c -> stage("monsters", () -> MonsterData.load(c, baseDir)));
+        CompletableFuture<ItemData> items = compiled.thenCompose(c -> stage("items", () -> ItemData.load(c, baseDir)));
+        this.sounds = stage("sounds", () -> sound.preload(soundNames));
+
+        this.catalog = CompletableFuture.allOf(heroes, monsters, items)
+                .thenApply(done -> assemble(compiled.join(), heroes.join(), monsters.join(), items.join(), baseDir));
+        this.saves = catalog.thenCompose(c -> stage("saves", () -> new SaveLoadManager(c)));
+
+        CompletableFuture.allOf(saves, sounds).whenComplete((ignored, error) -> executor.shutdown());
+    }
+
+    private static GameCatalog assemble(GameCatalog compiled, HeroData h, MonsterData m, ItemData i, String baseDir) {
+        GameCatalog catalog = compiled != null ? compiled : new GameCatalog(
+                h.warriors, h.paladins, h.sorcerers,
+                m.dragons, m.spirits, m.exoskeletons,
+                i.weapons, i.armors, i.potions, i.spells);
+        // markets and boards created without an explicit catalog share this one
+        return GameCatalog.DEFAULT_DATA_DIR.equals(baseDir) ? GameCatalog.installDefault(catalog) : catalog;
+    }
+
+    private <T> CompletableFuture<T> stage(String name, Supplier<T> work) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                return work.get();
+            } finally {
+                stageNanos.put(name, System.nanoTime() - start);
+            }
+        }, executor);
+    }
+
+    /* ===================== Joins ===================== */
+
+    HeroData heroes() {
+        return await(heroes);
+    }
+
+    MonsterData monsters() {
+        return await(monsters);
+    }
+
+    GameCatalog catalog() {
+        return await(catalog);
+    }
+
+    SaveLoadManager saves() {
+        return await(saves);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            // surface the stage's own failure, as if it had run on this thread
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return one line with the time spent in each finished stage and the wall time so far
+     */
+    String report() {
+        List<String> parts = new ArrayList<>();
+        for (String name : STAGE_ORDER) {
+            Long nanos = stageNanos.get(name);
+            parts.add(name + " " + (nanos == null ? "pending" : formatMillis(nanos)));
+        }
+        return "Startup: " + String.join(", ", parts)
+                + " (ready after " + formatMillis(System.nanoTime() - startedAt) + ")";
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.1f ms", nanos / 1_000_000.0);
+    }
+
+    /* ===================== Stage results ===================== */
+
+    static final class HeroData {
+        final List<Warrior> warriors;
+        final List<Paladin> paladins;
+        final List<Sorcerer> sorcerers;
+
+        private HeroData(List<Warrior> warriors, List<Paladin> paladins, List<Sorcerer> sorcerers) {
+            this.warriors = warriors;
+            this.paladins = paladins;
+            this.sorcerers = sorcerers;
+        }
+
+        static HeroData load(GameCatalog compiled, String baseDir) {
+            if (compiled != null) {
+                return new HeroData(compiled.getWarriors(), compiled.getPaladins(), compiled.getSorcerers());
+            }
+            return new HeroData(
+                    DataLoader.loadWarriors(baseDir + GameCatalog.WARRIORS_FILE),
+                    DataLoader.loadPaladins(baseDir + GameCatalog.PALADINS_FILE),
+                    DataLoader.loadSorcerers(baseDir + GameCatalog.SORCERERS_FILE));
+        }
+    }
+
+    static final class MonsterData {
+        final List<Dragon> dragons;
+        final List<Spirit> spirits;
+        final List<Exoskeleton> exoskeletons;
+
+        private MonsterData(List<Dragon> dragons, List<Spirit> spirits, List<Exoskeleton> exoskeletons) {
+            this.dragons = dragons;
+            this.spirits = spirits;
+            this.exoskeletons = exoskeletons;
+        }
+
+        static MonsterData load(GameCatalog compiled, String baseDir) {
+            if (compiled != null) {
+                return new MonsterData(compiled.getDragons(), compiled.getSpirits(), compiled.getExoskeletons());
+            }
+            return new MonsterData(
+                    DataLoader.loadDragons(baseDir + GameCatalog.DRAGONS_FILE),
+                    DataLoader.loadSpirits(baseDir + GameCatalog.SPIRITS_FILE),
+                    DataLoader.loadExoskeletons(baseDir + GameCatalog.EXOSKELETONS_FILE));
+        }
+    }
+
+    static final class ItemData {
+        final List<Weapon> weapons;
+        final List<Armor> armors;
+        final List<Potion> potions;
+        final List<Spell> spells;
+
+        private ItemData(List<Weapon> weapons, List<Armor> armors, List<Potion> potions, List<Spell> spells) {
+            this.weapons = weapons;
+            this.armors = armors;
+            this.potions = potions;
+            this.spells = spells;
+        }
+
+        static ItemData load(GameCatalog compiled, String baseDir) {
+            if (compiled != null) {
+                return new ItemData(compiled.getWeapons(), compiled.getArmors(), compiled.getPotions(), compiled.getSpells());
+            }
+            List<Spell> spells = new ArrayList<>();
+            spells.addAll(DataLoader.loadFireSpells(baseDir + GameCatalog.FIRE_SPELLS_FILE));
+            spells.addAll(DataLoader.loadIceSpells(baseDir + GameCatalog.ICE_SPELLS_FILE));
+            spells.addAll(DataLoader.loadLightningSpells(baseDir + GameCatalog.LIGHTNING_SPELLS_FILE));
+            return new ItemData(
+                    DataLoader.loadWeapons(baseDir + GameCatalog.WEAPONS_FILE),
+                    DataLoader.loadArmors(baseDir + GameCatalog.ARMORS_FILE),
+                    DataLoader.loadPotions(baseDir + GameCatalog.POTIONS_FILE),
+                    spells);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package legends.game;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads the whitespace-separated data tables under {@code data/}.
+ * <p>
+ * Characters are pulled in blocks into a reused line buffer and split into columns in place by
+ * {@link TableRow}; no per-line strings, regex splits or token arrays are created. The first line
+ * of every table is a header and is skipped, as are blank lines. Rows that are too short or hold
+ * a bad number are reported with their line number and skipped, so one typo no longer aborts the
+ * whole load.
+ */
+public final class TableReader {
+
+    private static final int BLOCK_SIZE = 8192;
+
+    private TableReader() {
+    }
+
+    /**
+     * Parse every data row of a table file.
+     *
+     * @param path       file to read
+     * @param what       plural name of the rows, used in error messages (e.g. "warriors")
+     * @param minColumns rows with fewer columns are reported and skipped
+     * @param mapper     turns each row into an object
+     * @return mapped rows in file order; empty if the file cannot be read
+     */
+    public static <T> List<T> read(String path, String what, int minColumns, RowMapper<T> mapper) {
+        Rows<T> out = new Rows<>();
+        try (Reader reader = new FileReader(path)) {
+            read(reader, path, what, minColumns, mapper, out);
+        } catch (IOException e) {
+            System.err.println("Error loading " + what + " from " + path + ": " + e.getMessage());
+            out.problems++;
+        }
+        return out;
+    }
+
+    /**
+     * @param rows a list returned by {@link #read}
+     * @return number of rows reported and skipped while reading it, plus one if the file could
+     *         not be read to the end; 0 for any other list
+     */
+    public static int problemCount(List<?> rows) {
+        return rows instanceof Rows<?> r ? r.problems : 0;
+    }
+
+    /**
+     * Result list that also remembers how many problems were reported while filling it.
+     */
+    private static final class Rows<T> extends ArrayList<T> {
+        private static final long serialVersionUID = 1L;
+
+        private int problems;
+    }
+
+    private static <T> void read(Reader reader, String path, String what, int minColumns,
+                                 RowMapper<T> mapper, Rows<T> out) throws IOException {
+        char[] block = new char[BLOCK_SIZE];
+        char[] line = new char[256];
+        int length = 0;
+        int lineNumber = 1;
+        TableRow row = new TableRow();
+
+        int n;
+        while ((n = reader.read(block)) != -1) {
+            for (int i = 0; i < n; i++) {
+                char ch = block[i];
+                if (ch == '\n') {
+                    if (!handleLine(line, length, lineNumber++, row, path, what, minColumns, mapper, out)) {
+                        out.problems++;
+                    }
+                    length = 0;
+                    continue;
+                }
+                if (length == line.length) {
+                    line = Arrays.copyOf(line, length * 2);
+                }
+                line[length++] = ch;
+            }
+        }
+        // last line without a trailing newline
+        if (!handleLine(line, length, lineNumber, row, path, what, minColumns, mapper, out)) {
+            out.problems++;
+        }
+    }
+
+    /**
+     * @return false if the line was reported as malformed
+     */
+    private static <T> boolean handleLine(char[] line, int length, int lineNumber, TableRow row,
+                                          String path, String what, int minColumns,
+                                          RowMapper<T> mapper, List<T> out) {
+        if (lineNumber == 1) {
+            return true; // header
+        }
+        row.reset(line, length, lineNumber);
+        if (row.columnCount() == 0) {
+            return true;
+        }
+        if (row.columnCount() < minColumns) {
+            reportMalformed(path, what, lineNumber,
+                    "expected " + minColumns + " columns, found " + row.columnCount());
+            return false;
+        }
+        try {
+            T value = mapper.map(row);
+            if (value != null) {
+                out.add(value);
+            }
+            return true;
+        } catch (IllegalArgumentException e) {
+            reportMalformed(path, what, lineNumber, e.getMessage());
+            return false;
+        }
+    }
+
+    private static void reportMalformed(String path, String what, int lineNumber, String reason) {
+        System.err.println("Skipping malformed row in " + what + " file " + path
+                + " line " + lineNumber + ": " + reason);
+    }
+}
@@ -0,0 +1,216 @@
+package legends.game;
+
+/**
+ * One whitespace-separated row of a data table, tokenized in place.
+ * <p>
+ * Columns are kept as offsets into the reader's line buffer, and numbers are parsed straight
+ * from those characters, so reading a row only allocates the strings a mapper asks for.
+ * The instance is reused for every row of a table.
+ */
+public final class TableRow {
+
+    private static final int MAX_EXACT_POW10 = 22;
+    private static final double[] POW10 = new double[MAX_EXACT_POW10 + 1];
+    // largest mantissa that a double holds exactly
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    static {
+        POW10[0] = 1.0;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10.0;
+        }
+    }
+
+    private char[] buf;
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private int count;
+    private int lineNumber;
+
+    /**
+     * Split {@code buf[0, length)} into columns on spaces and tabs.
+     */
+    void reset(char[] buf, int length, int lineNumber) {
+        this.buf = buf;
+        this.lineNumber = lineNumber;
+        count = 0;
+        int i = 0;
+        while (i < length) {
+            while (i < length && isBlank(buf[i])) {
+                i++;
+            }
+            if (i >= length) {
+                break;
+            }
+            int start = i;
+            while (i < length && !isBlank(buf[i])) {
+                i++;
+            }
+            if (count == starts.length) {
+                starts = java.util.Arrays.copyOf(starts, count * 2);
+                ends = java.util.Arrays.copyOf(ends, count * 2);
+            }
+            starts[count] = start;
+            ends[count] = i;
+            count++;
+        }
+    }
+
+    private static boolean isBlank(char ch) {
+        return ch == ' ' || ch == '\t' || ch == '\r' || ch == '\f';
+    }
+
+    /**
+     * @return number of columns in this row
+     */
+    public int columnCount() {
+        return count;
+    }
+
+    /**
+     * @return 1-based line number of this row in its file
+     */
+    public int lineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * @return the column as a string
+     */
+    public String text(int col) {
+        checkColumn(col);
+        return new String(buf, starts[col], ends[col] - starts[col]);
+    }
+
+    /**
+     * @return columns from {@code col} to the end joined with single spaces, or "" if none
+     */
+    public String rest(int col) {
+        if (col >= count) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(ends[count - 1] - starts[col]);
+        for (int i = col; i < count; i++) {
+            if (i > col) {
+                sb.append(' ');
+            }
+            sb.append(buf, starts[i], ends[i] - starts[i]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Parse the column as a decimal integer.
+     *
+     * @throws IllegalArgumentException if the column is not an integer
+     */
+    public int intAt(int col) {
+        checkColumn(col);
+        int i = starts[col];
+        int end = ends[col];
+        boolean negative = false;
+        if (buf[i] == '-' || buf[i] == '+') {
+            negative = buf[i] == '-';
+            i++;
+        }
+        if (i == end) {
+            throw notANumber(col, "an integer");
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = buf[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw notANumber(col, "an integer");
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw notANumber(col, "an int");
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw notANumber(col, "an int");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Parse the column as a decimal number. Plain decimals with up to 15 significant digits
+     * and small exponents are computed exactly from the digits; anything else falls back to
+     * {@link Double#parseDouble}.
+     *
+     * @throws IllegalArgumentException if the column is not a number
+     */
+    public double doubleAt(int col) {
+        checkColumn(col);
+        int i = starts[col];
+        int end = ends[col];
+        boolean negative = false;
+        if (buf[i] == '-' || buf[i] == '+') {
+            negative = buf[i] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean seenDigit = false;
+        boolean seenPoint = false;
+        for (; i < end; i++) {
+            char ch = buf[i];
+            if (ch >= '0' && ch <= '9') {
+                seenDigit = true;
+                if (mantissa == 0 && ch == '0') {
+                    // leading zeros do not count toward precision
+                    if (seenPoint) {
+                        scale--;
+                    }
+                    continue;
+                }
+                if (digits >= 18) {
+                    return slowDouble(col);
+                }
+                mantissa = mantissa * 10 + (ch - '0');
+                digits++;
+                if (seenPoint) {
+                    scale--;
+                }
+            } else if (ch == '.' && !seenPoint) {
+                seenPoint = true;
+            } else if (ch == 'e' || ch == 'E') {
+                if (!seenDigit) {
+                    throw notANumber(col, "a number");
+                }
+                return slowDouble(col);
+            } else {
+                throw notANumber(col, "a number");
+            }
+        }
+        if (!seenDigit) {
+            throw notANumber(col, "a number");
+        }
+        if (mantissa >= MAX_EXACT_MANTISSA || scale < -MAX_EXACT_POW10) {
+            return slowDouble(col);
+        }
+        double value = scale == 0 ? mantissa : mantissa / POW10[-scale];
+        return negative ? -value : value;
+    }
+
+    private double slowDouble(int col) {
+        try {
+            return Double.parseDouble(new String(buf, starts[col], ends[col] - starts[col]));
+        } catch (NumberFormatException e) {
+            throw notANumber(col, "a number");
+        }
+    }
+
+    private void checkColumn(int col) {
+        if (col < 0 || col >= count) {
+            throw new IllegalArgumentException("missing column " + (col + 1));
+        }
+    }
+
+    private IllegalArgumentException notANumber(int col, String expected) {
+        return new IllegalArgumentException("column " + (col + 1) + " '"
+                + new String(buf, starts[col], ends[col] - starts[col]) + "' is not " + expected);
+    }
+}
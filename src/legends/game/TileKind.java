@@ -0,0 +1,24 @@
+package legends.game;
+
+/**
+ * Compact tile kind codes shared by board storage and board generators.
+ * Kinds are stored as bytes so large maps need one byte per cell instead of one object.
+ */
+public final class TileKind {
+
+    public static final byte COMMON = 0;
+    public static final byte INACCESSIBLE = 1;
+    public static final byte MARKET = 2;
+
+    private TileKind() { }
+
+    /**
+     * Check whether heroes may stand on a tile of the given kind.
+     *
+     * @param kind tile kind code
+     * @return true for common and market tiles
+     */
+    public static boolean isAccessible(byte kind) {
+        return kind != INACCESSIBLE;
+    }
+}
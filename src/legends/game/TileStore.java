@@ -0,0 +1,37 @@
+package legends.game;
+
+/**
+ * Cell storage behind a {@link Board}. Implementations trade memory for simplicity;
+ * callers always address cells by (row, col) and never see the underlying layout.
+ */
+interface TileStore {
+
+    /**
+     * @return tile kind code (see {@link TileKind}) at (r, c)
+     */
+    byte kindAt(int r, int c);
+
+    /**
+     * @return the tile object at (r, c); may be a shared flyweight
+     */
+    Tile tileAt(int r, int c);
+
+    /**
+     * Set the tile kind at (r, c). Market cells get a freshly stocked market.
+     */
+    void setKind(int r, int c, byte kind);
+
+    /**
+     * Place a market tile backed by the given market at (r, c).
+     */
+    void setMarket(int r, int c, Market market);
+
+    /**
+     * @return the market already created for (r, c), or null if none was; never creates one
+     */
+    Market loadedMarketAt(int r, int c);
+
+    boolean isVisited(int r, int c);
+
+    void setVisited(int r, int c, boolean visited);
+}
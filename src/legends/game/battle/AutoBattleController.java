@@ -0,0 +1,31 @@
+package legends.game.battle;
+
+import legends.entities.heroes.Hero;
+import legends.entities.monsters.Monster;
+import legends.utilities.AliveSet;
+
+/**
+ * Simple AI for headless battles: every hero attacks the living monster with the least HP, the
+ * first listed one on ties, so the party focuses its damage. Holds no state and can be shared
+ * between battles.
+ */
+public class AutoBattleController implements BattleController {
+
+    @Override
+    public BattleAction chooseAction(BattleEngine battle, Hero hero) {
+        AliveSet<Monster> living = battle.getLivingMonsters();
+        Monster weakest = null;
+        int weakestIndex = -1;
+        for (int i = 0; i < living.size(); i++) {
+            Monster m = living.get(i);
+            int index = living.indexAt(i);
+            // ties go to the monster listed first, whatever order the set keeps
+            if (weakest == null || m.getHp() < weakest.getHp()
+                    || (m.getHp() == weakest.getHp() && index < weakestIndex)) {
+                weakest = m;
+                weakestIndex = index;
+            }
+        }
+        return weakest == null ? null : BattleAction.attack(weakest);
+    }
+}
@@ -0,0 +1,121 @@
+package legends.game.battle;
+
+import legends.entities.monsters.Monster;
+import legends.items.Armor;
+import legends.items.Item;
+import legends.items.Potion;
+import legends.items.Spell;
+import legends.items.Weapon;
+
+/**
+ * One choice a hero makes on their turn, as returned by a {@link BattleController}.
+ * <p>
+ * Attacking, casting, drinking a potion and running end the hero's turn. Equipping is free:
+ * the engine applies it and asks the controller again.
+ */
+public final class BattleAction {
+
+    /**
+     * Kind of action.
+     */
+    public enum Type {
+        ATTACK,
+        CAST_SPELL,
+        USE_POTION,
+        EQUIP_WEAPON,
+        EQUIP_ARMOR,
+        RUN
+    }
+
+    private static final BattleAction RUN = new BattleAction(Type.RUN, null, null, false);
+
+    private final Type type;
+    private final Monster target;
+    private final Item item;
+    private final boolean twoHandedGrip;
+
+    private BattleAction(Type type, Monster target, Item item, boolean twoHandedGrip) {
+        this.type = type;
+        this.target = target;
+        this.item = item;
+        this.twoHandedGrip = twoHandedGrip;
+    }
+
+    /**
+     * Attack a monster with the equipped weapon (or bare hands).
+     */
+    public static BattleAction attack(Monster target) {
+        return new BattleAction(Type.ATTACK, target, null, false);
+    }
+
+    /**
+     * Cast a spell from the hero's inventory on a monster.
+     */
+    public static BattleAction castSpell(Spell spell, Monster target) {
+        return new BattleAction(Type.CAST_SPELL, target, spell, false);
+    }
+
+    /**
+     * Drink a potion from the hero's inventory.
+     */
+    public static BattleAction usePotion(Potion potion) {
+        return new BattleAction(Type.USE_POTION, null, potion, false);
+    }
+
+    /**
+     * Equip a weapon from the hero's inventory. Does not end the turn.
+     *
+     * @param twoHandedGrip hold a one-handed weapon with both hands; ignored for two-handed weapons
+     */
+    public static BattleAction equipWeapon(Weapon weapon, boolean twoHandedGrip) {
+        return new BattleAction(Type.EQUIP_WEAPON, null, weapon, twoHandedGrip);
+    }
+
+    /**
+     * Equip armor from the hero's inventory. Does not end the turn.
+     */
+    public static BattleAction equipArmor(Armor armor) {
+        return new BattleAction(Type.EQUIP_ARMOR, null, armor, false);
+    }
+
+    /**
+     * Try to flee with the whole party.
+     */
+    public static BattleAction run() {
+        return RUN;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return targeted monster for attacks and spells, otherwise null
+     */
+    public Monster getTarget() {
+        return target;
+    }
+
+    /**
+     * @return spell, potion, weapon or armor used by the action, otherwise null
+     */
+    public Item getItem() {
+        return item;
+    }
+
+    public boolean isTwoHandedGrip() {
+        return twoHandedGrip;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(type.name());
+        if (item != null) {
+            sb.append(' ').append(item.getName());
+        }
+        if (target != null) {
+            sb.append(" -> ").append(target.getName());
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,34 @@
+package legends.game.battle;
+
+import legends.entities.heroes.Hero;
+
+/**
+ * Decides what each hero does on their turn: a console prompt, a script, or an AI.
+ */
+@FunctionalInterface
+public interface BattleController {
+
+    /** Free actions per turn allowed by {@link #freeActionLimit()} unless a controller says otherwise. */
+    int DEFAULT_FREE_ACTION_LIMIT = 8;
+
+    /**
+     * Choose the next action for a hero whose turn it is. Called again after a free action
+     * (equipping) or after an action the engine rejected.
+     *
+     * @param battle the running battle, for reading heroes and monsters
+     * @param hero   the hero to act
+     * @return the action to take, or null to skip the rest of this hero's turn
+     */
+    BattleAction chooseAction(BattleEngine battle, Hero hero);
+
+    /**
+     * How many equips and rejected actions a hero may make in one turn before the engine skips
+     * the rest of that turn. The limit keeps a scripted or AI controller that never picks a
+     * turn-ending action from stalling the battle.
+     *
+     * @return the limit; {@link Integer#MAX_VALUE} for none
+     */
+    default int freeActionLimit() {
+        return DEFAULT_FREE_ACTION_LIMIT;
+    }
+}
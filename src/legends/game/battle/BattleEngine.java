@@ -0,0 +1,438 @@
+package legends.game.battle;
+
+import java.util.List;
+import legends.entities.heroes.Hero;
+import legends.entities.monsters.Monster;
+import legends.game.HeroTargetStrategy;
+import legends.game.RandomHeroTargetStrategy;
+import legends.items.Armor;
+import legends.items.Inventory;
+import legends.items.Potion;
+import legends.items.Spell;
+import legends.items.Weapon;
+import legends.utilities.AliveSet;
+import legends.utilities.RandomSource;
+import legends.utilities.SplittableRandomSource;
+
+/**
+ * Battle rules without any console I/O.
+ * <p>
+ * Each round every standing hero acts, as chosen by the {@link BattleController}. Then every living
+ * monster attacks a hero picked by the {@link HeroTargetStrategy}, and surviving heroes regenerate.
+ * The battle ends when one side is down or the party flees. What happens is reported to an optional
+ * {@link BattleObserver} as typed callbacks, so headless runs build no strings. An engine can be
+ * {@link #reset reset} and reused for the next battle.
+ */
+public final class BattleEngine {
+
+    private static final double FLEE_CHANCE = 0.6;
+    private static final double FLEE_GOLD_LOSS = 0.1;
+
+    private static final String NO_TARGET = "No valid target.";
+    private static final String NOT_CARRIED = "That item is not in the hero's inventory.";
+    private static final String BROKEN = " is broken and cannot be equipped until repaired.";
+
+    private final BattleController controller;
+    private final HeroTargetStrategy targeting;
+    private final RandomSource rand;
+    private BattleObserver observer = BattleObserver.NONE;
+    private boolean rewardsEnabled = true;
+
+    private List<Hero> heroes;
+    private List<Monster> monsters;
+    private final AliveSet<Hero> livingHeroes = new AliveSet<>(h -> !h.isFainted());
+    private final AliveSet<Monster> livingMonsters = new AliveSet<>(m -> !m.isDead());
+    private int round;
+    private boolean fled;
+    private BattleOutcome outcome;
+
+    public BattleEngine(List<Hero> heroes, List<Monster> monsters, BattleController controller) {
+        this(heroes, monsters, controller, new SplittableRandomSource());
+    }
+
+    /**
+     * Battle where monsters pick random targets, rolling on the same source as everything else.
+     */
+    public BattleEngine(List<Hero> heroes, List<Monster> monsters, BattleController controller,
+                        RandomSource rand) {
+        this(heroes, monsters, controller, new RandomHeroTargetStrategy(rand), rand);
+    }
+
+    /**
+     * @param heroes     the party; the list is used as is, not copied
+     * @param monsters   the monsters to fight; the list is used as is, not copied
+     * @param controller chooses hero actions
+     * @param targeting  chooses which hero each monster attacks
+     * @param rand       source of every dodge roll and flee attempt
+     */
+    public BattleEngine(List<Hero> heroes, List<Monster> monsters, BattleController controller,
+                        HeroTargetStrategy targeting, RandomSource rand) {
+        this.controller = controller;
+        this.targeting = targeting;
+        this.rand = rand;
+        reset(heroes, monsters);
+    }
+
+    /**
+     * Prepare a new battle with the same controller, targeting and random source.
+     */
+    public void reset(List<Hero> heroes, List<Monster> monsters) {
+        this.heroes = heroes;
+        this.monsters = monsters;
+        livingHeroes.reset(heroes);
+        livingMonsters.reset(monsters);
+        this.round = 0;
+        this.fled = false;
+        this.outcome = null;
+    }
+
+    /**
+     * @param observer receiver of battle callbacks, or null for none
+     */
+    public void setObserver(BattleObserver observer) {
+        this.observer = observer == null ? BattleObserver.NONE : observer;
+    }
+
+    /**
+     * @param enabled false to skip victory gold, experience and revival, e.g. when the party is
+     *                thrown away after the battle
+     */
+    public void setRewardsEnabled(boolean enabled) {
+        this.rewardsEnabled = enabled;
+    }
+
+    /* ===================== Running ===================== */
+
+    /**
+     * Fight until one side is down or the party flees, then hand out victory rewards.
+     *
+     * @return how the battle ended
+     */
+    public BattleOutcome run() {
+        observer.battleStarted(this);
+        while (playRound()) {
+            // keep fighting
+        }
+        return outcome;
+    }
+
+    /**
+     * Play one round. When it ends the battle, the outcome is reported and rewards are handed out.
+     * {@link #run()} calls {@link BattleObserver#battleStarted} first; callers that step rounds
+     * themselves do that if they need it.
+     *
+     * @return true if the battle goes on
+     */
+    public boolean playRound() {
+        if (outcome != null) {
+            return false;
+        }
+        if (!checkOver()) {
+            round++;
+            observer.roundStarted(this, round);
+            heroesTurn();
+            if (!fled && !allMonstersDead()) {
+                observer.monstersTurnStarted(this);
+                monstersTurn();
+                regenerate();
+                observer.roundEnded(this, round);
+            }
+        }
+        if (checkOver()) {
+            finish();
+            return false;
+        }
+        return true;
+    }
+
+    private boolean checkOver() {
+        return fled || allMonstersDead() || allHeroesFainted();
+    }
+
+    private void finish() {
+        if (allMonstersDead()) {
+            outcome = BattleOutcome.VICTORY;
+        } else if (fled) {
+            outcome = BattleOutcome.FLED;
+        } else {
+            outcome = BattleOutcome.DEFEAT;
+        }
+        observer.battleEnded(this, outcome);
+        if (outcome == BattleOutcome.VICTORY && rewardsEnabled) {
+            grantRewards();
+        }
+    }
+
+    /* ===================== Heroes ===================== */
+
+    private void heroesTurn() {
+        for (int i = 0; i < heroes.size(); i++) {
+            Hero hero = heroes.get(i);
+            if (hero.isFainted()) {
+                continue;
+            }
+            heroTurn(hero);
+            if (fled || allMonstersDead()) {
+                return; // fleeing ends the battle before anyone else acts
+            }
+        }
+    }
+
+    private void heroTurn(Hero hero) {
+        int limit = controller.freeActionLimit();
+        for (int free = 0; free < limit; free++) {
+            BattleAction action = controller.chooseAction(this, hero);
+            if (action == null || apply(hero, action)) {
+                return;
+            }
+        }
+        observer.turnSkipped(hero);
+    }
+
+    /**
+     * @return true if the action ended the hero's turn
+     */
+    private boolean apply(Hero hero, BattleAction action) {
+        Inventory inv = hero.getInventory();
+        switch (action.getType()) {
+            case ATTACK -> {
+                Monster target = action.getTarget();
+                if (!isLivingMonster(target)) {
+                    observer.actionRejected(hero, action, NO_TARGET);
+                    return false;
+                }
+                double before = target.getHp();
+                hero.attack(target, rand);
+                Weapon weapon = hero.getEquippedWeapon();
+                hero.consumeWeaponUse();
+                if (weapon != null && hero.getEquippedWeapon() == null) {
+                    observer.weaponBroke(hero, weapon);
+                }
+                observer.heroAttacked(hero, target, Math.max(0, before - target.getHp()));
+                if (!livingMonsters.update(target)) {
+                    observer.monsterDefeated(hero, target);
+                }
+                return true;
+            }
+            case CAST_SPELL -> {
+                Spell spell = (Spell) action.getItem();
+                Monster target = action.getTarget();
+                if (!inv.getSpells().contains(spell)) {
+                    observer.actionRejected(hero, action, NOT_CARRIED);
+                    return false;
+                }
+                if (!isLivingMonster(target)) {
+                    observer.actionRejected(hero, action, NO_TARGET);
+                    return false;
+                }
+                double before = target.getHp();
+                switch (hero.castSpell(spell, target, rand)) {
+                    case NOT_ENOUGH_MANA -> observer.notEnoughMana(hero, spell, target);
+                    case DODGED -> observer.spellDodged(hero, spell, target);
+                    case WEAKENED -> observer.monsterWeakened(hero, spell, target);
+                    default -> {
+                        // a plain hit is reported by spellCast below
+                    }
+                }
+                // Spells are consumable; remove once uses are gone
+                spell.consumeUse();
+                boolean consumed = !spell.isUsable();
+                if (consumed) {
+                    inv.removeSpell(spell);
+                }
+                observer.spellCast(hero, spell, target, Math.max(0, before - target.getHp()), consumed);
+                if (!livingMonsters.update(target)) {
+                    observer.monsterDefeated(hero, target);
+                }
+                return true;
+            }
+            case USE_POTION -> {
+                Potion potion = (Potion) action.getItem();
+                if (!inv.getPotions().contains(potion)) {
+                    observer.actionRejected(hero, action, NOT_CARRIED);
+                    return false;
+                }
+                if (hero.usePotion(potion)) {
+                    observer.potionUsed(hero, potion);
+                } else {
+                    observer.potionEmpty(hero, potion);
+                }
+                return true;
+            }
+            case EQUIP_WEAPON -> {
+                Weapon weapon = (Weapon) action.getItem();
+                if (!inv.getWeapons().contains(weapon)) {
+                    observer.actionRejected(hero, action, NOT_CARRIED);
+                    return false;
+                }
+                if (!hero.equipWeapon(weapon)) {
+                    observer.actionRejected(hero, action, weapon.getName() + BROKEN);
+                    return false;
+                }
+                if (weapon.getHandsRequired() == 1) {
+                    hero.setWeaponTwoHandedGrip(action.isTwoHandedGrip());
+                }
+                observer.weaponEquipped(hero, weapon);
+                return false;
+            }
+            case EQUIP_ARMOR -> {
+                Armor armor = (Armor) action.getItem();
+                if (!inv.getArmors().contains(armor)) {
+                    observer.actionRejected(hero, action, NOT_CARRIED);
+                    return false;
+                }
+                if (!hero.equipArmor(armor)) {
+                    observer.actionRejected(hero, action, armor.getName() + BROKEN);
+                    return false;
+                }
+                observer.armorEquipped(hero, armor);
+                return false;
+            }
+            case RUN -> {
+                attemptRunAway();
+                // whether or not the party got away, this hero's turn is done
+                return true;
+            }
+            default -> {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * The whole party tries to flee. On success every standing hero drops some gold.
+     */
+    private void attemptRunAway() {
+        boolean success = rand.nextDouble() < FLEE_CHANCE;
+        if (success) {
+            for (int i = 0; i < heroes.size(); i++) {
+                Hero h = heroes.get(i);
+                if (!h.isFainted() && h.getGold() > 0) {
+                    h.spendGold(h.getGold() * FLEE_GOLD_LOSS);
+                }
+            }
+            fled = true;
+        }
+        observer.fleeAttempted(success);
+    }
+
+    /* ===================== Monsters ===================== */
+
+    private void monstersTurn() {
+        for (int i = 0; i < monsters.size(); i++) {
+            Monster m = monsters.get(i);
+            if (m.isDead()) {
+                continue;
+            }
+            Hero target = targeting.selectTarget(livingHeroes);
+            if (target == null) {
+                return;
+            }
+            if (rand.nextDouble() < target.getDodgeChance()) {
+                observer.monsterAttacked(m, target, 0, true);
+                continue;
+            }
+            double before = target.getHp();
+            Armor armor = target.getEquippedArmor();
+            target.receiveDamage(m.attack());
+            observer.monsterAttacked(m, target, Math.max(0, before - target.getHp()), false);
+            if (armor != null && target.getEquippedArmor() == null) {
+                observer.armorBroke(target, armor);
+            }
+            if (!livingHeroes.update(target)) {
+                observer.heroFainted(target);
+            }
+        }
+    }
+
+    /* ===================== End of round / battle ===================== */
+
+    private void regenerate() {
+        for (int i = 0; i < heroes.size(); i++) {
+            Hero h = heroes.get(i);
+            if (!h.isFainted()) {
+                h.regenAfterRound();
+            }
+        }
+    }
+
+    private void grantRewards() {
+        if (monsters.isEmpty()) {
+            return;
+        }
+        int monsterLevel = monsters.get(0).getLevel(); // all monsters should be at same level
+        double goldPerHero = monsterLevel * 100.0;
+        double expGain = monsters.size() * 2.0;
+
+        for (int i = 0; i < heroes.size(); i++) {
+            Hero h = heroes.get(i);
+            if (h.isFainted()) {
+                observer.rewardMissed(h);
+                h.reviveAtHalf();
+                livingHeroes.update(h);
+            } else {
+                int levelBefore = h.getLevel();
+                h.gainGold(goldPerHero);
+                h.gainExperience(expGain);
+                observer.rewardGranted(h, goldPerHero, expGain);
+                for (int level = levelBefore + 1; level <= h.getLevel(); level++) {
+                    observer.heroLeveledUp(h, level);
+                }
+            }
+        }
+    }
+
+    /* ===================== State ===================== */
+
+    public List<Hero> getHeroes() {
+        return heroes;
+    }
+
+    public List<Monster> getMonsters() {
+        return monsters;
+    }
+
+    /**
+     * @return number of the current round, starting at 1; 0 before the first round
+     */
+    public int getRound() {
+        return round;
+    }
+
+    /**
+     * @return how the battle ended, or null while it is still going
+     */
+    public BattleOutcome getOutcome() {
+        return outcome;
+    }
+
+    public boolean isOver() {
+        return outcome != null;
+    }
+
+    /**
+     * @return the heroes still standing, kept current as heroes faint and revive
+     */
+    public AliveSet<Hero> getLivingHeroes() {
+        return livingHeroes;
+    }
+
+    /**
+     * @return the monsters still alive, kept current as monsters die
+     */
+    public AliveSet<Monster> getLivingMonsters() {
+        return livingMonsters;
+    }
+
+    public boolean allHeroesFainted() {
+        return livingHeroes.isEmpty();
+    }
+
+    public boolean allMonstersDead() {
+        return livingMonsters.isEmpty();
+    }
+
+    private boolean isLivingMonster(Monster m) {
+        return m != null && livingMonsters.contains(m);
+    }
+}
@@ -0,0 +1,151 @@
+package legends.game.battle;
+
+import legends.entities.heroes.Hero;
+import legends.entities.monsters.Monster;
+import legends.items.Armor;
+import legends.items.Potion;
+import legends.items.Spell;
+import legends.items.Weapon;
+
+/**
+ * Receives what happens in a battle as it happens. Every method does nothing by default,
+ * so an observer only overrides what it needs. Callbacks run on the engine's thread and
+ * must not change the battle.
+ */
+public interface BattleObserver {
+
+    /** Observer that ignores everything. */
+    BattleObserver NONE = new BattleObserver() { };
+
+    default void battleStarted(BattleEngine battle) {
+    }
+
+    /**
+     * A round begins; the heroes act first.
+     */
+    default void roundStarted(BattleEngine battle, int round) {
+    }
+
+    /**
+     * The heroes have acted and the monsters are about to.
+     */
+    default void monstersTurnStarted(BattleEngine battle) {
+    }
+
+    /**
+     * The round is over and surviving heroes have regenerated.
+     */
+    default void roundEnded(BattleEngine battle, int round) {
+    }
+
+    /**
+     * @param damage HP the monster lost; 0 if it dodged
+     */
+    default void heroAttacked(Hero hero, Monster target, double damage) {
+    }
+
+    /**
+     * The hero lacked the mana for the spell; the turn is spent anyway.
+     */
+    default void notEnoughMana(Hero hero, Spell spell, Monster target) {
+    }
+
+    /**
+     * The monster dodged the spell; the mana is spent anyway.
+     */
+    default void spellDodged(Hero hero, Spell spell, Monster target) {
+    }
+
+    /**
+     * The spell's effect lowered {@link Spell#getWeakenedStat()} of a monster that survived the hit.
+     */
+    default void monsterWeakened(Hero hero, Spell spell, Monster target) {
+    }
+
+    /**
+     * Called after every cast, following {@link #notEnoughMana}, {@link #spellDodged} or
+     * {@link #monsterWeakened} if one of those applied.
+     *
+     * @param damage   HP the monster lost; 0 if the spell missed or was not cast
+     * @param consumed true if the spell ran out of uses and left the inventory
+     */
+    default void spellCast(Hero hero, Spell spell, Monster target, double damage, boolean consumed) {
+    }
+
+    default void potionUsed(Hero hero, Potion potion) {
+    }
+
+    /**
+     * The potion had no uses left and was thrown away without effect; the turn is spent anyway.
+     */
+    default void potionEmpty(Hero hero, Potion potion) {
+    }
+
+    default void weaponEquipped(Hero hero, Weapon weapon) {
+    }
+
+    default void armorEquipped(Hero hero, Armor armor) {
+    }
+
+    /**
+     * The hero's weapon ran out of uses during an attack and was unequipped.
+     */
+    default void weaponBroke(Hero hero, Weapon weapon) {
+    }
+
+    /**
+     * The hero's armor ran out of uses while absorbing a hit and was unequipped.
+     */
+    default void armorBroke(Hero hero, Armor armor) {
+    }
+
+    /**
+     * The engine refused an action, for example a dead target or an item the hero does not carry.
+     * The controller is asked again.
+     */
+    default void actionRejected(Hero hero, BattleAction action, String reason) {
+    }
+
+    default void fleeAttempted(boolean success) {
+    }
+
+    /**
+     * The hero used up the controller's {@link BattleController#freeActionLimit() free actions}
+     * without ending the turn, so the engine ended it.
+     */
+    default void turnSkipped(Hero hero) {
+    }
+
+    /**
+     * @param damage HP the hero lost; 0 if the hero dodged
+     */
+    default void monsterAttacked(Monster monster, Hero target, double damage, boolean dodged) {
+    }
+
+    default void monsterDefeated(Hero hero, Monster monster) {
+    }
+
+    default void heroFainted(Hero hero) {
+    }
+
+    /**
+     * The outcome is decided. Victory rewards are handed out after this call.
+     */
+    default void battleEnded(BattleEngine battle, BattleOutcome outcome) {
+    }
+
+    default void rewardGranted(Hero hero, double gold, double experience) {
+    }
+
+    /**
+     * The hero's reward experience took it to a new level; called once per level gained.
+     */
+    default void heroLeveledUp(Hero hero, int level) {
+    }
+
+    /**
+     * A hero who fainted gets no reward and is revived at half HP and MP.
+     */
+    default void rewardMissed(Hero hero) {
+    }
+}
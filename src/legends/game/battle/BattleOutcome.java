@@ -0,0 +1,13 @@
+package legends.game.battle;
+
+/**
+ * How a battle ended.
+ */
+public enum BattleOutcome {
+    /** Every monster was defeated. */
+    VICTORY,
+    /** Every hero fainted. */
+    DEFEAT,
+    /** The party ran away. */
+    FLED
+}
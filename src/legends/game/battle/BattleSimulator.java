@@ -0,0 +1,370 @@
+package legends.game.battle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import legends.entities.heroes.Hero;
+import legends.entities.monsters.Monster;
+import legends.game.GameCatalog;
+import legends.game.MonsterPool;
+import legends.game.MonsterSampler;
+import legends.items.Armor;
+import legends.items.Item;
+import legends.items.Weapon;
+import legends.utilities.SplittableRandomSource;
+
+/**
+ * Runs many independent headless battles of one party against one kind of encounter and sums up
+ * the results, so balance can be estimated without playing {@link legends.game.Battle} by hand.
+ * <p>
+ * The battles are split into chunks that run as fork/join tasks. Each chunk owns its random
+ * stream, engine, monster pool and party copies, so chunks share nothing but the read-only
+ * templates and scale with the cores available. The streams come from one {@link SplittableRandomSource}
+ * split along a task tree whose shape only depends on the battle and split counts, and chunk
+ * results are merged as integer counts in tree order. Every roll of a battle goes through the
+ * chunk's stream, so a seed and split count always give the same report, however the pool
+ * schedules the tasks.
+ * <p>
+ * Run with {@code java -cp out legends.Main --simulate-battles [battles] [seed]} for a default
+ * party of one hero of each class, each geared with what its starting gold buys.
+ */
+public final class BattleSimulator {
+
+    /** Command-line flag that runs a simulation instead of the game. */
+    public static final String FLAG = "--simulate-battles";
+
+    /** Split count used when none is given; fixed so reports do not depend on the machine. */
+    public static final int DEFAULT_SPLITS = 64;
+
+    /** Rounds after which a battle is stopped and counted as unfinished. */
+    public static final int DEFAULT_MAX_ROUNDS = 500;
+
+    private static final int DEFAULT_BATTLES = 100_000;
+    private static final long DEFAULT_SEED = 42L;
+
+    private final PartyTemplate party;
+    private final EncounterTemplate encounter;
+    private final BattleController controller;
+    private final ForkJoinPool pool;
+    private int maxRounds = DEFAULT_MAX_ROUNDS;
+
+    /**
+     * Simulate with {@link AutoBattleController} on the common fork/join pool.
+     */
+    public BattleSimulator(PartyTemplate party, EncounterTemplate encounter) {
+        this(party, encounter, new AutoBattleController(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param party      the party every battle starts with
+     * @param encounter  the monsters every battle is drawn from
+     * @param controller chooses hero actions; shared by all threads, so it must not keep state
+     * @param pool       pool to run the battles on
+     */
+    public BattleSimulator(PartyTemplate party, EncounterTemplate encounter,
+                           BattleController controller, ForkJoinPool pool) {
+        this.party = party;
+        this.encounter = encounter;
+        this.controller = controller;
+        this.pool = pool;
+    }
+
+    public void setMaxRounds(int maxRounds) {
+        this.maxRounds = Math.max(1, maxRounds);
+    }
+
+    /**
+     * Run battles split into {@link #DEFAULT_SPLITS} chunks.
+     */
+    public SimulationReport simulate(int battles, long seed) {
+        return simulate(battles, seed, DEFAULT_SPLITS);
+    }
+
+    /**
+     * @param battles number of battles
+     * @param seed    seed of the root random stream
+     * @param splits  number of chunks to cut the battles into; more chunks balance load better
+     * @return summed results of all battles
+     */
+    public SimulationReport simulate(int battles, long seed, int splits) {
+        if (battles <= 0) {
+            return new Tally(maxRounds).toReport();
+        }
+        int chunk = Math.max(1, (battles + Math.max(1, splits) - 1) / Math.max(1, splits));
+        return pool.invoke(new Chunk(battles, chunk, new SplittableRandomSource(seed))).toReport();
+    }
+
+    /* ===================== Tasks ===================== */
+
+    private final class Chunk extends RecursiveTask<Tally> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int battles;
+        private final int chunkSize;
+        // tasks never leave the pool, so the stream does not need to be serializable
+        private final transient SplittableRandomSource rand;
+
+        Chunk(int battles, int chunkSize, SplittableRandomSource rand) {
+            this.battles = battles;
+            this.chunkSize = chunkSize;
+            this.rand = rand;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (battles <= chunkSize) {
+                return runChunk(battles, rand);
+            }
+            int half = battles / 2;
+            // split before forking, so the streams do not depend on scheduling
+            Chunk left = new Chunk(half, chunkSize, rand.split());
+            Chunk right = new Chunk(battles - half, chunkSize, rand);
+            left.fork();
+            Tally rightTally = right.compute();
+            Tally tally = left.join();
+            tally.merge(rightTally);
+            return tally;
+        }
+    }
+
+    private Tally runChunk(int battles, SplittableRandomSource rand) {
+        Tally tally = new Tally(maxRounds);
+        MonsterPool monsterPool = new MonsterPool(encounter.getCount());
+        List<Monster> monsters = new ArrayList<>(encounter.getCount());
+        BattleEngine engine = new BattleEngine(new ArrayList<>(), monsters, controller, rand);
+        // the party is thrown away after each battle, so rewards would only cost time
+        engine.setRewardsEnabled(false);
+        long[] usesBefore = new long[SimulationReport.ITEM_KINDS];
+        long[] usesAfter = new long[SimulationReport.ITEM_KINDS];
+
+        for (int b = 0; b < battles; b++) {
+            List<Hero> heroes = party.create();
+            encounter.fill(monsters, rand, monsterPool);
+            double startHp = totalHp(heroes);
+            countUses(heroes, usesBefore);
+
+            engine.reset(heroes, monsters);
+            while (engine.getRound() < maxRounds && engine.playRound()) {
+                // keep fighting
+            }
+
+            countUses(heroes, usesAfter);
+            tally.record(engine.getOutcome(), engine.getRound(), startHp, totalHp(heroes), usesBefore, usesAfter);
+            monsterPool.releaseAll(monsters);
+            monsters.clear();
+        }
+        return tally;
+    }
+
+    private static double totalHp(List<Hero> heroes) {
+        double hp = 0;
+        for (int i = 0; i < heroes.size(); i++) {
+            hp += heroes.get(i).getHp();
+        }
+        return hp;
+    }
+
+    /**
+     * Sum the remaining uses of every item the heroes carry or wear, by item kind.
+     */
+    private static void countUses(List<Hero> heroes, long[] out) {
+        Arrays.fill(out, 0);
+        for (int i = 0; i < heroes.size(); i++) {
+            Hero h = heroes.get(i);
+            List<Weapon> weapons = h.getInventory().getWeapons();
+            List<Armor> armors = h.getInventory().getArmors();
+            out[SimulationReport.WEAPON] += uses(weapons);
+            out[SimulationReport.ARMOR] += uses(armors);
+            out[SimulationReport.POTION] += uses(h.getInventory().getPotions());
+            out[SimulationReport.SPELL] += uses(h.getInventory().getSpells());
+            // equipment is usually carried too; only count it when it is not
+            if (h.getEquippedWeapon() != null && !containsSame(weapons, h.getEquippedWeapon())) {
+                out[SimulationReport.WEAPON] += Math.max(0, h.getEquippedWeapon().getRemainingUses());
+            }
+            if (h.getEquippedArmor() != null && !containsSame(armors, h.getEquippedArmor())) {
+                out[SimulationReport.ARMOR] += Math.max(0, h.getEquippedArmor().getRemainingUses());
+            }
+        }
+    }
+
+    private static long uses(List<? extends Item> items) {
+        long total = 0;
+        for (int i = 0; i < items.size(); i++) {
+            // untracked items report negative uses
+            total += Math.max(0, items.get(i).getRemainingUses());
+        }
+        return total;
+    }
+
+    private static boolean containsSame(List<? extends Item> items, Item item) {
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i) == item) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /* ===================== Results ===================== */
+
+    /**
+     * Mutable counts of one chunk; merged into its parent's when the chunk is done.
+     */
+    private static final class Tally {
+
+        private long victories;
+        private long defeats;
+        private long fled;
+        private long unfinished;
+        private final long[] roundCounts;
+        private final long[] hpCounts = new long[SimulationReport.HP_BUCKETS];
+        private final long[] itemUses = new long[SimulationReport.ITEM_KINDS];
+
+        Tally(int maxRounds) {
+            this.roundCounts = new long[maxRounds + 1];
+        }
+
+        void record(BattleOutcome outcome, int rounds, double startHp, double endHp,
+                    long[] usesBefore, long[] usesAfter) {
+            if (outcome == null) {
+                unfinished++;
+            } else {
+                switch (outcome) {
+                    case VICTORY -> victories++;
+                    case DEFEAT -> defeats++;
+                    case FLED -> fled++;
+                }
+                roundCounts[Math.min(rounds, roundCounts.length - 1)]++;
+            }
+            double left = startHp <= 0 ? 0 : Math.min(1, endHp / startHp);
+            hpCounts[Math.min(SimulationReport.HP_BUCKETS - 1, (int) (left * SimulationReport.HP_BUCKETS))]++;
+            for (int k = 0; k < itemUses.length; k++) {
+                // items used up and dropped from the inventory count as zero uses afterwards
+                itemUses[k] += Math.max(0, usesBefore[k] - usesAfter[k]);
+            }
+        }
+
+        void merge(Tally other) {
+            victories += other.victories;
+            defeats += other.defeats;
+            fled += other.fled;
+            unfinished += other.unfinished;
+            for (int r = 0; r < roundCounts.length; r++) {
+                roundCounts[r] += other.roundCounts[r];
+            }
+            for (int i = 0; i < hpCounts.length; i++) {
+                hpCounts[i] += other.hpCounts[i];
+            }
+            for (int k = 0; k < itemUses.length; k++) {
+                itemUses[k] += other.itemUses[k];
+            }
+        }
+
+        SimulationReport toReport() {
+            return new SimulationReport(victories, defeats, fled, unfinished, roundCounts, hpCounts, itemUses);
+        }
+    }
+
+    /* ===================== Command line ===================== */
+
+    /**
+     * Entry point for {@link #FLAG}: {@code args[0]} is the number of battles and {@code args[1]}
+     * the seed. The party is the first warrior, paladin and sorcerer of the catalog, each with
+     * the first weapon and armor; the encounter is what the game would send against them.
+     */
+    public static void run(String[] args) {
+        int battles = DEFAULT_BATTLES;
+        long seed = DEFAULT_SEED;
+        if (args.length > 0) {
+            try {
+                battles = Integer.parseInt(args[0]);
+            } catch (NumberFormatException e) {
+                System.err.println("Invalid battle count '" + args[0] + "', using " + DEFAULT_BATTLES);
+            }
+        }
+        if (args.length > 1) {
+            try {
+                seed = Long.parseLong(args[1]);
+            } catch (NumberFormatException e) {
+                System.err.println("Invalid seed '" + args[1] + "', using " + DEFAULT_SEED);
+            }
+        }
+
+        GameCatalog catalog = GameCatalog.getDefault();
+        List<Hero> heroes = new ArrayList<>();
+        addFirst(heroes, catalog.getWarriors(), catalog);
+        addFirst(heroes, catalog.getPaladins(), catalog);
+        addFirst(heroes, catalog.getSorcerers(), catalog);
+        MonsterSampler sampler = new MonsterSampler(catalog.getDragons(), catalog.getSpirits(), catalog.getExoskeletons());
+        if (heroes.isEmpty() || !sampler.canSample(1)) {
+            System.err.println("Simulation needs at least one hero and one monster in " + GameCatalog.DEFAULT_DATA_DIR);
+            return;
+        }
+        PartyTemplate party = new PartyTemplate(heroes);
+        EncounterTemplate encounter = EncounterTemplate.forParty(sampler, party);
+        BattleSimulator simulator = new BattleSimulator(party, encounter);
+
+        long start = System.nanoTime();
+        SimulationReport report = simulator.simulate(battles, seed);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        StringBuilder names = new StringBuilder();
+        for (Hero h : party.getHeroes()) {
+            names.append(names.length() == 0 ? "" : ", ").append(h.getName());
+        }
+        double[] uses = report.usesPerBattle();
+        System.out.printf("Simulated %d battles (seed %d, %d splits, %d threads) in %.2f s%n",
+                report.getBattles(), seed, DEFAULT_SPLITS, ForkJoinPool.commonPool().getParallelism(), seconds);
+        System.out.printf("Party: %s vs %d level-%d monsters%n", names, encounter.getCount(), encounter.getLevel());
+        System.out.printf("Win rate: %.1f%% (victories %d, defeats %d, fled %d, unfinished %d)%n",
+                report.winRate() * 100, report.getVictories(), report.getDefeats(), report.getFled(),
+                report.getUnfinished());
+        System.out.printf("Rounds: mean %.2f, median %d, p90 %d, p99 %d%n", report.meanRounds(),
+                report.roundsQuantile(0.5), report.roundsQuantile(0.9), report.roundsQuantile(0.99));
+        System.out.printf("Party HP left: p10 %.0f%%, median %.0f%%, p90 %.0f%%%n",
+                report.hpRemainingQuantile(0.1) * 100, report.hpRemainingQuantile(0.5) * 100,
+                report.hpRemainingQuantile(0.9) * 100);
+        System.out.printf("Item uses per battle: weapon %.2f, armor %.2f, potion %.2f, spell %.2f%n",
+                uses[SimulationReport.WEAPON], uses[SimulationReport.ARMOR], uses[SimulationReport.POTION],
+                uses[SimulationReport.SPELL]);
+    }
+
+    /**
+     * Add a copy of the first hero of a class, which spends its starting gold on the hardest-hitting
+     * weapon it can use and afford, then on the strongest armor it can still afford.
+     */
+    private static void addFirst(List<Hero> party, List<? extends Hero> heroes, GameCatalog catalog) {
+        if (heroes.isEmpty()) {
+            return;
+        }
+        Hero hero = heroes.get(0).copy();
+        Weapon weapon = null;
+        for (Weapon w : catalog.getWeaponIndex().usableAndAffordable(hero.getLevel(), hero.getGold())) {
+            if (weapon == null || w.getDamage() > weapon.getDamage()) {
+                weapon = w;
+            }
+        }
+        if (weapon != null) {
+            weapon = weapon.copy();
+            hero.spendGold(weapon.getCost());
+            hero.getInventory().addWeapon(weapon);
+            hero.equipWeapon(weapon);
+        }
+        Armor armor = null;
+        for (Armor a : catalog.getArmorIndex().usableAndAffordable(hero.getLevel(), hero.getGold())) {
+            if (armor == null || a.getDamageReduction() > armor.getDamageReduction()) {
+                armor = a;
+            }
+        }
+        if (armor != null) {
+            armor = armor.copy();
+            hero.spendGold(armor.getCost());
+            hero.getInventory().addArmor(armor);
+            hero.equipArmor(armor);
+        }
+        party.add(hero);
+    }
+}
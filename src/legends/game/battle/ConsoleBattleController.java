@@ -0,0 +1,291 @@
+package legends.game.battle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import legends.entities.heroes.Hero;
+import legends.entities.monsters.Monster;
+import legends.items.Armor;
+import legends.items.Inventory;
+import legends.items.Potion;
+import legends.items.Spell;
+import legends.items.Weapon;
+import legends.utilities.Color;
+
+/**
+ * Asks the player for each hero's action through terminal menus.
+ * Menus loop until they produce a complete action; inspecting status is handled here
+ * since it does not touch the battle.
+ */
+public class ConsoleBattleController implements BattleController {
+
+    private final Scanner in;
+    // reused by chooseMonsterTarget; cleared on every call
+    private final List<Monster> aliveScratch = new ArrayList<>();
+
+    public ConsoleBattleController(Scanner in) {
+        this.in = in;
+    }
+
+    /**
+     * The player may change equipment as often as they like; only they end their turn.
+     */
+    @Override
+    public int freeActionLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public BattleAction chooseAction(BattleEngine battle, Hero hero) {
+        while (true) {
+            System.out.println("\nIt's " + hero.getDisplayName() + "'s turn.");
+            System.out.println("1. Attack");
+            System.out.println("2. Cast Spell");
+            System.out.println("3. Use Potion");
+            System.out.println("4. Change Equipment");
+            System.out.println("5. Inspect status");
+            System.out.println("6. Run");
+            System.out.print("Choose action: ");
+
+            String line = in.nextLine().trim();
+            int choice;
+            try {
+                choice = Integer.parseInt(line);
+            } catch (NumberFormatException e) {
+                System.out.println("Invalid input.");
+                continue;
+            }
+
+            BattleAction action = switch (choice) {
+                case 1 -> chooseAttack(battle);
+                case 2 -> chooseSpell(battle, hero);
+                case 3 -> choosePotion(hero);
+                // Changing equipment does NOT consume the turn; the engine asks again afterwards
+                case 4 -> chooseEquipment(hero);
+                case 5 -> {
+                    // Free inspect action
+                    ConsoleBattleObserver.printStatus(battle.getHeroes(), battle.getMonsters());
+                    yield null;
+                }
+                // Attempt to flee the battle for the whole party.
+                case 6 -> BattleAction.run();
+                default -> {
+                    System.out.println("Invalid choice.");
+                    yield null;
+                }
+            };
+            // a cancelled sub-menu re-shows the action menu
+            if (action != null) {
+                return action;
+            }
+        }
+    }
+
+    private BattleAction chooseAttack(BattleEngine battle) {
+        Monster target = chooseMonsterTarget(battle);
+        if (target == null) {
+            System.out.println("No valid target selected. Action cancelled.");
+            return null;
+        }
+        return BattleAction.attack(target);
+    }
+
+    private BattleAction chooseSpell(BattleEngine battle, Hero hero) {
+        List<Spell> spells = hero.getInventory().getSpells();
+        if (spells.isEmpty()) {
+            System.out.println("No spells in inventory.");
+            return null;
+        }
+
+        System.out.println("Spells:");
+        for (int i = 0; i < spells.size(); i++) {
+            System.out.println((i + 1) + ". " + spells.get(i));
+        }
+        System.out.print("Choose spell index: ");
+
+        int idx = readIndex();
+        if (idx < 0) {
+            return null;
+        }
+        if (idx < 1 || idx > spells.size()) {
+            System.out.println("Index out of range.");
+            return null;
+        }
+
+        Spell s = spells.get(idx - 1);
+        Monster target = chooseMonsterTarget(battle);
+        if (target == null) {
+            System.out.println("No valid target.");
+            return null;
+        }
+        return BattleAction.castSpell(s, target);
+    }
+
+    private BattleAction choosePotion(Hero hero) {
+        List<Potion> potions = hero.getInventory().getPotions();
+        if (potions.isEmpty()) {
+            System.out.println("No potions in inventory.");
+            return null;
+        }
+
+        System.out.println("Potions:");
+        for (int i = 0; i < potions.size(); i++) {
+            System.out.println((i + 1) + ". " + potions.get(i));
+        }
+        System.out.print("Choose potion index: ");
+
+        int idx = readIndex();
+        if (idx < 0) {
+            return null;
+        }
+        if (idx < 1 || idx > potions.size()) {
+            System.out.println("Index out of range.");
+            return null;
+        }
+        return BattleAction.usePotion(potions.get(idx - 1));
+    }
+
+    private BattleAction chooseEquipment(Hero hero) {
+        Inventory inv = hero.getInventory();
+
+        while (true) {
+            System.out.println("Change Equipment:");
+            System.out.println("1. Equip Weapon");
+            System.out.println("2. Equip Armor");
+            System.out.println("0. Cancel");
+            System.out.print("Choose: ");
+
+            String line = in.nextLine().trim();
+            int choice;
+            try {
+                choice = Integer.parseInt(line);
+            } catch (NumberFormatException e) {
+                System.out.println("Invalid input.");
+                continue;
+            }
+
+            if (choice == 0) {
+                return null;
+            }
+
+            switch (choice) {
+                case 1 -> {
+                    List<Weapon> weapons = inv.getWeapons();
+                    if (weapons.isEmpty()) {
+                        System.out.println("No weapons available.");
+                        continue;
+                    }
+                    Weapon chosen = pick("Weapons:", "Choose weapon (0=cancel): ", weapons);
+                    if (chosen == null) {
+                        continue;
+                    }
+                    boolean twoHanded = false;
+                    if (chosen.getHandsRequired() == 1) {
+                        System.out.print("Use two hands for extra damage? (y/n): ");
+                        String grip = in.nextLine().trim().toLowerCase();
+                        twoHanded = grip.startsWith("y");
+                    }
+                    return BattleAction.equipWeapon(chosen, twoHanded);
+                }
+                case 2 -> {
+                    List<Armor> armors = inv.getArmors();
+                    if (armors.isEmpty()) {
+                        System.out.println("No armor available.");
+                        continue;
+                    }
+                    Armor chosen = pick("Armors:", "Choose armor (0=cancel): ", armors);
+                    if (chosen == null) {
+                        continue;
+                    }
+                    return BattleAction.equipArmor(chosen);
+                }
+                default -> System.out.println("Invalid choice.");
+            }
+        }
+    }
+
+    /**
+     * List items and read a 1-based choice until it is valid or cancelled.
+     *
+     * @return chosen item, or null on 0
+     */
+    private <T> T pick(String title, String prompt, List<T> items) {
+        while (true) {
+            System.out.println(title);
+            for (int i = 0; i < items.size(); i++) {
+                System.out.println((i + 1) + ". " + items.get(i));
+            }
+            System.out.print(prompt);
+            int idx = readIndex();
+            if (idx < 0) {
+                continue;
+            }
+            if (idx == 0) {
+                return null;
+            }
+            if (idx > items.size()) {
+                System.out.println("Index out of range.");
+                continue;
+            }
+            return items.get(idx - 1);
+        }
+    }
+
+    // Let the user choose a monster target
+    private Monster chooseMonsterTarget(BattleEngine battle) {
+        List<Monster> alive = aliveScratch;
+        alive.clear();
+        for (Monster m : battle.getMonsters()) {
+            if (!m.isDead()) {
+                alive.add(m);
+            }
+        }
+        if (alive.isEmpty()) {
+            return null;
+        }
+
+        while (true) {
+            System.out.println("Choose a monster to target:");
+            for (int i = 0; i < alive.size(); i++) {
+                Monster m = alive.get(i);
+                String stats = String.format("[Lvl %d, HP=%.1f, DMG=%.1f, DEF=%.1f, Dodge=%.1f%%]",
+                        m.getLevel(), m.getHp(), m.getBaseDamage(), m.getDefense(), m.getDodgeChance());
+                System.out.println((i + 1) + ". " + Color.monsterName(m.getDisplayName()) + " " + stats);
+            }
+            System.out.print("Index (0=cancel): ");
+
+            int idx = readIndex();
+            if (idx < 0) {
+                continue;
+            }
+            if (idx == 0) {
+                return null;
+            }
+            if (idx > alive.size()) {
+                System.out.println("Index out of range.");
+                continue;
+            }
+            return alive.get(idx - 1);
+        }
+    }
+
+    /**
+     * Read a non-negative number from the next line.
+     *
+     * @return the number, or -1 after reporting invalid input
+     */
+    private int readIndex() {
+        String line = in.nextLine().trim();
+        try {
+            int idx = Integer.parseInt(line);
+            if (idx < 0) {
+                System.out.println("Index out of range.");
+                return -1;
+            }
+            return idx;
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid index.");
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package legends.game.battle;
+
+import java.util.List;
+import legends.entities.heroes.Hero;
+import legends.entities.monsters.Monster;
+import legends.items.Armor;
+import legends.items.Potion;
+import legends.items.Spell;
+import legends.items.Weapon;
+import legends.utilities.Color;
+import legends.utilities.SoundService;
+
+/**
+ * Prints battle events to the terminal and plays their sound cues.
+ */
+public class ConsoleBattleObserver implements BattleObserver {
+
+    private final SoundService sound;
+
+    /**
+     * @param sound sound service, or null for a silent battle
+     */
+    public ConsoleBattleObserver(SoundService sound) {
+        this.sound = sound;
+    }
+
+    private void play(String effect) {
+        if (sound != null) {
+            sound.playEffect(effect);
+        }
+    }
+
+    @Override
+    public void battleStarted(BattleEngine battle) {
+        play("battle_start");
+        if (sound != null) {
+            sound.playLoop("battle_start", true);
+        }
+        System.out.println(Color.title("=== BATTLE START ==="));
+        System.out.println(Color.title("Heroes vs Monsters!"));
+    }
+
+    @Override
+    public void roundStarted(BattleEngine battle, int round) {
+        printStatus(battle.getHeroes(), battle.getMonsters());
+        System.out.println(Color.title("\n--- Heroes' Turn ---"));
+    }
+
+    @Override
+    public void monstersTurnStarted(BattleEngine battle) {
+        System.out.println(Color.title("\n--- Monsters' Turn ---"));
+    }
+
+    @Override
+    public void roundEnded(BattleEngine battle, int round) {
+        System.out.println("\nEnd of round: heroes regain some HP and MP.");
+    }
+
+    @Override
+    public void heroAttacked(Hero hero, Monster target, double damage) {
+        if (damage <= 0) {
+            // Treat as a dodge or fully negated hit
+            System.out.println(
+                    Color.heroName(hero.getDisplayName()) +
+                    " attacked " +
+                    Color.monsterName(target.getDisplayName()) +
+                    ", but it dodged!"
+            );
+            return;
+        }
+        // Round to one decimal place for a clean message
+        double lost = Math.round(damage * 10.0) / 10.0;
+        System.out.println(
+                Color.heroName(hero.getDisplayName()) +
+                " attacked " +
+                Color.monsterName(target.getDisplayName()) +
+                " for " + lost + " damage!"
+        );
+    }
+
+    @Override
+    public void notEnoughMana(Hero hero, Spell spell, Monster target) {
+        System.out.println(hero.getName() + " does not have enough mana to cast " + spell.getName() + "!");
+    }
+
+    @Override
+    public void spellDodged(Hero hero, Spell spell, Monster target) {
+        System.out.println(hero.getName() + " cast " + spell.getName() + " on " + target.getName() + " but it dodged!");
+    }
+
+    @Override
+    public void monsterWeakened(Hero hero, Spell spell, Monster target) {
+        System.out.println(target.getName() + "'s " + spell.getWeakenedStat() + " is reduced!");
+    }
+
+    @Override
+    public void spellCast(Hero hero, Spell spell, Monster target, double damage, boolean consumed) {
+        if (damage > 0) {
+            double lost = Math.round(damage * 10.0) / 10.0;
+            System.out.println(hero.getName() + " cast " + spell.getName() + " on " + target.getName() +
+                               " for " + lost + " damage!");
+        }
+        if (consumed) {
+            System.out.println(spell.getName() + " has been consumed.");
+        }
+    }
+
+    @Override
+    public void potionUsed(Hero hero, Potion potion) {
+        System.out.println(hero.getName() + " used " + potion.getName() + ".");
+        // Show updated hero stats after potion effects
+        System.out.println("Updated hero stats:");
+        System.out.println("  " + hero);
+    }
+
+    @Override
+    public void potionEmpty(Hero hero, Potion potion) {
+        System.out.println("That potion is empty and crumbles to dust.");
+    }
+
+    @Override
+    public void weaponEquipped(Hero hero, Weapon weapon) {
+        System.out.println(hero.getName() + " equipped " + weapon.getName());
+        System.out.println("Updated equipment:");
+        System.out.println("  " + hero);
+    }
+
+    @Override
+    public void armorEquipped(Hero hero, Armor armor) {
+        System.out.println(hero.getName() + " equipped " + armor.getName());
+        System.out.println("Updated equipment:");
+        System.out.println("  " + hero);
+    }
+
+    @Override
+    public void weaponBroke(Hero hero, Weapon weapon) {
+        System.out.println(weapon.getName() + " has broken and is unequipped.");
+    }
+
+    @Override
+    public void armorBroke(Hero hero, Armor armor) {
+        System.out.println(armor.getName() + " has broken!");
+    }
+
+    @Override
+    public void actionRejected(Hero hero, BattleAction action, String reason) {
+        System.out.println(Color.error(reason));
+    }
+
+    @Override
+    public void turnSkipped(Hero hero) {
+        System.out.println(Color.warning(hero.getDisplayName() + " hesitated too long and loses the turn."));
+    }
+
+    @Override
+    public void fleeAttempted(boolean success) {
+        if (success) {
+            System.out.println("You successfully fled from battle, but lost some gold in the chaos!");
+            System.out.println(Color.warning("The party has escaped from the battle."));
+        } else {
+            System.out.println("You failed to escape!");
+        }
+    }
+
+    @Override
+    public void monsterAttacked(Monster monster, Hero target, double damage, boolean dodged) {
+        System.out.println(Color.monsterName(monster.getDisplayName()) + " attacks " + Color.heroName(target.getDisplayName()) + "!");
+        if (dodged) {
+            System.out.println(Color.heroName(target.getDisplayName()) + " dodged the attack!");
+            return;
+        }
+        double lost = Math.round(damage * 10.0) / 10.0;
+        System.out.println(Color.heroName(target.getDisplayName()) + " took " + lost + " damage.");
+    }
+
+    @Override
+    public void monsterDefeated(Hero hero, Monster monster) {
+        System.out.println(Color.success(Color.monsterName(monster.getDisplayName()) + " is defeated!"));
+    }
+
+    @Override
+    public void heroFainted(Hero hero) {
+        System.out.println(Color.error(hero.getDisplayName() + " has fainted!"));
+        play("hero_down");
+    }
+
+    @Override
+    public void battleEnded(BattleEngine battle, BattleOutcome outcome) {
+        if (sound != null) {
+            sound.stopLoop();
+        }
+        switch (outcome) {
+            case VICTORY -> {
+                System.out.println(Color.success("Heroes win the battle!"));
+                play("victory_fanfare");
+            }
+            case FLED -> {
+                System.out.println(Color.warning("The party successfully fled the battle."));
+                play("flee_escape");
+            }
+            case DEFEAT -> {
+                System.out.println(Color.error("All heroes have fainted... Game Over."));
+                play("defeat_loss");
+            }
+        }
+    }
+
+    @Override
+    public void rewardGranted(Hero hero, double gold, double experience) {
+        System.out.println(hero.getName() + " gains " + Color.gold(gold) + " gold and " + experience + " EXP.");
+    }
+
+    @Override
+    public void heroLeveledUp(Hero hero, int level) {
+        System.out.println(hero.getName() + " leveled up to " + level + " (" + hero.getClass().getSimpleName() + ")!");
+    }
+
+    @Override
+    public void rewardMissed(Hero hero) {
+        System.out.println(hero.getName() + " was fainted and gains no rewards.");
+    }
+
+    /**
+     * Print current status of heroes and monsters (heroes via Hero.toString for simplicity).
+     */
+    static void printStatus(List<Hero> heroes, List<Monster> monsters) {
+        System.out.println("\n--- Battle Status ---");
+        System.out.println("Heroes:");
+        for (Hero h : heroes) {
+            if (!h.isFainted()) {
+                System.out.println("  " + h);
+            }
+        }
+        System.out.println("Monsters:");
+        for (Monster m : monsters) {
+            if (!m.isDead()) {
+                String stats = String.format("[Lvl %d | HP=%.1f | DMG=%.1f | DEF=%.1f | Dodge=%.1f%%]",
+                        m.getLevel(), m.getHp(), m.getBaseDamage(), m.getDefense(), m.getDodgeChance());
+                System.out.println("  " + Color.monsterName(m.getDisplayName()) + " " + stats);
+            }
+        }
+        System.out.println("---------------------");
+    }
+}
@@ -0,0 +1,64 @@
+package legends.game.battle;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+import legends.entities.monsters.Monster;
+import legends.game.MonsterPool;
+import legends.game.MonsterSampler;
+
+/**
+ * The monsters a simulated party runs into: a number of monsters of one level, each drawn from
+ * a {@link MonsterSampler}. The template holds no per-battle state and can be shared by threads.
+ */
+public final class EncounterTemplate {
+
+    private final MonsterSampler sampler;
+    private final int level;
+    private final int count;
+
+    /**
+     * @param sampler draws the monster prototypes
+     * @param level   monster level
+     * @param count   monsters per battle
+     */
+    public EncounterTemplate(MonsterSampler sampler, int level, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("An encounter needs at least one monster");
+        }
+        if (!sampler.canSample(level)) {
+            throw new IllegalArgumentException("No monster can be drawn at level " + level);
+        }
+        this.sampler = sampler;
+        this.level = level;
+        this.count = count;
+    }
+
+    /**
+     * The encounter the game would create for this party: one monster per hero, at the level of
+     * the strongest hero.
+     */
+    public static EncounterTemplate forParty(MonsterSampler sampler, PartyTemplate party) {
+        return new EncounterTemplate(sampler, party.getMaxLevel(), party.size());
+    }
+
+    /**
+     * Draw the monsters of one battle.
+     *
+     * @param out  list to add the monsters to
+     * @param rand random source
+     * @param pool pool to take the monsters from, or null to build new ones
+     */
+    void fill(List<Monster> out, RandomGenerator rand, MonsterPool pool) {
+        for (int i = 0; i < count; i++) {
+            out.add(sampler.sample(level, rand, pool));
+        }
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,325 @@
+package legends.game.battle;
+
+import java.util.List;
+import legends.entities.heroes.Hero;
+import legends.entities.monsters.Monster;
+import legends.items.Armor;
+import legends.items.Weapon;
+import legends.utilities.RandomSource;
+
+/**
+ * Battle representation for hordes: thousands of monsters against a squad of heroes.
+ * <p>
+ * Combat state is loaded once from the {@link Hero} and {@link Monster} objects into parallel
+ * primitive arrays (HP, attack damage, damage reduction, dodge, item uses), so a round walks a few
+ * contiguous arrays instead of one object per monster. The rules are those of {@link BattleEngine}
+ * driven by {@link AutoBattleController} with random monster targeting, and each hit follows
+ * {@link Monster#takeDamage} and {@link Hero#receiveDamage}. With the random source in the same
+ * state, a horde battle ends with the same outcome, round count and HP as the object model, roll
+ * for roll.
+ * <p>
+ * Horde fights have no spells, potions, fleeing, equipment changes or rewards. The objects the
+ * battle was loaded from are not changed; read the results from this class.
+ */
+public final class HordeBattle {
+
+    /* ----- monsters, in list order ----- */
+    private final int monsterCount;
+    private final double[] monsterHp;
+    private final double[] monsterDamage;
+    private final double[] monsterReduction;
+    private final double[] monsterDodge;
+    private int livingMonsterCount;
+    // monster the heroes focus on, or -1 until one is picked
+    private int target = -1;
+
+    /* ----- heroes, in list order ----- */
+    private final int heroCount;
+    private final double[] heroHp;
+    private final double[] heroMaxHp;
+    private final double[] heroDamage;
+    private final double[] heroUnarmedDamage;
+    private final double[] heroDodge;
+    // damage reduction of the equipped armor
+    private final double[] heroArmor;
+    // remaining uses of the equipped items; negative means uses are not tracked
+    private final int[] weaponUses;
+    private final int[] armorUses;
+    private final boolean[] armed;
+    private final boolean[] armored;
+    // living hero indexes, swap-removed exactly like the engine's AliveSet so random targets match
+    private final int[] livingHeroes;
+    private final int[] heroSlots;
+    private int livingHeroCount;
+
+    private int round;
+    private BattleOutcome outcome;
+
+    /**
+     * @param heroes   the squad; read once, not changed
+     * @param monsters the horde; read once, not changed
+     */
+    public HordeBattle(List<Hero> heroes, List<Monster> monsters) {
+        monsterCount = monsters.size();
+        monsterHp = new double[monsterCount];
+        monsterDamage = new double[monsterCount];
+        monsterReduction = new double[monsterCount];
+        monsterDodge = new double[monsterCount];
+        for (int i = 0; i < monsterCount; i++) {
+            Monster m = monsters.get(i);
+            monsterHp[i] = m.getHp();
+            monsterDamage[i] = m.attack();
+            monsterReduction[i] = m.getDamageReduction();
+            monsterDodge[i] = m.getDodgeProbability();
+            if (!m.isDead()) {
+                livingMonsterCount++;
+            }
+        }
+
+        heroCount = heroes.size();
+        heroHp = new double[heroCount];
+        heroMaxHp = new double[heroCount];
+        heroDamage = new double[heroCount];
+        heroUnarmedDamage = new double[heroCount];
+        heroDodge = new double[heroCount];
+        heroArmor = new double[heroCount];
+        weaponUses = new int[heroCount];
+        armorUses = new int[heroCount];
+        armed = new boolean[heroCount];
+        armored = new boolean[heroCount];
+        livingHeroes = new int[heroCount];
+        heroSlots = new int[heroCount];
+        for (int i = 0; i < heroCount; i++) {
+            Hero h = heroes.get(i);
+            heroHp[i] = h.getHp();
+            heroMaxHp[i] = h.getLevel() * 100.0;
+            heroDamage[i] = h.getAttackDamage();
+            heroUnarmedDamage[i] = h.getUnarmedAttackDamage();
+            heroDodge[i] = h.getDodgeChance();
+            Weapon weapon = h.getEquippedWeapon();
+            if (weapon != null) {
+                armed[i] = true;
+                weaponUses[i] = weapon.getRemainingUses();
+            }
+            Armor armor = h.getEquippedArmor();
+            if (armor != null) {
+                armored[i] = true;
+                armorUses[i] = armor.getRemainingUses();
+                heroArmor[i] = armor.getDamageReduction();
+            }
+            heroSlots[i] = -1;
+            if (!h.isFainted()) {
+                heroSlots[i] = livingHeroCount;
+                livingHeroes[livingHeroCount++] = i;
+            }
+        }
+    }
+
+    /* ===================== Running ===================== */
+
+    /**
+     * Fight until one side is down or the round limit is reached.
+     *
+     * @return how the battle ended, or null if it was stopped at the round limit
+     */
+    public BattleOutcome run(RandomSource rand, int maxRounds) {
+        while (round < maxRounds && playRound(rand)) {
+            // keep fighting
+        }
+        return outcome;
+    }
+
+    /**
+     * Play one round: the heroes attack, then the monsters, then the heroes regenerate.
+     *
+     * @return true if the battle goes on
+     */
+    public boolean playRound(RandomSource rand) {
+        if (outcome != null) {
+            return false;
+        }
+        if (!isDecided()) {
+            round++;
+            heroesTurn(rand);
+            if (livingMonsterCount > 0) {
+                monstersTurn(rand);
+                regenerate();
+            }
+        }
+        if (isDecided()) {
+            outcome = livingMonsterCount == 0 ? BattleOutcome.VICTORY : BattleOutcome.DEFEAT;
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isDecided() {
+        return livingMonsterCount == 0 || livingHeroCount == 0;
+    }
+
+    private void heroesTurn(RandomSource rand) {
+        for (int h = 0; h < heroCount; h++) {
+            if (heroHp[h] <= 0) {
+                continue;
+            }
+            // Only the focused monster loses HP, so it stays the weakest until it dies
+            // and the scan is needed once per kill rather than once per attack.
+            if (target < 0 || monsterHp[target] <= 0) {
+                target = weakestMonster();
+            }
+            heroAttack(h, target, rand);
+            if (livingMonsterCount == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Hero.attack followed by Hero.consumeWeaponUse, as the engine runs them.
+     */
+    private void heroAttack(int h, int m, RandomSource rand) {
+        if (rand.nextDouble() >= monsterDodge[m]) {
+            // Monster.takeDamage
+            double dmg = heroDamage[h];
+            double reduced = dmg * (1.0 - monsterReduction[m]);
+            if (reduced < 1.0 && dmg > 0) {
+                reduced = 1.0;
+            }
+            double hp = monsterHp[m] - reduced;
+            if (hp < 0) {
+                hp = 0;
+            }
+            monsterHp[m] = hp;
+            if (hp <= 0) {
+                livingMonsterCount--;
+            }
+        }
+        // the weapon wears down whether or not the hit landed
+        if (armed[h] && weaponUses[h] > 0 && --weaponUses[h] == 0) {
+            armed[h] = false;
+            heroDamage[h] = heroUnarmedDamage[h];
+        }
+    }
+
+    /**
+     * @return index of the living monster with the least HP, the first listed on ties; -1 if none
+     */
+    private int weakestMonster() {
+        if (livingMonsterCount == 0) {
+            return -1;
+        }
+        // branch-free minimum, so the JIT can vectorize it; dead monsters count as infinitely healthy
+        double best = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < monsterCount; i++) {
+            double hp = monsterHp[i];
+            best = Math.min(best, hp > 0 ? hp : Double.POSITIVE_INFINITY);
+        }
+        for (int i = 0; i < monsterCount; i++) {
+            if (monsterHp[i] == best) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void monstersTurn(RandomSource rand) {
+        for (int m = 0; m < monsterCount; m++) {
+            if (monsterHp[m] <= 0) {
+                continue;
+            }
+            if (livingHeroCount == 0) {
+                return;
+            }
+            int h = livingHeroes[rand.nextInt(livingHeroCount)];
+            if (rand.nextDouble() < heroDodge[h]) {
+                continue;
+            }
+            // Hero.receiveDamage
+            double damage = monsterDamage[m];
+            if (armored[h]) {
+                damage -= heroArmor[h];
+                if (armorUses[h] > 0 && --armorUses[h] == 0) {
+                    armored[h] = false;
+                }
+            }
+            if (damage < 0) {
+                damage = 0;
+            }
+            double hp = heroHp[h] - damage;
+            if (hp < 0) {
+                hp = 0;
+            }
+            heroHp[h] = hp;
+            if (hp <= 0) {
+                removeHero(h);
+            }
+        }
+    }
+
+    private void removeHero(int h) {
+        int slot = heroSlots[h];
+        int last = livingHeroes[--livingHeroCount];
+        livingHeroes[slot] = last;
+        heroSlots[last] = slot;
+        heroSlots[h] = -1;
+    }
+
+    /**
+     * Hero.regenAfterRound for every standing hero.
+     */
+    private void regenerate() {
+        for (int h = 0; h < heroCount; h++) {
+            double hp = heroHp[h];
+            if (hp <= 0) {
+                continue;
+            }
+            hp *= 1.1;
+            hp = Math.round(hp * 10.0) / 10.0;
+            heroHp[h] = Math.min(hp, heroMaxHp[h]);
+        }
+    }
+
+    /* ===================== State ===================== */
+
+    /**
+     * @return number of rounds played
+     */
+    public int getRound() {
+        return round;
+    }
+
+    /**
+     * @return how the battle ended, or null while it is still going
+     */
+    public BattleOutcome getOutcome() {
+        return outcome;
+    }
+
+    public boolean isOver() {
+        return outcome != null;
+    }
+
+    public int getMonsterCount() {
+        return monsterCount;
+    }
+
+    public int getLivingMonsterCount() {
+        return livingMonsterCount;
+    }
+
+    public double getMonsterHp(int i) {
+        return monsterHp[i];
+    }
+
+    public int getHeroCount() {
+        return heroCount;
+    }
+
+    public int getLivingHeroCount() {
+        return livingHeroCount;
+    }
+
+    public double getHeroHp(int i) {
+        return heroHp[i];
+    }
+}
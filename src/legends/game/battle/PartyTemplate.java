@@ -0,0 +1,134 @@
+package legends.game.battle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import legends.entities.heroes.Hero;
+import legends.items.Armor;
+import legends.items.Inventory;
+import legends.items.Potion;
+import legends.items.Spell;
+import legends.items.Weapon;
+
+/**
+ * A party to start every simulated battle from.
+ * <p>
+ * The heroes are snapshotted when the template is built: level, HP, MP, attributes, gold,
+ * experience, inventory and equipment, with each item's remaining uses. Later changes to the
+ * original heroes do not leak in, and {@link #create()} only reads the snapshot, so one template
+ * can be shared by simulation threads.
+ */
+public final class PartyTemplate {
+
+    private final List<Hero> heroes;
+
+    /**
+     * @param heroes the party to copy; must not be empty
+     */
+    public PartyTemplate(List<? extends Hero> heroes) {
+        if (heroes == null || heroes.isEmpty()) {
+            throw new IllegalArgumentException("A party template needs at least one hero");
+        }
+        List<Hero> snapshot = new ArrayList<>(heroes.size());
+        for (Hero h : heroes) {
+            snapshot.add(copyOf(h));
+        }
+        this.heroes = Collections.unmodifiableList(snapshot);
+    }
+
+    /**
+     * @return a fresh copy of the party, ready to fight
+     */
+    public List<Hero> create() {
+        List<Hero> party = new ArrayList<>(heroes.size());
+        for (int i = 0; i < heroes.size(); i++) {
+            party.add(copyOf(heroes.get(i)));
+        }
+        return party;
+    }
+
+    /**
+     * @return the snapshotted heroes; do not change them
+     */
+    public List<Hero> getHeroes() {
+        return heroes;
+    }
+
+    public int size() {
+        return heroes.size();
+    }
+
+    /**
+     * @return highest hero level in the party
+     */
+    public int getMaxLevel() {
+        int max = 1;
+        for (Hero h : heroes) {
+            max = Math.max(max, h.getLevel());
+        }
+        return max;
+    }
+
+    /**
+     * Copy a hero with its current state, items and equipment.
+     */
+    static Hero copyOf(Hero source) {
+        // copy() keeps attributes, mana, gold and experience but starts at level 1
+        Hero hero = source.copy();
+        hero.setLevel(source.getLevel());
+        hero.setHp(source.getHp());
+        hero.setMp(source.getMp());
+
+        Inventory from = source.getInventory();
+        Inventory to = hero.getInventory();
+        Weapon equippedWeapon = source.getEquippedWeapon();
+        Armor equippedArmor = source.getEquippedArmor();
+        Weapon weaponCopy = null;
+        Armor armorCopy = null;
+
+        for (Weapon w : from.getWeapons()) {
+            Weapon c = w.copy();
+            c.setRemainingUses(w.getRemainingUses());
+            to.addWeapon(c);
+            if (w == equippedWeapon) {
+                weaponCopy = c;
+            }
+        }
+        for (Armor a : from.getArmors()) {
+            Armor c = a.copy();
+            c.setRemainingUses(a.getRemainingUses());
+            to.addArmor(c);
+            if (a == equippedArmor) {
+                armorCopy = c;
+            }
+        }
+        for (Potion p : from.getPotions()) {
+            Potion c = p.copy();
+            c.setRemainingUses(p.getRemainingUses());
+            to.addPotion(c);
+        }
+        for (Spell s : from.getSpells()) {
+            Spell c = s.copy();
+            c.setRemainingUses(s.getRemainingUses());
+            to.addSpell(c);
+        }
+
+        // equipment that is not carried in the inventory is copied on its own
+        if (equippedWeapon != null) {
+            if (weaponCopy == null) {
+                weaponCopy = equippedWeapon.copy();
+                weaponCopy.setRemainingUses(equippedWeapon.getRemainingUses());
+            }
+            hero.equipWeapon(weaponCopy);
+            hero.setWeaponTwoHandedGrip(source.isWeaponTwoHandedGrip());
+        }
+        if (equippedArmor != null) {
+            if (armorCopy == null) {
+                armorCopy = equippedArmor.copy();
+                armorCopy.setRemainingUses(equippedArmor.getRemainingUses());
+            }
+            hero.equipArmor(armorCopy);
+        }
+        return hero;
+    }
+}
@@ -0,0 +1,180 @@
+package legends.game.battle;
+
+/**
+ * Results of a {@link BattleSimulator} run: outcomes, how many rounds battles took, how much of
+ * the party's HP was left, and how many item uses were spent.
+ * <p>
+ * Rounds and remaining HP are kept as histograms rather than per-battle lists, so a report has
+ * the same size for a thousand battles as for a billion, and quantiles are exact for rounds and
+ * accurate to one percentage point for HP.
+ */
+public final class SimulationReport {
+
+    /** Number of buckets in the remaining-HP histogram, one per percentage point. */
+    public static final int HP_BUCKETS = 100;
+
+    /** Indexes into the item-use totals. */
+    static final int WEAPON = 0;
+    static final int ARMOR = 1;
+    static final int POTION = 2;
+    static final int SPELL = 3;
+    static final int ITEM_KINDS = 4;
+
+    private final long battles;
+    private final long victories;
+    private final long defeats;
+    private final long fled;
+    private final long unfinished;
+    private final long[] roundCounts;
+    private final long[] hpCounts;
+    private final long[] itemUses;
+
+    SimulationReport(long victories, long defeats, long fled, long unfinished,
+                     long[] roundCounts, long[] hpCounts, long[] itemUses) {
+        this.battles = victories + defeats + fled + unfinished;
+        this.victories = victories;
+        this.defeats = defeats;
+        this.fled = fled;
+        this.unfinished = unfinished;
+        this.roundCounts = roundCounts.clone();
+        this.hpCounts = hpCounts.clone();
+        this.itemUses = itemUses.clone();
+    }
+
+    /* ===================== Outcomes ===================== */
+
+    public long getBattles() {
+        return battles;
+    }
+
+    public long getVictories() {
+        return victories;
+    }
+
+    public long getDefeats() {
+        return defeats;
+    }
+
+    public long getFled() {
+        return fled;
+    }
+
+    /**
+     * @return battles stopped at the round limit with both sides still standing
+     */
+    public long getUnfinished() {
+        return unfinished;
+    }
+
+    /**
+     * @return fraction of all battles the party won
+     */
+    public double winRate() {
+        return battles == 0 ? 0 : victories / (double) battles;
+    }
+
+    /* ===================== Rounds ===================== */
+
+    /**
+     * @return histogram where index {@code r} counts the finished battles that took {@code r} rounds
+     */
+    public long[] getRoundCounts() {
+        return roundCounts.clone();
+    }
+
+    /**
+     * @return mean number of rounds over finished battles, or 0 if none finished
+     */
+    public double meanRounds() {
+        long finished = 0;
+        long total = 0;
+        for (int r = 0; r < roundCounts.length; r++) {
+            finished += roundCounts[r];
+            total += r * roundCounts[r];
+        }
+        return finished == 0 ? 0 : total / (double) finished;
+    }
+
+    /**
+     * @param q quantile between 0 and 1
+     * @return rounds taken by the finished battle at that quantile, or 0 if none finished
+     */
+    public int roundsQuantile(double q) {
+        return quantileIndex(roundCounts, q);
+    }
+
+    /* ===================== Remaining HP ===================== */
+
+    /**
+     * @return histogram where bucket {@code i} counts battles that ended with between {@code i}
+     *         and {@code i + 1} percent of the party's starting HP left; the last bucket includes 100%
+     */
+    public long[] getHpCounts() {
+        return hpCounts.clone();
+    }
+
+    /**
+     * @param q quantile between 0 and 1
+     * @return fraction of the party's starting HP left at the end of the battle at that quantile,
+     *         rounded up to the next percentage point
+     */
+    public double hpRemainingQuantile(double q) {
+        long total = 0;
+        for (long c : hpCounts) {
+            total += c;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        return (quantileIndex(hpCounts, q) + 1) / (double) HP_BUCKETS;
+    }
+
+    /* ===================== Item uses ===================== */
+
+    public long getWeaponUses() {
+        return itemUses[WEAPON];
+    }
+
+    public long getArmorUses() {
+        return itemUses[ARMOR];
+    }
+
+    public long getPotionUses() {
+        return itemUses[POTION];
+    }
+
+    public long getSpellUses() {
+        return itemUses[SPELL];
+    }
+
+    /**
+     * @return average weapon, armor, potion and spell uses spent per battle, in that order
+     */
+    public double[] usesPerBattle() {
+        double[] out = new double[ITEM_KINDS];
+        for (int k = 0; k < ITEM_KINDS; k++) {
+            out[k] = battles == 0 ? 0 : itemUses[k] / (double) battles;
+        }
+        return out;
+    }
+
+    private static int quantileIndex(long[] counts, double q) {
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        // smallest index whose cumulative count reaches the rank
+        long rank = Math.max(1, (long) Math.ceil(Math.min(1, Math.max(0, q)) * total));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return i;
+            }
+        }
+        return counts.length - 1;
+    }
+}
@@ -0,0 +1,77 @@
+package legends.game.strategy;
+
+import java.util.SplittableRandom;
+import legends.game.GameCatalog;
+import legends.game.TileKind;
+import legends.utilities.SeedMixer;
+
+/**
+ * Seeded generator that groups markets into towns. Inaccessible tiles are uniform; markets are
+ * drawn with a weight that falls off with distance to the nearest town center.
+ * <p>
+ * Town centers come from a coarse grid of blocks: each block holds one center at a seed-derived
+ * offset, so any stripe can find its nearby towns without coordinating with the others.
+ */
+public class ClusteredMarketsBoardGenerationStrategy extends StripedBoardGenerationStrategy {
+
+    public static final int DEFAULT_TOWN_SPACING = 16;
+    public static final double DEFAULT_TOWN_RADIUS = 3.0;
+
+    // keeps a trickle of markets in the wilderness and guarantees every cell is eligible
+    private static final double BACKGROUND_WEIGHT = 0.02;
+
+    private final int townSpacing;
+    private final double townRadius;
+
+    public ClusteredMarketsBoardGenerationStrategy(long seed) {
+        this(seed, DEFAULT_INACCESSIBLE_PERCENT, DEFAULT_MARKET_PERCENT);
+    }
+
+    public ClusteredMarketsBoardGenerationStrategy(long seed, double inaccessiblePercent, double marketPercent) {
+        this(seed, inaccessiblePercent, marketPercent, DEFAULT_TOWN_SPACING, DEFAULT_TOWN_RADIUS, 0, null);
+    }
+
+    /**
+     * @param townSpacing side length of the block that holds one town center
+     * @param townRadius  distance at which market weight has dropped to about 60%
+     */
+    public ClusteredMarketsBoardGenerationStrategy(long seed, double inaccessiblePercent, double marketPercent,
+                                                   int townSpacing, double townRadius,
+                                                   int parallelism, GameCatalog catalog) {
+        super(seed, inaccessiblePercent, marketPercent, parallelism, catalog);
+        if (townSpacing < 1 || townRadius <= 0) {
+            throw new IllegalArgumentException("Town spacing and radius must be positive");
+        }
+        this.townSpacing = townSpacing;
+        this.townRadius = townRadius;
+    }
+
+    @Override
+    protected void fillStripe(byte[] kinds, int size, int firstRow, int rows,
+                              int inaccessible, int markets, SplittableRandom rng) {
+        placeUniform(kinds, size, firstRow, rows, inaccessible, TileKind.INACCESSIBLE, rng);
+        double twoSigmaSq = 2.0 * townRadius * townRadius;
+        placeWeighted(kinds, size, firstRow, rows, markets, TileKind.MARKET,
+                (r, c) -> BACKGROUND_WEIGHT + Math.exp(-nearestTownDistanceSq(r, c) / twoSigmaSq), rng);
+    }
+
+    /**
+     * Squared distance from a cell to the closest town center in its own or neighbouring blocks.
+     */
+    private double nearestTownDistanceSq(int row, int col) {
+        int blockRow = row / townSpacing;
+        int blockCol = col / townSpacing;
+        double best = Double.MAX_VALUE;
+        for (int br = blockRow - 1; br <= blockRow + 1; br++) {
+            for (int bc = blockCol - 1; bc <= blockCol + 1; bc++) {
+                long h = SeedMixer.mix(getSeed(), br, bc);
+                int centerRow = br * townSpacing + (int) Math.floorMod(h, (long) townSpacing);
+                int centerCol = bc * townSpacing + (int) Math.floorMod(h >>> 32, (long) townSpacing);
+                double dr = row - centerRow;
+                double dc = col - centerCol;
+                best = Math.min(best, dr * dr + dc * dc);
+            }
+        }
+        return best;
+    }
+}
@@ -2,20 +2,22 @@ package legends.game.strategy;
 
 import java.util.List;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 import legends.entities.heroes.Hero;
 import legends.game.HeroTargetStrategy;
+import legends.utilities.AliveSet;
 
 /**
  * Targets the lowest-HP non-fainted hero; breaks ties randomly.
  */
 public class LowestHpTargetStrategy implements HeroTargetStrategy {
-    private final Random rng;
+    private final RandomGenerator rng;
 
     public LowestHpTargetStrategy() {
         this(new Random());
     }
 
-    public LowestHpTargetStrategy(Random rng) {
+    public LowestHpTargetStrategy(RandomGenerator rng) {
         this.rng = rng == null ? new Random() : rng;
     }
 
@@ -39,4 +41,12 @@ public class LowestHpTargetStrategy implements HeroTargetStrategy {
         }
         return best;
     }
+
+    /**
+     * Only looks at the living heroes, so fainted ones cost nothing.
+     */
+    @Override
+    public Hero selectTarget(AliveSet<Hero> living) {
+        return selectTarget(living.asList());
+    }
 }
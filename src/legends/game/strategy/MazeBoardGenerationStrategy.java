@@ -0,0 +1,53 @@
+package legends.game.strategy;
+
+import java.util.SplittableRandom;
+import legends.game.GameCatalog;
+import legends.game.TileKind;
+
+/**
+ * Seeded generator that lines inaccessible tiles up along a lattice of walls, giving the board
+ * maze-like corridors and rooms instead of scattered rocks. Markets are uniform over what is left.
+ * <p>
+ * Cells with both coordinates odd are pillars, cells with exactly one odd coordinate are wall
+ * segments between rooms, and the rest are room floor. Walls are sampled by weight, so the exact
+ * inaccessible percentage is still met; gaps in the walls become doorways.
+ */
+public class MazeBoardGenerationStrategy extends StripedBoardGenerationStrategy {
+
+    private static final double PILLAR_WEIGHT = 8.0;
+    private static final double WALL_WEIGHT = 4.0;
+    private static final double FLOOR_WEIGHT = 0.05;
+
+    public MazeBoardGenerationStrategy(long seed) {
+        this(seed, DEFAULT_INACCESSIBLE_PERCENT, DEFAULT_MARKET_PERCENT);
+    }
+
+    public MazeBoardGenerationStrategy(long seed, double inaccessiblePercent, double marketPercent) {
+        this(seed, inaccessiblePercent, marketPercent, 0, null);
+    }
+
+    public MazeBoardGenerationStrategy(long seed, double inaccessiblePercent, double marketPercent,
+                                       int parallelism, GameCatalog catalog) {
+        super(seed, inaccessiblePercent, marketPercent, parallelism, catalog);
+    }
+
+    @Override
+    protected void fillStripe(byte[] kinds, int size, int firstRow, int rows,
+                              int inaccessible, int markets, SplittableRandom rng) {
+        placeWeighted(kinds, size, firstRow, rows, inaccessible, TileKind.INACCESSIBLE,
+                MazeBoardGenerationStrategy::wallWeight, rng);
+        placeUniform(kinds, size, firstRow, rows, markets, TileKind.MARKET, rng);
+    }
+
+    private static double wallWeight(int row, int col) {
+        boolean oddRow = (row & 1) == 1;
+        boolean oddCol = (col & 1) == 1;
+        if (oddRow && oddCol) {
+            return PILLAR_WEIGHT;
+        }
+        if (oddRow || oddCol) {
+            return WALL_WEIGHT;
+        }
+        return FLOOR_WEIGHT;
+    }
+}
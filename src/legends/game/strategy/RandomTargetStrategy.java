@@ -1,22 +1,23 @@
 package legends.game.strategy;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.random.RandomGenerator;
 import legends.entities.heroes.Hero;
 import legends.game.HeroTargetStrategy;
+import legends.utilities.AliveSet;
 
 /**
  * Randomly selects any non-fainted hero.
  */
 public class RandomTargetStrategy implements HeroTargetStrategy {
-    private final Random rng;
+    private final RandomGenerator rng;
 
     public RandomTargetStrategy() {
         this(new Random());
     }
 
-    public RandomTargetStrategy(Random rng) {
+    public RandomTargetStrategy(RandomGenerator rng) {
         this.rng = rng == null ? new Random() : rng;
     }
 
@@ -25,16 +26,30 @@ public class RandomTargetStrategy implements HeroTargetStrategy {
         if (heroes == null || heroes.isEmpty()) {
             return null;
         }
-        List<Hero> alive = new ArrayList<>();
+        // count, then walk to the chosen one, so no list of living heroes is built
+        int alive = 0;
         for (Hero h : heroes) {
             if (h != null && !h.isFainted()) {
-                alive.add(h);
+                alive++;
             }
         }
-        if (alive.isEmpty()) {
+        if (alive == 0) {
             return null;
         }
-        int idx = rng.nextInt(alive.size());
-        return alive.get(idx);
+        int idx = rng.nextInt(alive);
+        for (Hero h : heroes) {
+            if (h != null && !h.isFainted() && idx-- == 0) {
+                return h;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Uniform over the living heroes in constant time.
+     */
+    @Override
+    public Hero selectTarget(AliveSet<Hero> living) {
+        return living.random(rng);
     }
 }
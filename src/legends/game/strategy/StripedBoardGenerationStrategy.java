@@ -0,0 +1,256 @@
+package legends.game.strategy;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import legends.game.Board;
+import legends.game.BoardMode;
+import legends.game.GameCatalog;
+import legends.game.TileKind;
+import legends.utilities.SeedMixer;
+
+/**
+ * Base for seeded board generators that fill horizontal stripes of rows in parallel.
+ * <p>
+ * The exact number of inaccessible and market tiles is fixed up front and split across stripes,
+ * and every stripe draws from its own {@link SplittableRandom} derived from the seed and the
+ * stripe index. Stripes write disjoint parts of the grid, so the same seed always produces the
+ * same board no matter how many threads run the generation.
+ */
+public abstract class StripedBoardGenerationStrategy implements BoardGenerationStrategy {
+
+    /** Rows per stripe; fixed so the stripe layout never depends on the thread count. */
+    protected static final int STRIPE_ROWS = 64;
+
+    public static final double DEFAULT_INACCESSIBLE_PERCENT = 0.20;
+    public static final double DEFAULT_MARKET_PERCENT = 0.30;
+
+    private final long seed;
+    private final double inaccessiblePercent;
+    private final double marketPercent;
+    private final int parallelism;
+    private final GameCatalog catalog;
+    private boolean repairDisconnected;
+
+    /**
+     * @param seed                world seed
+     * @param inaccessiblePercent fraction of inaccessible tiles (0.0 to 1.0)
+     * @param marketPercent       fraction of market tiles (0.0 to 1.0)
+     * @param parallelism         worker threads to use; values below 1 use all processors
+     * @param catalog             catalog used to stock markets, or null for the default
+     */
+    protected StripedBoardGenerationStrategy(long seed, double inaccessiblePercent, double marketPercent,
+                                             int parallelism, GameCatalog catalog) {
+        if (inaccessiblePercent < 0 || marketPercent < 0 || inaccessiblePercent + marketPercent > 1.0) {
+            throw new IllegalArgumentException("Tile percentages must be non-negative and sum to at most 1.0");
+        }
+        this.seed = seed;
+        this.inaccessiblePercent = inaccessiblePercent;
+        this.marketPercent = marketPercent;
+        this.parallelism = parallelism < 1 ? Runtime.getRuntime().availableProcessors() : parallelism;
+        this.catalog = catalog;
+    }
+
+    @Override
+    public Board generate(int size) {
+        BoardMode mode = BoardMode.defaultFor(size) == BoardMode.STANDARD ? BoardMode.STANDARD : BoardMode.COMPACT;
+        Board board = new Board(size, generateKinds(size), catalog, mode, seed);
+        if (repairDisconnected) {
+            board.repairConnectivity();
+        }
+        return board;
+    }
+
+    /**
+     * When enabled, {@link #generate(int)} carves corridors so every open region of the
+     * generated board is reachable. Slightly lowers the inaccessible percentage.
+     */
+    public void setRepairDisconnected(boolean repairDisconnected) {
+        this.repairDisconnected = repairDisconnected;
+    }
+
+    /**
+     * Generate the row-major grid of {@link TileKind} codes for a board of the given size.
+     *
+     * @param size board side length
+     * @return array of size * size tile kinds
+     */
+    public byte[] generateKinds(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Board size must be positive");
+        }
+        long total = (long) size * size;
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Board too large for a flat grid; use chunked mode");
+        }
+        byte[] kinds = new byte[(int) total];
+        int stripes = (size + STRIPE_ROWS - 1) / STRIPE_ROWS;
+
+        int[] inaccessible = apportion((int) (total * inaccessiblePercent), size, stripes, null, 1);
+        // markets only go on cells the inaccessible tiles left free
+        int[] markets = apportion((int) (total * marketPercent), size, stripes, inaccessible, 2);
+
+        IntConsumer fill = stripe -> {
+            int firstRow = stripe * STRIPE_ROWS;
+            int rows = Math.min(STRIPE_ROWS, size - firstRow);
+            SplittableRandom rng = new SplittableRandom(SeedMixer.mix(seed, stripe, 0));
+            fillStripe(kinds, size, firstRow, rows, inaccessible[stripe], markets[stripe], rng);
+        };
+
+        if (parallelism == 1 || stripes == 1) {
+            IntStream.range(0, stripes).forEach(fill);
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                pool.submit(() -> IntStream.range(0, stripes).parallel().forEach(fill)).join();
+            } finally {
+                pool.shutdown();
+            }
+        }
+        return kinds;
+    }
+
+    /**
+     * Fill one stripe of rows. Every cell starts as {@link TileKind#COMMON}; implementations must
+     * mark exactly {@code inaccessible} and {@code markets} cells and only touch their own rows.
+     *
+     * @param kinds        shared row-major grid
+     * @param size         board side length
+     * @param firstRow     first row of the stripe
+     * @param rows         number of rows in the stripe
+     * @param inaccessible exact number of inaccessible tiles to place
+     * @param markets      exact number of market tiles to place
+     * @param rng          random stream private to this stripe
+     */
+    protected abstract void fillStripe(byte[] kinds, int size, int firstRow, int rows,
+                                       int inaccessible, int markets, SplittableRandom rng);
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /* ===================== Helpers ===================== */
+
+    /**
+     * Split a global tile count across stripes in proportion to their cell counts
+     * (largest remainder). No stripe gets more than its free cells; whatever a full stripe cannot
+     * take is carried to the next one. Leftover tiles go to stripes starting at a seed-derived
+     * offset so the top of the board is not favoured.
+     *
+     * @param taken cells per stripe already used by other tiles, or null if none are
+     */
+    private int[] apportion(int target, int size, int stripes, int[] taken, long salt) {
+        long total = (long) size * size;
+        int[] counts = new int[stripes];
+        int assigned = 0;
+        long carry = 0;
+        for (int s = 0; s < stripes; s++) {
+            long cells = (long) Math.min(STRIPE_ROWS, size - s * STRIPE_ROWS) * size;
+            long share = target * cells / total + carry;
+            counts[s] = (int) Math.min(share, freeCells(s, size, taken));
+            carry = share - counts[s];
+            assigned += counts[s];
+        }
+        int start = (int) Math.floorMod(SeedMixer.mix(seed, -1, salt), (long) stripes);
+        for (int i = 0; assigned < target; i++) {
+            int s = (start + i) % stripes;
+            if (counts[s] < freeCells(s, size, taken)) {
+                counts[s]++;
+                assigned++;
+            }
+        }
+        return counts;
+    }
+
+    private static long freeCells(int stripe, int size, int[] taken) {
+        long cells = (long) Math.min(STRIPE_ROWS, size - stripe * STRIPE_ROWS) * size;
+        return taken == null ? cells : cells - taken[stripe];
+    }
+
+    /**
+     * Weight of a cell for {@link #placeWeighted}; must be positive for cells that may be picked.
+     */
+    @FunctionalInterface
+    protected interface CellWeight {
+        double weight(int row, int col);
+    }
+
+    /**
+     * Mark exactly {@code count} of the still-common cells in the stripe, chosen uniformly.
+     * Uses a partial Fisher-Yates shuffle over the candidate indices.
+     */
+    protected static void placeUniform(byte[] kinds, int size, int firstRow, int rows, int count,
+                                       byte kind, SplittableRandom rng) {
+        int[] candidates = commonCells(kinds, size, firstRow, rows);
+        int n = candidates.length;
+        int k = Math.min(count, n);
+        for (int i = 0; i < k; i++) {
+            int j = i + rng.nextInt(n - i);
+            int tmp = candidates[i];
+            candidates[i] = candidates[j];
+            candidates[j] = tmp;
+            kinds[candidates[i]] = kind;
+        }
+    }
+
+    /**
+     * Mark exactly {@code count} of the still-common cells in the stripe, sampled without
+     * replacement with probability proportional to {@code weights}. Each cell gets an
+     * exponential key {@code -ln(u) / w} and the smallest keys win.
+     */
+    protected static void placeWeighted(byte[] kinds, int size, int firstRow, int rows, int count,
+                                        byte kind, CellWeight weights, SplittableRandom rng) {
+        int[] candidates = commonCells(kinds, size, firstRow, rows);
+        int n = candidates.length;
+        int k = Math.min(count, n);
+        if (k == 0) {
+            return;
+        }
+        double[] keys = new double[n];
+        for (int i = 0; i < n; i++) {
+            int cell = candidates[i];
+            double w = weights.weight(cell / size, cell % size);
+            double u = 1.0 - rng.nextDouble(); // (0, 1]
+            keys[i] = w > 0 ? -Math.log(u) / w : Double.POSITIVE_INFINITY;
+        }
+        double[] sorted = keys.clone();
+        Arrays.sort(sorted);
+        double threshold = sorted[k - 1];
+
+        int placed = 0;
+        for (int i = 0; i < n && placed < k; i++) {
+            if (keys[i] < threshold) {
+                kinds[candidates[i]] = kind;
+                placed++;
+            }
+        }
+        // ties at the threshold are filled in scan order to hit the exact count
+        for (int i = 0; i < n && placed < k; i++) {
+            if (keys[i] == threshold) {
+                kinds[candidates[i]] = kind;
+                placed++;
+            }
+        }
+    }
+
+    private static int[] commonCells(byte[] kinds, int size, int firstRow, int rows) {
+        int from = firstRow * size;
+        int to = from + rows * size;
+        int n = 0;
+        for (int i = from; i < to; i++) {
+            if (kinds[i] == TileKind.COMMON) {
+                n++;
+            }
+        }
+        int[] cells = new int[n];
+        int idx = 0;
+        for (int i = from; i < to; i++) {
+            if (kinds[i] == TileKind.COMMON) {
+                cells[idx++] = i;
+            }
+        }
+        return cells;
+    }
+}
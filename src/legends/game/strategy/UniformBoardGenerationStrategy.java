@@ -0,0 +1,31 @@
+package legends.game.strategy;
+
+import java.util.SplittableRandom;
+import legends.game.GameCatalog;
+import legends.game.TileKind;
+
+/**
+ * Seeded generator that scatters inaccessible and market tiles uniformly at random.
+ */
+public class UniformBoardGenerationStrategy extends StripedBoardGenerationStrategy {
+
+    public UniformBoardGenerationStrategy(long seed) {
+        this(seed, DEFAULT_INACCESSIBLE_PERCENT, DEFAULT_MARKET_PERCENT);
+    }
+
+    public UniformBoardGenerationStrategy(long seed, double inaccessiblePercent, double marketPercent) {
+        this(seed, inaccessiblePercent, marketPercent, 0, null);
+    }
+
+    public UniformBoardGenerationStrategy(long seed, double inaccessiblePercent, double marketPercent,
+                                          int parallelism, GameCatalog catalog) {
+        super(seed, inaccessiblePercent, marketPercent, parallelism, catalog);
+    }
+
+    @Override
+    protected void fillStripe(byte[] kinds, int size, int firstRow, int rows,
+                              int inaccessible, int markets, SplittableRandom rng) {
+        placeUniform(kinds, size, firstRow, rows, inaccessible, TileKind.INACCESSIBLE, rng);
+        placeUniform(kinds, size, firstRow, rows, markets, TileKind.MARKET, rng);
+    }
+}
@@ -4,7 +4,6 @@ package legends.items;
  * Class representing an armor item.
  */
 public class Armor extends Item {
-    private final int damageReduction;
 
     /**
      * Constructor for an armor.
@@ -15,10 +14,26 @@ public class Armor extends Item {
      * @param damageReduction the amount of damage reduction provided by the armor
      */
     public Armor(String name, double cost, int requiredLevel, int damageReduction) {
-        super(name, cost, requiredLevel);
-        this.damageReduction = damageReduction;
-        // Armors also wear down over time.
-        this.remainingUses = 25;
+        super(ItemDefinition.armor(name, cost, requiredLevel, damageReduction));
+    }
+
+    /**
+     * Create a new armor instance of a definition.
+     * 
+     * @param definition the shared armor data
+     */
+    protected Armor(ItemDefinition definition) {
+        super(definition);
+    }
+
+    @Override
+    public Armor copy() {
+        return new Armor(definition);
+    }
+
+    @Override
+    protected void addTo(Inventory inventory) {
+        inventory.addArmor(this);
     }
 
     /**
@@ -27,7 +42,7 @@ public class Armor extends Item {
      * @return damage reduction provided by the armor
      */
     public int getDamageReduction() {
-        return damageReduction;
+        return definition.getDamageReduction();
     }
 
     /**
@@ -38,6 +53,6 @@ public class Armor extends Item {
     @Override
     public String toString() {
         return super.toString() +
-                " [Armor reduction=" + damageReduction + "]";
+                " [Armor reduction=" + getDamageReduction() + "]";
     }
 }
\ No newline at end of file
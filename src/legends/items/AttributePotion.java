@@ -7,4 +7,13 @@ public class AttributePotion extends Potion {
     public AttributePotion(String name, int cost, int requiredLevel, int effectAmount, String attributes) {
         super(name, cost, requiredLevel, effectAmount, attributes);
     }
+
+    protected AttributePotion(ItemDefinition definition) {
+        super(definition);
+    }
+
+    @Override
+    public AttributePotion copy() {
+        return new AttributePotion(definition);
+    }
 }
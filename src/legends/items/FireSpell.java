@@ -20,16 +20,36 @@ public class FireSpell extends Spell {
         super(name, cost, requiredLevel, baseDamage, manaCost);
     }
 
+    /**
+     * Create a new fire spell instance of a definition.
+     * 
+     * @param definition the shared spell data
+     */
+    protected FireSpell(ItemDefinition definition) {
+        super(definition);
+    }
+
+    @Override
+    public FireSpell copy() {
+        return new FireSpell(definition);
+    }
+
     /**
      * Apply the fire spell's effect on a monster.
      * 
      * @param m the monster to apply the spell effect on
+     * @return true if the monster was weakened
      */
     @Override
-    public void applyEffect(Monster m) {
-        if (m == null || m.isDead()) return;
+    public boolean applyEffect(Monster m) {
+        if (m == null || m.isDead()) return false;
         double newDefense = m.getDefense() * 0.9; // -10%
         m.setDefense(newDefense);
-        System.out.println(m.getName() + "'s defense is reduced!");
+        return true;
+    }
+
+    @Override
+    public String getWeakenedStat() {
+        return "defense";
     }
 }
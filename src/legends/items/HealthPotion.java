@@ -7,4 +7,13 @@ public class HealthPotion extends Potion {
     public HealthPotion(String name, int cost, int requiredLevel, int effectAmount) {
         super(name, cost, requiredLevel, effectAmount, "Health");
     }
+
+    protected HealthPotion(ItemDefinition definition) {
+        super(definition);
+    }
+
+    @Override
+    public HealthPotion copy() {
+        return new HealthPotion(definition);
+    }
 }
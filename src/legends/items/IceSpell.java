@@ -20,16 +20,36 @@ public class IceSpell extends Spell {
         super(name, cost, requiredLevel, baseDamage, manaCost);
     }
 
+    /**
+     * Create a new ice spell instance of a definition.
+     * 
+     * @param definition the shared spell data
+     */
+    protected IceSpell(ItemDefinition definition) {
+        super(definition);
+    }
+
+    @Override
+    public IceSpell copy() {
+        return new IceSpell(definition);
+    }
+
     /**
      * Apply the ice spell's effect on a monster.
      * 
      * @param m the monster to apply the spell effect on
+     * @return true if the monster was weakened
      */
     @Override
-    public void applyEffect(Monster m) {
-        if (m == null || m.isDead()) return;
+    public boolean applyEffect(Monster m) {
+        if (m == null || m.isDead()) return false;
         double newDamage = m.getBaseDamage() * 0.9;
         m.setBaseDamage(newDamage);
-        System.out.println(m.getName() + "'s damage is reduced!");
+        return true;
+    }
+
+    @Override
+    public String getWeakenedStat() {
+        return "damage";
     }
 }
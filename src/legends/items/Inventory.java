@@ -61,6 +61,15 @@ public class Inventory {
         spells.add(s);
     }
 
+    /**
+     * Adds an item to the list matching its type.
+     * 
+     * @param item the item to add
+     */
+    public void add(Item item) {
+        item.addTo(this);
+    }
+
     // ---- Removers ----
     /**
      * Removes a weapon from the inventory.
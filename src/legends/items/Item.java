@@ -6,9 +6,8 @@ package legends.items;
 import java.io.Serializable;
 
 public abstract class Item implements Serializable {
-    protected String name;
-    protected double cost;
-    protected int requiredLevel;
+    // shared by every copy of this item; only the uses below are per instance
+    protected final ItemDefinition definition;
     // How many uses remain before the item becomes unusable (0 = broken/empty).
     protected int remainingUses;
 
@@ -20,17 +19,47 @@ public abstract class Item implements Serializable {
      * @param requiredLevel the required level to use the item
      */
     public Item(String name, double cost, int requiredLevel) {
-        this.name = name;
-        this.cost = cost;
-        this.requiredLevel = requiredLevel;
-        this.remainingUses = -1; // -1 means "infinite" or not tracked (e.g., base items)
+        this(ItemDefinition.generic(name, cost, requiredLevel));
+    }
+
+    /**
+     * Create a new instance of a definition with its full number of uses.
+     * 
+     * @param definition the shared item data
+     */
+    protected Item(ItemDefinition definition) {
+        this.definition = definition;
+        this.remainingUses = definition.getMaxUses();
+    }
+
+    /**
+     * Create a fresh copy of this item: same definition, full uses.
+     * 
+     * @return new item instance
+     */
+    public abstract Item copy();
+
+    /**
+     * Put this item into the matching list of an inventory.
+     * 
+     * @param inventory the inventory to add to
+     */
+    protected abstract void addTo(Inventory inventory);
+
+    /**
+     * Get the shared definition of this item.
+     * 
+     * @return immutable item data
+     */
+    public ItemDefinition getDefinition() {
+        return definition;
     }
 
     /**
      * Getters for item attributes.
      */
     public String getName() {
-        return name;
+        return definition.getName();
     }
 
     /**
@@ -39,7 +68,7 @@ public abstract class Item implements Serializable {
      * @return cost of the item
      */
     public double getCost() {
-        return cost;
+        return definition.getCost();
     }
 
     /**
@@ -48,7 +77,7 @@ public abstract class Item implements Serializable {
      * @return required level of the item
      */
     public int getRequiredLevel() {
-        return requiredLevel;
+        return definition.getRequiredLevel();
     }
 
     /**
@@ -67,6 +96,13 @@ public abstract class Item implements Serializable {
         this.remainingUses = uses;
     }
 
+    /**
+     * Restore the item to the uses it had when new.
+     */
+    public void repair() {
+        this.remainingUses = definition.getMaxUses();
+    }
+
     /**
      * Returns true if this item is still usable (has uses left or is infinite-use).
      */
@@ -91,6 +127,6 @@ public abstract class Item implements Serializable {
      */
     @Override
     public String toString() {
-        return name + " (Lvl " + requiredLevel + ", Cost " + cost + ")";
+        return getName() + " (Lvl " + getRequiredLevel() + ", Cost " + getCost() + ")";
     }
 }
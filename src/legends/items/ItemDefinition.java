@@ -0,0 +1,115 @@
+package legends.items;
+
+import java.io.Serializable;
+
+/**
+ * Immutable data shared by every copy of an item: name, price, level and stats.
+ * <p>
+ * An {@link Item} is just a reference to its definition plus its own remaining uses, so buying,
+ * stocking or restoring an item never duplicates this data. Fields that do not apply to an item's
+ * kind are zero (or null).
+ */
+public final class ItemDefinition implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    // Weapons are durable but not infinite; give a default use count so repair matters.
+    static final int WEAPON_USES = 15;
+    // Armors also wear down over time.
+    static final int ARMOR_USES = 25;
+    // Potions are multi-use: give them 3 uses by default.
+    static final int POTION_USES = 3;
+    // Spells are consumable: start with 1 use by default.
+    static final int SPELL_USES = 1;
+    // -1 means "infinite" or not tracked (e.g., base items)
+    static final int UNTRACKED_USES = -1;
+
+    private final String name;
+    private final double cost;
+    private final int requiredLevel;
+    private final int maxUses;
+
+    private final int damage;          // weapons and spells
+    private final int handsRequired;   // weapons
+    private final int damageReduction; // armors
+    private final int effectAmount;    // potions
+    private final String affectedAttributes;
+    private final int manaCost;        // spells
+
+    private ItemDefinition(String name, double cost, int requiredLevel, int maxUses,
+                           int damage, int handsRequired, int damageReduction,
+                           int effectAmount, String affectedAttributes, int manaCost) {
+        this.name = name;
+        this.cost = cost;
+        this.requiredLevel = requiredLevel;
+        this.maxUses = maxUses;
+        this.damage = damage;
+        this.handsRequired = handsRequired;
+        this.damageReduction = damageReduction;
+        this.effectAmount = effectAmount;
+        this.affectedAttributes = affectedAttributes;
+        this.manaCost = manaCost;
+    }
+
+    public static ItemDefinition generic(String name, double cost, int requiredLevel) {
+        return new ItemDefinition(name, cost, requiredLevel, UNTRACKED_USES, 0, 0, 0, 0, null, 0);
+    }
+
+    public static ItemDefinition weapon(String name, double cost, int requiredLevel, int damage, int handsRequired) {
+        return new ItemDefinition(name, cost, requiredLevel, WEAPON_USES, damage, handsRequired, 0, 0, null, 0);
+    }
+
+    public static ItemDefinition armor(String name, double cost, int requiredLevel, int damageReduction) {
+        return new ItemDefinition(name, cost, requiredLevel, ARMOR_USES, 0, 0, damageReduction, 0, null, 0);
+    }
+
+    public static ItemDefinition potion(String name, double cost, int requiredLevel, int effectAmount, String affectedAttributes) {
+        return new ItemDefinition(name, cost, requiredLevel, POTION_USES, 0, 0, 0, effectAmount, affectedAttributes, 0);
+    }
+
+    public static ItemDefinition spell(String name, double cost, int requiredLevel, int damage, int manaCost) {
+        return new ItemDefinition(name, cost, requiredLevel, SPELL_USES, damage, 0, 0, 0, null, manaCost);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getCost() {
+        return cost;
+    }
+
+    public int getRequiredLevel() {
+        return requiredLevel;
+    }
+
+    /**
+     * @return uses of a new or freshly repaired item; negative if uses are not tracked
+     */
+    public int getMaxUses() {
+        return maxUses;
+    }
+
+    public int getDamage() {
+        return damage;
+    }
+
+    public int getHandsRequired() {
+        return handsRequired;
+    }
+
+    public int getDamageReduction() {
+        return damageReduction;
+    }
+
+    public int getEffectAmount() {
+        return effectAmount;
+    }
+
+    public String getAffectedAttributes() {
+        return affectedAttributes;
+    }
+
+    public int getManaCost() {
+        return manaCost;
+    }
+}
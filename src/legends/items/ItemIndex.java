@@ -0,0 +1,86 @@
+package legends.items;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Items sorted for "usable at level L and affordable with G gold" queries.
+ * <p>
+ * Items are grouped into one bucket per distinct required level, lowest first, with each bucket
+ * sorted by cost. A query does one binary search per level at or below L and copies only the
+ * matching items, instead of testing every item. The index is immutable; build a new one when the
+ * items change.
+ *
+ * @param <T> item type
+ */
+public final class ItemIndex<T extends Item> {
+
+    private final List<T> byLevel;
+    private final double[] costs;
+    // bucket b covers byLevel[bucketStarts[b], bucketStarts[b + 1]) and holds level bucketLevels[b]
+    private final int[] bucketLevels;
+    private final int[] bucketStarts;
+
+    /**
+     * @param items items to index; ties keep their original order
+     */
+    public ItemIndex(List<? extends T> items) {
+        int n = items.size();
+        List<T> levelOrder = new ArrayList<>(items);
+        // List.sort is stable, so equal keys keep the input order
+        levelOrder.sort(Comparator.<T>comparingInt(Item::getRequiredLevel).thenComparingDouble(Item::getCost));
+
+        this.byLevel = levelOrder;
+        this.costs = new double[n];
+
+        int[] starts = new int[n + 1];
+        int[] bucketLevel = new int[n];
+        int buckets = 0;
+        for (int i = 0; i < n; i++) {
+            T item = levelOrder.get(i);
+            costs[i] = item.getCost();
+            if (i == 0 || item.getRequiredLevel() != bucketLevel[buckets - 1]) {
+                starts[buckets] = i;
+                bucketLevel[buckets++] = item.getRequiredLevel();
+            }
+        }
+        starts[buckets] = n;
+        this.bucketLevels = Arrays.copyOf(bucketLevel, buckets);
+        this.bucketStarts = Arrays.copyOf(starts, buckets + 1);
+    }
+
+    public int size() {
+        return byLevel.size();
+    }
+
+    /**
+     * Find the items a hero of the given level can use and pay for.
+     *
+     * @return matching items in level order, cheapest first within a level
+     */
+    public List<T> usableAndAffordable(int level, double gold) {
+        List<T> out = new ArrayList<>();
+        for (int b = 0; b < bucketLevels.length && bucketLevels[b] <= level; b++) {
+            int end = upperBound(costs, bucketStarts[b], bucketStarts[b + 1], gold);
+            out.addAll(byLevel.subList(bucketStarts[b], end));
+        }
+        return out;
+    }
+
+    // first index in [from, to) whose value is greater than key
+    private static int upperBound(double[] values, int from, int to, double key) {
+        int lo = from;
+        int hi = to;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
@@ -0,0 +1,82 @@
+package legends.items;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Catalog items indexed by a dense int id.
+ * <p>
+ * Ids follow catalog order (weapons, armors, potions, spells), so the same data files always give
+ * the same ids and save files can refer to items by id. Each id maps to a prototype whose
+ * {@link ItemDefinition} is shared by every instance created from it.
+ */
+public final class ItemRegistry {
+
+    /** Id of items that are not in the registry. */
+    public static final int UNKNOWN = -1;
+
+    private final Item[] prototypes;
+    private final Map<ItemDefinition, Integer> ids = new IdentityHashMap<>();
+    private final Map<String, Integer> idsByName = new HashMap<>();
+
+    /**
+     * @param tables item tables in id order
+     */
+    @SafeVarargs
+    public ItemRegistry(List<? extends Item>... tables) {
+        List<Item> all = new ArrayList<>();
+        for (List<? extends Item> table : tables) {
+            all.addAll(table);
+        }
+        this.prototypes = all.toArray(new Item[0]);
+        for (int id = 0; id < prototypes.length; id++) {
+            ids.put(prototypes[id].getDefinition(), id);
+            idsByName.putIfAbsent(prototypes[id].getName(), id);
+        }
+    }
+
+    public int size() {
+        return prototypes.length;
+    }
+
+    /**
+     * @return definition for the id, or null if the id is out of range
+     */
+    public ItemDefinition get(int id) {
+        return id >= 0 && id < prototypes.length ? prototypes[id].getDefinition() : null;
+    }
+
+    /**
+     * Find the id of an item. Items made from an older version of a hot-reloaded catalog are
+     * matched by name.
+     *
+     * @return item id, or {@link #UNKNOWN}
+     */
+    public int idOf(Item item) {
+        if (item == null) {
+            return UNKNOWN;
+        }
+        Integer id = ids.get(item.getDefinition());
+        return id != null ? id : idOf(item.getName());
+    }
+
+    /**
+     * @return id of the first item with the given name, or {@link #UNKNOWN}
+     */
+    public int idOf(String name) {
+        Integer id = idsByName.get(name);
+        return id != null ? id : UNKNOWN;
+    }
+
+    /**
+     * Create a new instance of an item, with full uses.
+     *
+     * @return new item, or null if the id is out of range
+     */
+    public Item newInstance(int id) {
+        return id >= 0 && id < prototypes.length ? prototypes[id].copy() : null;
+    }
+}
@@ -20,16 +20,36 @@ public class LightningSpell extends Spell {
         super(name, cost, requiredLevel, baseDamage, manaCost);
     }
 
+    /**
+     * Create a new lightning spell instance of a definition.
+     * 
+     * @param definition the shared spell data
+     */
+    protected LightningSpell(ItemDefinition definition) {
+        super(definition);
+    }
+
+    @Override
+    public LightningSpell copy() {
+        return new LightningSpell(definition);
+    }
+
     /**
      * Apply the lightning spell's effect on a monster.
      * 
      * @param m the monster to apply the spell effect on
+     * @return true if the monster was weakened
      */
     @Override
-    public void applyEffect(Monster m) {
-        if (m == null || m.isDead()) return;
+    public boolean applyEffect(Monster m) {
+        if (m == null || m.isDead()) return false;
         double newDodge = m.getDodgeChance() * 0.9; // still in %
         m.setDodgeChance(newDodge);
-        System.out.println(m.getName() + "'s dodge chance is reduced!");
+        return true;
+    }
+
+    @Override
+    public String getWeakenedStat() {
+        return "dodge chance";
     }
 }
@@ -7,4 +7,13 @@ public class ManaPotion extends Potion {
     public ManaPotion(String name, int cost, int requiredLevel, int effectAmount) {
         super(name, cost, requiredLevel, effectAmount, "Mana");
     }
+
+    protected ManaPotion(ItemDefinition definition) {
+        super(definition);
+    }
+
+    @Override
+    public ManaPotion copy() {
+        return new ManaPotion(definition);
+    }
 }
@@ -6,8 +6,6 @@ import legends.entities.heroes.Hero;
  * Class representing a potion item.
  */
 public class Potion extends Item {
-    private final int effectAmount;
-    private final String affectedAttributes; // e.g. "Health", "Mana", "Strength", "Agility", etc.
 
     /**
      * Constructor for a potion.
@@ -16,15 +14,29 @@ public class Potion extends Item {
      * @param cost the cost of the potion
      * @param requiredLevel the required level to use the potion
      * @param effectAmount the amount of effect the potion has
-     * @param affectedAttributes the attributes affected by the potion
+     * @param affectedAttributes the attributes affected by the potion (e.g. "Health", "Mana", "Strength")
      */
     public Potion(String name, int cost, int requiredLevel, int effectAmount, String affectedAttributes) {
-        super(name, cost, requiredLevel);
-        this.effectAmount = effectAmount;
-        this.affectedAttributes = affectedAttributes;
-        // Potions are multi-use: give them 3 uses by default.
-        this.remainingUses = 3;
+        super(ItemDefinition.potion(name, cost, requiredLevel, effectAmount, affectedAttributes));
+    }
+
+    /**
+     * Create a new potion instance of a definition.
+     * 
+     * @param definition the shared potion data
+     */
+    protected Potion(ItemDefinition definition) {
+        super(definition);
+    }
 
+    @Override
+    public Potion copy() {
+        return new Potion(definition);
+    }
+
+    @Override
+    protected void addTo(Inventory inventory) {
+        inventory.addPotion(this);
     }
 
     /**
@@ -32,7 +44,7 @@ public class Potion extends Item {
      * @return the effect amount
      */
     public int getEffectAmount() {
-        return effectAmount;
+        return definition.getEffectAmount();
     }
 
     /**
@@ -40,7 +52,7 @@ public class Potion extends Item {
      * @return the affected attributes
      */
     public String getAffectedAttributes() {
-        return affectedAttributes;
+        return definition.getAffectedAttributes();
     }
 
     /**
@@ -49,6 +61,8 @@ public class Potion extends Item {
      * @param h the hero to apply the potion effect on
      */
     public void applyTo(Hero h) {
+        String affectedAttributes = getAffectedAttributes();
+        int effectAmount = getEffectAmount();
         if (h == null || affectedAttributes == null || affectedAttributes.isEmpty()) {
             return;
         }
@@ -64,12 +78,13 @@ public class Potion extends Item {
                 case "STRENGTH" -> h.setStrength(h.getStrength() + effectAmount);
                 case "DEXTERITY" -> h.setDexterity(h.getDexterity() + effectAmount);
                 case "AGILITY" -> h.setAgility(h.getAgility() + effectAmount);
-                default -> System.out.println("Unknown attribute in potion: " + rawAttr);
+                default -> {
+                    // attributes the hero does not have are ignored
+                }
             }
         }
 
         if (!isUsable()) {
-            System.out.println("This potion is empty and cannot be used anymore.");
             return;
         }
 
@@ -83,7 +98,7 @@ public class Potion extends Item {
     @Override
     public String toString() {
         return super.toString() +
-                " [Potion +" + effectAmount +
-                " to " + affectedAttributes + "]";
+                " [Potion +" + getEffectAmount() +
+                " to " + getAffectedAttributes() + "]";
     }
 }
@@ -6,8 +6,6 @@ import legends.entities.monsters.Monster;
  * Abstract base class for all spell items.
  */
 public abstract class Spell extends Item {
-    protected int baseDamage;
-    protected int manaCost;
 
     /**
      * Constructor for a spell.
@@ -19,11 +17,24 @@ public abstract class Spell extends Item {
      * @param manaCost the mana cost to cast the spell
      */
     public Spell(String name, int cost, int requiredLevel, int baseDamage, int manaCost) {
-        super(name, cost, requiredLevel);
-        this.baseDamage = baseDamage;
-        this.manaCost = manaCost;
-        // Spells are consumable: start with 1 use by default.
-        this.remainingUses = 1;
+        super(ItemDefinition.spell(name, cost, requiredLevel, baseDamage, manaCost));
+    }
+
+    /**
+     * Create a new spell instance of a definition.
+     * 
+     * @param definition the shared spell data
+     */
+    protected Spell(ItemDefinition definition) {
+        super(definition);
+    }
+
+    @Override
+    public abstract Spell copy();
+
+    @Override
+    protected void addTo(Inventory inventory) {
+        inventory.addSpell(this);
     }
 
     /**
@@ -32,7 +43,7 @@ public abstract class Spell extends Item {
      * @return base damage of the spell
      */
     public int getBaseDamage() {
-        return baseDamage;
+        return definition.getDamage();
     }
 
     /**
@@ -41,15 +52,23 @@ public abstract class Spell extends Item {
      * @return mana cost of the spell
      */
     public int getManaCost() {
-        return manaCost;
+        return definition.getManaCost();
     }
 
     /**
      * Apply the spell's effect on a monster.
      * 
      * @param m the monster to apply the spell effect on
+     * @return true if the monster was weakened; false if it is missing or dead
+     */
+    public abstract boolean applyEffect(Monster m);
+
+    /**
+     * Name of the monster stat the spell's effect lowers, for messages.
+     * 
+     * @return stat name, e.g. "defense"
      */
-    public abstract void applyEffect(Monster m);
+    public abstract String getWeakenedStat();
 
     /**
      * Returns a string representation of the spell.
@@ -59,7 +78,7 @@ public abstract class Spell extends Item {
     @Override
     public String toString() {
         return super.toString() +
-                " [Spell dmg=" + baseDamage +
-                ", manaCost=" + manaCost + "]";
+                " [Spell dmg=" + getBaseDamage() +
+                ", manaCost=" + getManaCost() + "]";
     }
 }
@@ -4,8 +4,6 @@ package legends.items;
  * Class representing a weapon item.
  */
 public class Weapon extends Item {
-    private final int damage;
-    private final int handsRequired;
 
     /**
      * Constructor for a weapon.
@@ -17,11 +15,26 @@ public class Weapon extends Item {
      * @param handsRequired the number of hands required to wield the weapon
      */
     public Weapon(String name, int cost, int requiredLevel, int damage, int handsRequired) {
-        super(name, cost, requiredLevel);
-        this.damage = damage;
-        this.handsRequired = handsRequired;
-        // Weapons are durable but not infinite; give a default use count so repair matters.
-        this.remainingUses = 15;
+        super(ItemDefinition.weapon(name, cost, requiredLevel, damage, handsRequired));
+    }
+
+    /**
+     * Create a new weapon instance of a definition.
+     * 
+     * @param definition the shared weapon data
+     */
+    protected Weapon(ItemDefinition definition) {
+        super(definition);
+    }
+
+    @Override
+    public Weapon copy() {
+        return new Weapon(definition);
+    }
+
+    @Override
+    protected void addTo(Inventory inventory) {
+        inventory.addWeapon(this);
     }
 
     /**
@@ -30,7 +43,7 @@ public class Weapon extends Item {
      * @return damage of the weapon
      */
     public int getDamage() {
-        return damage;
+        return definition.getDamage();
     }
 
     /**
@@ -39,7 +52,7 @@ public class Weapon extends Item {
      * @return hands required
      */
     public int getHandsRequired() {
-        return handsRequired;
+        return definition.getHandsRequired();
     }
 
     /**
@@ -50,7 +63,7 @@ public class Weapon extends Item {
     @Override
     public String toString() {
         return super.toString() +
-                " [Weapon dmg=" + damage +
-                ", hands=" + handsRequired + "]";
+                " [Weapon dmg=" + getDamage() +
+                ", hands=" + getHandsRequired() + "]";
     }
 }
\ No newline at end of file
@@ -1,11 +1,16 @@
 package legends.state;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import legends.entities.heroes.Hero;
 import legends.game.Board;
+import legends.game.BoardMode;
 import legends.game.Difficulty;
+import legends.game.Market;
+import legends.game.MarketIndex;
 
 public class GameState implements Serializable {
     private static final long serialVersionUID = 1L;
@@ -15,7 +20,18 @@ public class GameState implements Serializable {
     private final int heroRow;
     private final int heroCol;
     private final List<HeroSnapshot> party;
+    // markets keyed by "row,col"; only present in older saves
     private final Map<String, MarketSnapshot> marketSnapshots;
+    // packed market positions (see MarketIndex.pack) and their snapshots, in the same order;
+    // markets left out are rebuilt from the board seed
+    private final long[] marketPositions;
+    private final ArrayList<MarketSnapshot> markets;
+    // set instead of boardLayout for chunked worlds; null in older saves
+    private final WorldSnapshot world;
+    // seed of a layout board; 0 in older saves, which list every market
+    private final long boardSeed;
+    // GameCatalog.getStockFingerprint() of the tables unsaved markets restock from; 0 if unknown
+    private final long stockFingerprint;
 
     public GameState(Difficulty difficulty,
                      int boardSize,
@@ -23,14 +39,48 @@ public class GameState implements Serializable {
                      int heroRow,
                      int heroCol,
                      List<HeroSnapshot> party,
-                     Map<String, MarketSnapshot> marketSnapshots) {
+                     long[] marketPositions,
+                     List<MarketSnapshot> markets,
+                     long boardSeed) {
+        this(difficulty, boardSize, boardLayout, heroRow, heroCol, party, marketPositions, markets, null, boardSeed, 0L);
+    }
+
+    public GameState(Difficulty difficulty,
+                     int boardSize,
+                     char[][] boardLayout,
+                     int heroRow,
+                     int heroCol,
+                     List<HeroSnapshot> party,
+                     long[] marketPositions,
+                     List<MarketSnapshot> markets,
+                     WorldSnapshot world) {
+        this(difficulty, boardSize, boardLayout, heroRow, heroCol, party, marketPositions, markets, world,
+                world == null ? 0L : world.getSeed(), 0L);
+    }
+
+    private GameState(Difficulty difficulty,
+                      int boardSize,
+                      char[][] boardLayout,
+                      int heroRow,
+                      int heroCol,
+                      List<HeroSnapshot> party,
+                      long[] marketPositions,
+                      List<MarketSnapshot> markets,
+                      WorldSnapshot world,
+                      long boardSeed,
+                      long stockFingerprint) {
+        this.world = world;
+        this.boardSeed = boardSeed;
+        this.stockFingerprint = stockFingerprint;
         this.difficulty = difficulty;
         this.boardSize = boardSize;
         this.boardLayout = boardLayout;
         this.heroRow = heroRow;
         this.heroCol = heroCol;
         this.party = party;
-        this.marketSnapshots = marketSnapshots;
+        this.marketSnapshots = null;
+        this.marketPositions = marketPositions;
+        this.markets = markets == null ? null : new ArrayList<>(markets);
     }
 
     public Difficulty getDifficulty() { return difficulty; }
@@ -39,19 +89,77 @@ public class GameState implements Serializable {
     public int getHeroRow() { return heroRow; }
     public int getHeroCol() { return heroCol; }
     public List<HeroSnapshot> getParty() { return party; }
-    public Map<String, MarketSnapshot> getMarketSnapshots() { return marketSnapshots; }
+
+    /**
+     * Packed market positions, parallel to {@link #getMarkets()}. Older saves keyed by
+     * "row,col" strings are converted on the fly.
+     */
+    public long[] getMarketPositions() {
+        if (marketPositions != null || marketSnapshots == null) return marketPositions;
+        long[] positions = new long[marketSnapshots.size()];
+        int i = 0;
+        for (String key : marketSnapshots.keySet()) {
+            String[] rc = key.split(",");
+            positions[i++] = MarketIndex.pack(Integer.parseInt(rc[0].trim()), Integer.parseInt(rc[1].trim()));
+        }
+        return positions;
+    }
+
+    public List<MarketSnapshot> getMarkets() {
+        if (markets != null || marketSnapshots == null) return markets;
+        // same iteration order as getMarketPositions()
+        return new ArrayList<>(marketSnapshots.values());
+    }
+    public WorldSnapshot getWorld() { return world; }
+    public long getBoardSeed() { return boardSeed; }
+
+    /**
+     * Markets saved as a seed, or left out of the save, are restocked on load from the current
+     * item tables. They only come back as they were if those tables still have this fingerprint.
+     *
+     * @return stock fingerprint of the catalog at save time, or 0 if the save predates it
+     */
+    public long getStockFingerprint() { return stockFingerprint; }
 
     /**
      * Create a snapshot from live objects.
      */
     public static GameState from(Board board, List<Hero> heroes, Difficulty difficulty) {
         if (board == null || heroes == null) return null;
-        char[][] layout = board.copyLayout();
         int size = board.getSize();
         int row = board.getPartyRow();
         int col = board.getPartyCol();
         List<HeroSnapshot> party = HeroSnapshot.fromHeroes(heroes);
-        Map<String, MarketSnapshot> marketSnaps = MarketSnapshot.fromMarkets(board.getMarkets());
-        return new GameState(difficulty, size, layout, row, col, party, marketSnaps);
+        // only opened or replaced markets are saved; untouched ones come back from the seed
+        long[] indexed = board.getMarketIndex().toArray();
+        long[] positions = new long[indexed.length];
+        List<MarketSnapshot> marketSnaps = new ArrayList<>();
+        int saved = 0;
+        for (long p : indexed) {
+            int r = MarketIndex.rowOf(p);
+            int c = MarketIndex.colOf(p);
+            Market market = board.getChangedMarketAt(r, c);
+            if (market == null && r == row && c == col) {
+                // the layout shows the party's tile as 'H', so its market only survives if listed
+                market = board.getMarketAt(r, c);
+            }
+            if (market != null) {
+                positions[saved++] = p;
+                marketSnaps.add(MarketSnapshot.fromMarket(market));
+            }
+        }
+        positions = Arrays.copyOf(positions, saved);
+        // unopened markets stock from the newest tables, so that is what they depend on
+        long fingerprint = board.getCatalog().latest().getStockFingerprint();
+        if (board.getMode() == BoardMode.CHUNKED) {
+            // a full layout would force every chunk into memory; keep only what was visited
+            WorldSnapshot world = new WorldSnapshot(board.getSeed(), board.getInaccessiblePercent(),
+                    board.getMarketPercent(), board.copyVisitedChunks());
+            return new GameState(difficulty, size, null, row, col, party, positions, marketSnaps, world,
+                    world.getSeed(), fingerprint);
+        }
+        char[][] layout = board.copyLayout();
+        return new GameState(difficulty, size, layout, row, col, party, positions, marketSnaps, null,
+                board.getSeed(), fingerprint);
     }
 }
@@ -106,16 +106,16 @@ public class HeroSnapshot implements Serializable {
             List<ItemSnapshot> items = new ArrayList<>();
             if (inv != null) {
                 for (Weapon w : inv.getWeapons()) {
-                    items.add(new ItemSnapshot(w.getName(), "Weapon"));
+                    items.add(ItemSnapshot.of(w, "Weapon"));
                 }
                 for (Armor a : inv.getArmors()) {
-                    items.add(new ItemSnapshot(a.getName(), "Armor"));
+                    items.add(ItemSnapshot.of(a, "Armor"));
                 }
                 for (Potion p : inv.getPotions()) {
-                    items.add(new ItemSnapshot(p.getName(), "Potion"));
+                    items.add(ItemSnapshot.of(p, "Potion"));
                 }
                 for (Spell s : inv.getSpells()) {
-                    items.add(new ItemSnapshot(s.getName(), "Spell"));
+                    items.add(ItemSnapshot.of(s, "Spell"));
                 }
             }
 
@@ -1,93 +1,62 @@
 package legends.state;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import legends.game.DataLoader;
+import legends.game.GameCatalog;
 import legends.items.Armor;
-import legends.items.FireSpell;
-import legends.items.IceSpell;
-import legends.items.LightningSpell;
+import legends.items.Item;
+import legends.items.ItemDefinition;
+import legends.items.ItemRegistry;
 import legends.items.Potion;
 import legends.items.Spell;
 import legends.items.Weapon;
 
 /**
- * Simple registry of items keyed by name to support save/load reconstruction.
- * Items are cloned on retrieval to avoid mutating shared prototypes.
+ * Restores items for save/load from the shared {@link GameCatalog}'s item registry, by id when a
+ * snapshot carries one and by name otherwise, so no data files are parsed here.
+ * Items are new instances of the catalog definitions, never the shared prototypes themselves.
  */
 public class ItemCatalog {
-    private final Map<String, Weapon> weapons = new HashMap<>();
-    private final Map<String, Armor> armors = new HashMap<>();
-    private final Map<String, Potion> potions = new HashMap<>();
-    private final Map<String, Spell> spells = new HashMap<>();
+    private final GameCatalog gameCatalog;
+    private final ItemRegistry registry;
 
     public ItemCatalog() {
-        loadAll();
+        this(GameCatalog.getDefault());
     }
 
-    private void loadAll() {
-        String base = "data/items/";
-        List<Weapon> allWeapons = DataLoader.loadWeapons(base + "Weaponry.txt");
-        List<Armor> allArmors = DataLoader.loadArmors(base + "Armory.txt");
-        List<Potion> allPotions = DataLoader.loadPotions(base + "Potions.txt");
-        List<Spell> allSpells = DataLoader.loadFireSpells(base + "FireSpells.txt");
-        allSpells.addAll(DataLoader.loadIceSpells(base + "IceSpells.txt"));
-        allSpells.addAll(DataLoader.loadLightningSpells(base + "LightningSpells.txt"));
+    public ItemCatalog(GameCatalog catalog) {
+        this.gameCatalog = catalog;
+        this.registry = catalog.getItemRegistry();
+    }
 
-        for (Weapon w : allWeapons) {
-            weapons.put(w.getName(), w);
-        }
-        for (Armor a : allArmors) {
-            armors.put(a.getName(), a);
-        }
-        for (Potion p : allPotions) {
-            potions.put(p.getName(), p);
-        }
-        for (Spell s : allSpells) {
-            spells.put(s.getName(), s);
-        }
+    public GameCatalog getGameCatalog() {
+        return gameCatalog;
     }
 
     public Weapon copyWeapon(String name) {
-        Weapon proto = weapons.get(name);
-        if (proto == null) return null;
-        return new Weapon(proto.getName(), (int) proto.getCost(), proto.getRequiredLevel(), proto.getDamage(), proto.getHandsRequired());
+        return registry.newInstance(registry.idOf(name)) instanceof Weapon w ? w : null;
     }
 
     public Armor copyArmor(String name) {
-        Armor proto = armors.get(name);
-        if (proto == null) return null;
-        return new Armor(proto.getName(), proto.getCost(), proto.getRequiredLevel(), proto.getDamageReduction());
+        return registry.newInstance(registry.idOf(name)) instanceof Armor a ? a : null;
     }
 
     public Potion copyPotion(String name) {
-        Potion proto = potions.get(name);
-        if (proto == null) return null;
-        return new Potion(proto.getName(), (int) proto.getCost(), proto.getRequiredLevel(), proto.getEffectAmount(), proto.getAffectedAttributes());
+        return registry.newInstance(registry.idOf(name)) instanceof Potion p ? p : null;
     }
 
     public Spell copySpell(String name) {
-        Spell proto = spells.get(name);
-        if (proto == null) return null;
-        if (proto.getClass() == FireSpell.class) {
-            FireSpell fs = (FireSpell) proto;
-            return new FireSpell(fs.getName(), (int) fs.getCost(), fs.getRequiredLevel(), fs.getBaseDamage(), fs.getManaCost());
-        } else if (proto.getClass() == IceSpell.class) {
-            IceSpell is = (IceSpell) proto;
-            return new IceSpell(is.getName(), (int) is.getCost(), is.getRequiredLevel(), is.getBaseDamage(), is.getManaCost());
-        } else if (proto.getClass() == LightningSpell.class) {
-            LightningSpell ls = (LightningSpell) proto;
-            return new LightningSpell(ls.getName(), (int) ls.getCost(), ls.getRequiredLevel(), ls.getBaseDamage(), ls.getManaCost());
-        }
-        return null;
+        return registry.newInstance(registry.idOf(name)) instanceof Spell s ? s : null;
     }
 
     /**
-     * Return a concrete item instance by snapshot type/name, or null if missing.
+     * Return a concrete item instance by snapshot id (or type/name), or null if missing.
      */
-    public Object copyBySnapshot(ItemSnapshot snap) {
+    public Item copyBySnapshot(ItemSnapshot snap) {
         if (snap == null) return null;
+        ItemDefinition byId = registry.get(snap.getId());
+        // the name must agree, in case the data files were reordered since the save
+        if (byId != null && byId.getName().equals(snap.getName())) {
+            return registry.newInstance(snap.getId());
+        }
         String type = snap.getType();
         String name = snap.getName();
         if ("Weapon".equalsIgnoreCase(type)) return copyWeapon(name);
@@ -1,21 +1,43 @@
 package legends.state;
 
 import java.io.Serializable;
+import legends.game.GameCatalog;
+import legends.items.Item;
+import legends.items.ItemRegistry;
 
 /**
- * Lightweight item snapshot identified primarily by name and type.
+ * Lightweight item snapshot identified by catalog id, with name and type kept as a fallback.
+ * Saves written before ids existed deserialize with id 0; the name check on restore catches that.
  */
 public class ItemSnapshot implements Serializable {
     private static final long serialVersionUID = 1L;
 
     private final String name;
     private final String type;
+    private final int id;
 
     public ItemSnapshot(String name, String type) {
+        this(ItemRegistry.UNKNOWN, name, type);
+    }
+
+    public ItemSnapshot(int id, String name, String type) {
+        this.id = id;
         this.name = name;
         this.type = type;
     }
 
+    /**
+     * Snapshot an item by its id in the current default catalog.
+     */
+    public static ItemSnapshot of(Item item, String type) {
+        int id = GameCatalog.getDefault().getItemRegistry().idOf(item);
+        return new ItemSnapshot(id, item.getName(), type);
+    }
+
+    public int getId() {
+        return id;
+    }
+
     public String getName() {
         return name;
     }
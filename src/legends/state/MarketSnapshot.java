@@ -2,9 +2,7 @@ package legends.state;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import legends.game.Market;
 import legends.items.Armor;
 import legends.items.Potion;
@@ -13,6 +11,9 @@ import legends.items.Weapon;
 
 /**
  * Snapshot of a market's inventory by item names.
+ * Markets that were never opened are saved as just their stock seed. Their stock is drawn on
+ * load from whatever item tables are current then, so it follows data edits and hot reloads;
+ * {@link GameState#getStockFingerprint()} tells whether the tables changed since the save.
  */
 public class MarketSnapshot implements Serializable {
     private static final long serialVersionUID = 1L;
@@ -20,6 +21,9 @@ public class MarketSnapshot implements Serializable {
     private final List<ItemSnapshot> armors;
     private final List<ItemSnapshot> potions;
     private final List<ItemSnapshot> spells;
+    // true when only the stock seed was saved; older saves default to false
+    private final boolean seeded;
+    private final long seed;
 
     public MarketSnapshot(List<ItemSnapshot> weapons, List<ItemSnapshot> armors,
                           List<ItemSnapshot> potions, List<ItemSnapshot> spells) {
@@ -27,35 +31,57 @@ public class MarketSnapshot implements Serializable {
         this.armors = armors;
         this.potions = potions;
         this.spells = spells;
+        this.seeded = false;
+        this.seed = 0L;
+    }
+
+    private MarketSnapshot(long seed) {
+        // shared empty lists; a seeded snapshot has no items of its own
+        this.weapons = List.of();
+        this.armors = List.of();
+        this.potions = List.of();
+        this.spells = List.of();
+        this.seeded = true;
+        this.seed = seed;
     }
 
     public List<ItemSnapshot> getWeapons() { return weapons; }
     public List<ItemSnapshot> getArmors() { return armors; }
     public List<ItemSnapshot> getPotions() { return potions; }
     public List<ItemSnapshot> getSpells() { return spells; }
+    public boolean isSeeded() { return seeded; }
+    public long getSeed() { return seed; }
 
     public static MarketSnapshot fromMarket(Market market) {
         if (market == null) return new MarketSnapshot(new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        if (!market.isStocked()) return new MarketSnapshot(market.getSeed());
         List<ItemSnapshot> weaponSnaps = new ArrayList<>();
         for (Weapon w : market.getWeapons()) {
-            weaponSnaps.add(new ItemSnapshot(w.getName(), "Weapon"));
+            weaponSnaps.add(ItemSnapshot.of(w, "Weapon"));
         }
         List<ItemSnapshot> armorSnaps = new ArrayList<>();
         for (Armor a : market.getArmors()) {
-            armorSnaps.add(new ItemSnapshot(a.getName(), "Armor"));
+            armorSnaps.add(ItemSnapshot.of(a, "Armor"));
         }
         List<ItemSnapshot> potionSnaps = new ArrayList<>();
         for (Potion p : market.getPotions()) {
-            potionSnaps.add(new ItemSnapshot(p.getName(), "Potion"));
+            potionSnaps.add(ItemSnapshot.of(p, "Potion"));
         }
         List<ItemSnapshot> spellSnaps = new ArrayList<>();
         for (Spell s : market.getSpells()) {
-            spellSnaps.add(new ItemSnapshot(s.getName(), "Spell"));
+            spellSnaps.add(ItemSnapshot.of(s, "Spell"));
         }
         return new MarketSnapshot(weaponSnaps, armorSnaps, potionSnaps, spellSnaps);
     }
 
+    /**
+     * Rebuild the market. A seeded snapshot becomes an unopened market that stocks itself from the
+     * catalog's newest tables on first use.
+     */
     public Market toMarket(ItemCatalog catalog) {
+        if (seeded) {
+            return new Market(catalog.getGameCatalog(), seed);
+        }
         List<Weapon> ws = new ArrayList<>();
         List<Armor> as = new ArrayList<>();
         List<Potion> ps = new ArrayList<>();
@@ -81,23 +107,15 @@ public class MarketSnapshot implements Serializable {
         return new Market(ws, as, ps, ss);
     }
 
-    public static Map<String, MarketSnapshot> fromMarkets(Map<String, Market> markets) {
-        Map<String, MarketSnapshot> result = new HashMap<>();
-        if (markets == null) {
-            return result;
-        }
-        for (Map.Entry<String, Market> entry : markets.entrySet()) {
-            result.put(entry.getKey(), fromMarket(entry.getValue()));
-        }
-        return result;
-    }
-
-    public static Map<String, Market> toMarkets(Map<String, MarketSnapshot> snapshots, ItemCatalog catalog) {
-        Map<String, Market> map = new HashMap<>();
-        if (snapshots == null) return map;
-        for (Map.Entry<String, MarketSnapshot> e : snapshots.entrySet()) {
-            map.put(e.getKey(), e.getValue().toMarket(catalog));
+    /**
+     * Rebuild a list of markets, keeping the order of the snapshots.
+     */
+    public static List<Market> toMarkets(List<MarketSnapshot> snapshots, ItemCatalog catalog) {
+        List<Market> list = new ArrayList<>();
+        if (snapshots == null) return list;
+        for (MarketSnapshot snap : snapshots) {
+            list.add(snap == null ? null : snap.toMarket(catalog));
         }
-        return map;
+        return list;
     }
 }
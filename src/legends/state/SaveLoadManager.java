@@ -7,32 +7,34 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import legends.entities.heroes.Hero;
-import legends.entities.heroes.Paladin;
-import legends.entities.heroes.Sorcerer;
-import legends.entities.heroes.Warrior;
 import legends.game.Board;
-import legends.game.DataLoader;
 import legends.game.Difficulty;
+import legends.game.GameCatalog;
 import legends.game.Market;
+import legends.game.PrototypeRegistry;
 import legends.items.Armor;
 import legends.items.Inventory;
-import legends.items.Potion;
-import legends.items.Spell;
+import legends.items.Item;
 import legends.items.Weapon;
 
 /**
  * Handles saving/loading of game state (memento style).
  */
 public class SaveLoadManager {
-    private final ItemCatalog itemCatalog = new ItemCatalog();
-    private final Map<String, Hero> heroPrototypes = new HashMap<>();
+    private final GameCatalog catalog;
+    private final ItemCatalog itemCatalog;
+    private final PrototypeRegistry<Hero> heroPrototypes;
 
     public SaveLoadManager() {
-        loadHeroPrototypes();
+        this(GameCatalog.getDefault());
+    }
+
+    public SaveLoadManager(GameCatalog catalog) {
+        this.catalog = catalog;
+        this.itemCatalog = new ItemCatalog(catalog);
+        this.heroPrototypes = catalog.getHeroPrototypes();
     }
 
     /* --------------------------- Public API --------------------------- */
@@ -65,8 +67,16 @@ public class SaveLoadManager {
                 return null;
             }
             Difficulty difficulty = state.getDifficulty() == null ? Difficulty.NORMAL : state.getDifficulty();
-            Map<String, Market> markets = MarketSnapshot.toMarkets(state.getMarketSnapshots(), itemCatalog);
-            Board board = new Board(state.getBoardLayout(), markets);
+            long[] marketPositions = state.getMarketPositions();
+            List<Market> markets = MarketSnapshot.toMarkets(state.getMarkets(), itemCatalog);
+            WorldSnapshot world = state.getWorld();
+            Board board;
+            if (world != null) {
+                board = Board.restoreChunked(state.getBoardSize(), world.getInaccessiblePercent(), world.getMarketPercent(),
+                        world.getSeed(), world.getVisitedChunks(), state.getHeroRow(), state.getHeroCol(), marketPositions, markets, catalog);
+            } else {
+                board = new Board(state.getBoardLayout(), marketPositions, markets, catalog, state.getBoardSeed());
+            }
             List<Hero> heroes = new ArrayList<>();
             if (state.getParty() != null) {
                 for (HeroSnapshot snap : state.getParty()) {
@@ -74,7 +84,9 @@ public class SaveLoadManager {
                     if (h != null) heroes.add(h);
                 }
             }
-            return new SaveResult(board, heroes, difficulty);
+            long fingerprint = state.getStockFingerprint();
+            boolean stockChanged = fingerprint != 0 && fingerprint != catalog.latest().getStockFingerprint();
+            return new SaveResult(board, heroes, difficulty, stockChanged);
         } catch (IOException | ClassNotFoundException e) {
             System.err.println("Failed to load game: " + e.getMessage());
             return null;
@@ -83,25 +95,11 @@ public class SaveLoadManager {
 
     /* ------------------------ Reconstruction ------------------------- */
 
-    private void loadHeroPrototypes() {
-        String base = "data/heroes/";
-        for (Warrior w : DataLoader.loadWarriors(base + "Warriors.txt")) {
-            heroPrototypes.put(w.getName(), w);
-        }
-        for (Paladin p : DataLoader.loadPaladins(base + "Paladins.txt")) {
-            heroPrototypes.put(p.getName(), p);
-        }
-        for (Sorcerer s : DataLoader.loadSorcerers(base + "Sorcerers.txt")) {
-            heroPrototypes.put(s.getName(), s);
-        }
-    }
-
     private Hero rebuildHero(HeroSnapshot snap) {
         if (snap == null) return null;
         Hero proto = heroPrototypes.get(snap.getName());
         if (proto == null) return null;
-        Hero hero = instantiateHero(proto);
-        if (hero == null) return null;
+        Hero hero = proto.copy();
 
         hero.setLevel(snap.getLevel());
         hero.setHp(snap.getHp());
@@ -116,37 +114,13 @@ public class SaveLoadManager {
         return hero;
     }
 
-    private Hero instantiateHero(Hero proto) {
-        if (proto instanceof Warrior w) {
-            return new Warrior(w.getName(), w.getMp(), w.getStrength(), w.getAgility(), w.getDexterity(), w.getGold(), w.getExperience());
-        }
-        if (proto instanceof Paladin p) {
-            return new Paladin(p.getName(), p.getMp(), p.getStrength(), p.getAgility(), p.getDexterity(), p.getGold(), p.getExperience());
-        }
-        if (proto instanceof Sorcerer s) {
-            return new Sorcerer(s.getName(), s.getMp(), s.getStrength(), s.getAgility(), s.getDexterity(), s.getGold(), s.getExperience());
-        }
-        return null;
-    }
-
     private void restoreInventoryAndEquipment(Hero hero, HeroSnapshot snap) {
         Inventory inv = hero.getInventory();
         if (snap.getInventoryItems() != null) {
             for (ItemSnapshot itemSnap : snap.getInventoryItems()) {
-                String type = itemSnap.getType();
-                String name = itemSnap.getName();
-                if ("Weapon".equalsIgnoreCase(type)) {
-                    Weapon w = itemCatalog.copyWeapon(name);
-                    if (w != null) inv.addWeapon(w);
-                } else if ("Armor".equalsIgnoreCase(type)) {
-                    Armor a = itemCatalog.copyArmor(name);
-                    if (a != null) inv.addArmor(a);
-                } else if ("Potion".equalsIgnoreCase(type)) {
-                    Potion p = itemCatalog.copyPotion(name);
-                    if (p != null) inv.addPotion(p);
-                } else if ("Spell".equalsIgnoreCase(type)) {
-                    Spell s = itemCatalog.copySpell(name);
-                    if (s != null) inv.addSpell(s);
+                Item item = itemCatalog.copyBySnapshot(itemSnap);
+                if (item != null) {
+                    inv.add(item);
                 }
             }
         }
@@ -175,15 +149,27 @@ public class SaveLoadManager {
         private final Board board;
         private final List<Hero> heroes;
         private final Difficulty difficulty;
+        private final boolean stockChanged;
 
         public SaveResult(Board board, List<Hero> heroes, Difficulty difficulty) {
+            this(board, heroes, difficulty, false);
+        }
+
+        public SaveResult(Board board, List<Hero> heroes, Difficulty difficulty, boolean stockChanged) {
             this.board = board;
             this.heroes = heroes;
             this.difficulty = difficulty;
+            this.stockChanged = stockChanged;
         }
 
         public Board getBoard() { return board; }
         public List<Hero> getHeroes() { return heroes; }
         public Difficulty getDifficulty() { return difficulty; }
+
+        /**
+         * @return true if the item tables changed since the save, so markets that were saved as a
+         *         seed or not saved at all now hold different stock than when the game was saved
+         */
+        public boolean isStockChanged() { return stockChanged; }
     }
 }
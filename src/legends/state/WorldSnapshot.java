@@ -0,0 +1,31 @@
+package legends.state;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Snapshot of a chunked world: the generation parameters plus only the chunks the party visited or changed.
+ * Every other chunk is regenerated from the seed when the save is loaded.
+ */
+public class WorldSnapshot implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final long seed;
+    private final double inaccessiblePercent;
+    private final double marketPercent;
+    // a concrete serializable map, so the snapshot does not depend on what the caller passed in
+    private final HashMap<Long, byte[]> visitedChunks;
+
+    public WorldSnapshot(long seed, double inaccessiblePercent, double marketPercent, Map<Long, byte[]> visitedChunks) {
+        this.seed = seed;
+        this.inaccessiblePercent = inaccessiblePercent;
+        this.marketPercent = marketPercent;
+        this.visitedChunks = new HashMap<>(visitedChunks);
+    }
+
+    public long getSeed() { return seed; }
+    public double getInaccessiblePercent() { return inaccessiblePercent; }
+    public double getMarketPercent() { return marketPercent; }
+    public Map<Long, byte[]> getVisitedChunks() { return visitedChunks; }
+}
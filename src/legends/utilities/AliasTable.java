@@ -0,0 +1,105 @@
+package legends.utilities;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Walker/Vose alias table for drawing an index from a fixed discrete distribution in O(1).
+ * <p>
+ * Building costs O(n). Each draw then takes one uniform column and one biased coin: column
+ * {@code i} keeps itself with probability {@code prob[i]} and otherwise yields {@code alias[i]}.
+ */
+public final class AliasTable {
+
+    private final double[] prob;
+    private final int[] alias;
+    private final double total;
+
+    /**
+     * Build a table from non-negative weights; they do not need to sum to 1.
+     * Entries with weight 0 are never drawn.
+     *
+     * @param weights relative weight of each index
+     * @throws IllegalArgumentException if a weight is negative or not finite
+     */
+    public AliasTable(double[] weights) {
+        int n = weights.length;
+        double total = 0;
+        for (double w : weights) {
+            if (!(w >= 0) || Double.isInfinite(w)) {
+                throw new IllegalArgumentException("weight " + w + " is not a finite non-negative number");
+            }
+            total += w;
+        }
+        this.prob = new double[n];
+        this.alias = new int[n];
+        this.total = total;
+        if (total == 0) {
+            return;
+        }
+
+        // scale so the average column holds exactly 1, then pair each short column with a tall one
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int s = small[--smallCount];
+            int l = large[--largeCount];
+            prob[s] = scaled[s];
+            alias[s] = l;
+            scaled[l] = (scaled[l] + scaled[s]) - 1.0;
+            if (scaled[l] < 1.0) {
+                small[smallCount++] = l;
+            } else {
+                large[largeCount++] = l;
+            }
+        }
+        // whatever is left is 1 up to rounding error; a zero weight must still never be drawn
+        int anyPositive = 0;
+        while (weights[anyPositive] == 0) {
+            anyPositive++;
+        }
+        while (largeCount > 0) {
+            prob[large[--largeCount]] = 1.0;
+        }
+        while (smallCount > 0) {
+            int s = small[--smallCount];
+            prob[s] = weights[s] > 0 ? 1.0 : 0.0;
+            alias[s] = anyPositive;
+        }
+    }
+
+    public int size() {
+        return prob.length;
+    }
+
+    /**
+     * @return true if no index can be drawn (no entries, or every weight was 0)
+     */
+    public boolean isEmpty() {
+        return total == 0;
+    }
+
+    /**
+     * Draw an index with probability proportional to its weight.
+     *
+     * @param rand random source
+     * @return drawn index, or -1 if the table is empty
+     */
+    public int sample(RandomGenerator rand) {
+        if (total == 0) {
+            return -1;
+        }
+        int i = rand.nextInt(prob.length);
+        return rand.nextDouble() < prob[i] ? i : alias[i];
+    }
+}
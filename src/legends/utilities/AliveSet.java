@@ -0,0 +1,182 @@
+package legends.utilities;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.random.RandomGenerator;
+import legends.entities.Combatant;
+
+/**
+ * The living members of a fixed list of combatants, kept as a dense array of member indexes.
+ * <p>
+ * Removing a member swaps the last living index into its place, so adding, removing, counting,
+ * membership and a uniform random pick are all O(1) and allocation-free, however large the list.
+ * The order of the living members is therefore not the list order. The set does not watch the
+ * members: whoever changes a member's HP calls {@link #update} for it afterwards.
+ * <p>
+ * Each member remembers its own list index through {@link Combatant#setBattleIndex}, so finding a
+ * member takes no map lookup. A combatant is therefore tracked by one set at a time; see
+ * {@link Combatant#setBattleIndex} for the rule and what breaking it does.
+ *
+ * @param <T> member type
+ */
+public final class AliveSet<T extends Combatant> {
+
+    private final Predicate<? super T> isAlive;
+    private final List<T> view = new LivingView();
+    private List<T> members = List.of();
+    // dense[0 .. size) are the member indexes of the living members
+    private int[] dense = new int[8];
+    // member index -> position in dense, or -1 if that member is down
+    private int[] slots = new int[8];
+    private int size;
+
+    /**
+     * @param isAlive tells whether a member is still standing
+     */
+    public AliveSet(Predicate<? super T> isAlive) {
+        this.isAlive = isAlive;
+    }
+
+    /**
+     * Track a new list of members, checking each of them once.
+     *
+     * @param members the members; the list is used as is and must not change while tracked
+     */
+    public void reset(List<T> members) {
+        this.members = members;
+        int n = members.size();
+        if (dense.length < n) {
+            dense = new int[n];
+            slots = new int[n];
+        }
+        size = 0;
+        for (int i = 0; i < n; i++) {
+            T member = members.get(i);
+            member.setBattleIndex(i);
+            slots[i] = -1;
+            if (isAlive.test(member)) {
+                add(i);
+            }
+        }
+    }
+
+    /**
+     * Check a member again after its HP changed, adding or removing it as needed.
+     *
+     * @return true if the member is alive
+     * @throws IllegalStateException if this set does not track the member, for example because
+     *                               another set has taken it over since the last reset
+     */
+    public boolean update(T member) {
+        int index = indexOf(member);
+        if (index < 0) {
+            throw new IllegalStateException(member.getDisplayName() + " is not tracked by this set");
+        }
+        boolean alive = isAlive.test(member);
+        if (alive && slots[index] < 0) {
+            add(index);
+        } else if (!alive && slots[index] >= 0) {
+            remove(index);
+        }
+        return alive;
+    }
+
+    /**
+     * @return the member's index in the list, or -1 if this set does not track it
+     */
+    private int indexOf(T member) {
+        int index = member.getBattleIndex();
+        if (index < 0 || index >= members.size() || members.get(index) != member) {
+            return -1;
+        }
+        return index;
+    }
+
+    private void add(int index) {
+        slots[index] = size;
+        dense[size++] = index;
+    }
+
+    private void remove(int index) {
+        int slot = slots[index];
+        int last = dense[--size];
+        dense[slot] = last;
+        slots[last] = slot;
+        slots[index] = -1;
+    }
+
+    /* ===================== Queries ===================== */
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return true if the member is tracked and was alive at its last update
+     */
+    public boolean contains(T member) {
+        int index = indexOf(member);
+        return index >= 0 && slots[index] >= 0;
+    }
+
+    /**
+     * @param i position among the living members, from 0 to {@link #size()} - 1
+     * @return the living member at that position
+     */
+    public T get(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " out of " + size + " living members");
+        }
+        return members.get(dense[i]);
+    }
+
+    /**
+     * @param i position among the living members, from 0 to {@link #size()} - 1
+     * @return index in the member list of the living member at that position
+     */
+    public int indexAt(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Index " + i + " out of " + size + " living members");
+        }
+        return dense[i];
+    }
+
+    /**
+     * @return a uniformly random living member, or null if none is left
+     */
+    public T random(RandomGenerator rand) {
+        return size == 0 ? null : members.get(dense[rand.nextInt(size)]);
+    }
+
+    /**
+     * @return every tracked member, living or not, in list order
+     */
+    public List<T> members() {
+        return members;
+    }
+
+    /**
+     * @return read-only view of the living members, in the set's order; it follows later updates
+     */
+    public List<T> asList() {
+        return view;
+    }
+
+    private final class LivingView extends AbstractList<T> {
+
+        @Override
+        public T get(int index) {
+            return AliveSet.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
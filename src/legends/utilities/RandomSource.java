@@ -0,0 +1,32 @@
+package legends.utilities;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Source of the random rolls made during play: dodges, flee attempts, encounters and monster picks.
+ * <p>
+ * A source is created per game session or simulated battle and handed to whatever rolls, instead of
+ * everything going through {@link Math#random()}. That one global generator cannot be seeded, so a
+ * run cannot be reproduced, and its shared seed is contended when many sessions run in parallel.
+ * <p>
+ * Implementations only provide {@link #nextLong()}; every other draw comes from the
+ * {@link RandomGenerator} defaults built on it. So a {@link RecordingRandomSource} captures a whole
+ * run as a list of longs, and recording does not change the rolls of the source it wraps.
+ * Sources are not thread-safe unless stated otherwise.
+ */
+public interface RandomSource extends RandomGenerator {
+
+    /**
+     * @return a reproducible source for one session or task
+     */
+    static RandomSource seeded(long seed) {
+        return new SplittableRandomSource(seed);
+    }
+
+    /**
+     * @return a shared source that rolls on the calling thread's {@link java.util.concurrent.ThreadLocalRandom}
+     */
+    static RandomSource threadLocal() {
+        return ThreadLocalRandomSource.INSTANCE;
+    }
+}
@@ -0,0 +1,52 @@
+package legends.utilities;
+
+import java.util.Arrays;
+
+/**
+ * {@link RandomSource} that passes another source's rolls through and keeps them, so the run can
+ * be played again with a {@link ReplayingRandomSource}.
+ */
+public final class RecordingRandomSource implements RandomSource {
+
+    private final RandomSource source;
+    private long[] values = new long[64];
+    private int count;
+
+    /**
+     * @param source source whose rolls are recorded
+     */
+    public RecordingRandomSource(RandomSource source) {
+        this.source = source;
+    }
+
+    @Override
+    public long nextLong() {
+        long value = source.nextLong();
+        if (count == values.length) {
+            values = Arrays.copyOf(values, count * 2);
+        }
+        values[count++] = value;
+        return value;
+    }
+
+    /**
+     * @return number of values recorded so far
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @return the recorded values, oldest first
+     */
+    public long[] getRecording() {
+        return Arrays.copyOf(values, count);
+    }
+
+    /**
+     * @return a source that plays back everything recorded so far
+     */
+    public ReplayingRandomSource replay() {
+        return new ReplayingRandomSource(getRecording());
+    }
+}
@@ -0,0 +1,37 @@
+package legends.utilities;
+
+/**
+ * {@link RandomSource} that plays back values captured by a {@link RecordingRandomSource}. Given
+ * the same starting state and the same choices, the run repeats roll for roll.
+ */
+public final class ReplayingRandomSource implements RandomSource {
+
+    private final long[] values;
+    private int next;
+
+    /**
+     * @param values recorded values, oldest first; the array is used as is, not copied
+     */
+    public ReplayingRandomSource(long[] values) {
+        this.values = values;
+    }
+
+    /**
+     * @throws IllegalStateException if the recording is used up, which means the replayed run
+     *                               rolled more often than the recorded one
+     */
+    @Override
+    public long nextLong() {
+        if (next == values.length) {
+            throw new IllegalStateException("Replay ran past the end of the recording (" + values.length + " values)");
+        }
+        return values[next++];
+    }
+
+    /**
+     * @return number of recorded values not yet played back
+     */
+    public int remaining() {
+        return values.length - next;
+    }
+}
@@ -0,0 +1,25 @@
+package legends.utilities;
+
+/**
+ * Derives well-distributed child seeds from a parent seed and coordinates, so independent
+ * pieces of a world (chunks, stripes, markets) can each get their own reproducible stream.
+ */
+public final class SeedMixer {
+
+    private SeedMixer() { }
+
+    /**
+     * Combine a seed with two coordinates into a new 64-bit seed (murmur3 finalizer).
+     *
+     * @param seed parent seed
+     * @param a    first coordinate (e.g. row or stripe index)
+     * @param b    second coordinate (e.g. column)
+     * @return mixed child seed
+     */
+    public static long mix(long seed, long a, long b) {
+        long h = seed ^ (a * 0x9E3779B97F4A7C15L) ^ (b * 0xC2B2AE3D27D4EB4FL);
+        h = (h ^ (h >>> 33)) * 0xff51afd7ed558ccdL;
+        h = (h ^ (h >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+}
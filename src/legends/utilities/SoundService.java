@@ -3,8 +3,9 @@ package legends.utilities;
 import java.awt.Toolkit;
 import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
 import javax.sound.sampled.Clip;
@@ -17,7 +18,8 @@ import javax.sound.sampled.UnsupportedAudioFileException;
  * if a file is missing or audio is unavailable.
  */
 public class SoundService {
-    private final Map<String, Clip> cache = new HashMap<>();
+    // filled by the game thread and by preload(), which may run in the background
+    private final Map<String, Clip> cache = new ConcurrentHashMap<>();
     private boolean enabled = true;
     private Clip loopingClip;
 
@@ -36,6 +38,32 @@ public class SoundService {
         setEnabled(!enabled);
     }
 
+    /**
+     * Open the clips for the given names ahead of time, so the first play does not wait for the
+     * file and the audio line. Safe to call from a background thread; missing files and
+     * unavailable audio are skipped.
+     *
+     * @param names sound names under assets/sounds (without extension)
+     * @return number of clips that are ready to play
+     */
+    public int preload(Collection<String> names) {
+        int ready = 0;
+        for (String name : names) {
+            String path = "assets/sounds/" + name + ".wav";
+            if (!new File(path).isFile()) {
+                continue;
+            }
+            try {
+                if (loadClip(path) != null) {
+                    ready++;
+                }
+            } catch (LineUnavailableException | IOException | UnsupportedAudioFileException | IllegalArgumentException e) {
+                // no audio device; playback falls back to a beep later
+            }
+        }
+        return ready;
+    }
+
     /**
      * Play/loop an ambient track by name from assets/sounds/<name>.wav.
      * If already playing the same track, it will keep looping unless restart is true.
@@ -143,7 +171,8 @@ public class SoundService {
         }
     }
 
-    private Clip loadClip(String path) throws IOException, UnsupportedAudioFileException, LineUnavailableException {
+    // synchronized so a preload and a play of the same file never open two clips
+    private synchronized Clip loadClip(String path) throws IOException, UnsupportedAudioFileException, LineUnavailableException {
         Clip clip = cache.get(path);
         if (clip == null || !clip.isOpen()) {
             AudioInputStream ais = AudioSystem.getAudioInputStream(new File(path));
@@ -0,0 +1,41 @@
+package legends.utilities;
+
+import java.util.SplittableRandom;
+
+/**
+ * {@link RandomSource} on a {@link SplittableRandom}. Seeded sources replay the same rolls, and
+ * {@link #split()} hands out independent streams for parallel tasks without any shared state.
+ */
+public final class SplittableRandomSource implements RandomSource {
+
+    private final SplittableRandom rand;
+
+    /**
+     * Source with a seed picked by the JDK.
+     */
+    public SplittableRandomSource() {
+        this(new SplittableRandom());
+    }
+
+    public SplittableRandomSource(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private SplittableRandomSource(SplittableRandom rand) {
+        this.rand = rand;
+    }
+
+    @Override
+    public long nextLong() {
+        return rand.nextLong();
+    }
+
+    /**
+     * Split off a new source; the child stream depends only on this source's state.
+     *
+     * @return independent source for another task
+     */
+    public SplittableRandomSource split() {
+        return new SplittableRandomSource(rand.split());
+    }
+}
@@ -0,0 +1,20 @@
+package legends.utilities;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link RandomSource} that rolls on the calling thread's {@link ThreadLocalRandom}. Safe to share
+ * between threads and never contended, but it cannot be seeded, so runs are not reproducible.
+ */
+public final class ThreadLocalRandomSource implements RandomSource {
+
+    static final ThreadLocalRandomSource INSTANCE = new ThreadLocalRandomSource();
+
+    private ThreadLocalRandomSource() {
+    }
+
+    @Override
+    public long nextLong() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+}